@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import static utam.benchmarks.compiler.SyntheticCorpus.PROFILE_NAME;
+import static utam.benchmarks.compiler.SyntheticCorpus.PROFILE_VALUES;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import utam.compiler.translator.DefaultTranslatorConfiguration;
+import utam.compiler.translator.StringValueProfileConfig;
+import utam.core.declarative.representation.TypeProvider;
+import utam.core.declarative.translator.GuardrailsMode;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.TranslatorSourceConfig;
+import utam.core.declarative.translator.TranslatorTargetConfig;
+import utam.core.declarative.translator.UnitTestRunner;
+
+/**
+ * translator configuration that reads page objects from memory and discards generated code, so
+ * that benchmarks do not measure file system
+ *
+ * @since 236
+ */
+public final class CorpusTranslatorConfig {
+
+  public static final String MODULE_NAME = "benchmarks";
+
+  private CorpusTranslatorConfig() {
+  }
+
+  /**
+   * @param corpus         JSON by page object URI
+   * @param unitTestRunner unit tests to generate
+   * @return translator configuration
+   */
+  public static TranslatorConfig getTranslatorConfig(Map<String, String> corpus,
+      UnitTestRunner unitTestRunner) {
+    return getTranslatorConfig(corpus, new Target(unitTestRunner));
+  }
+
+  /**
+   * @param corpus       JSON by page object URI
+   * @param targetConfig where to write generated code
+   * @return translator configuration
+   */
+  public static TranslatorConfig getTranslatorConfig(Map<String, String> corpus,
+      TranslatorTargetConfig targetConfig) {
+    return new DefaultTranslatorConfiguration(MODULE_NAME, GuardrailsMode.ERROR,
+        new Source(corpus), targetConfig,
+        Collections.singletonList(new StringValueProfileConfig(PROFILE_NAME, PROFILE_VALUES)));
+  }
+
+  private static final class Source implements TranslatorSourceConfig {
+
+    private final Map<String, String> corpus;
+
+    Source(Map<String, String> corpus) {
+      this.corpus = corpus;
+    }
+
+    @Override
+    public Reader getDeclarationReader(String pageObjectURI) {
+      return new StringReader(corpus.get(pageObjectURI));
+    }
+
+    @Override
+    public Collection<String> getPageObjects() {
+      return corpus.keySet();
+    }
+
+    @Override
+    public void recursiveScan() {
+      // sources are already in memory
+    }
+  }
+
+  private static final class Target implements TranslatorTargetConfig {
+
+    private final UnitTestRunner unitTestRunner;
+
+    Target(UnitTestRunner unitTestRunner) {
+      this.unitTestRunner = unitTestRunner;
+    }
+
+    @Override
+    public Writer getClassWriter(TypeProvider typeProvider) {
+      return Writer.nullWriter();
+    }
+
+    @Override
+    public Writer getUnitTestWriter(TypeProvider typeProvider) {
+      return Writer.nullWriter();
+    }
+
+    @Override
+    public UnitTestRunner getUnitTestRunnerType() {
+      return unitTestRunner;
+    }
+
+    @Override
+    public String getInjectionConfigRootFilePath() {
+      return System.getProperty("java.io.tmpdir");
+    }
+  }
+}
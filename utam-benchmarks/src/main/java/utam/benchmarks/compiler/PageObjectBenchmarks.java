@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import static utam.benchmarks.compiler.CorpusTranslatorConfig.getTranslatorConfig;
+import static utam.core.framework.UtamLogger.UTAM_LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.compiler.grammar.JsonDeserializer;
+import utam.compiler.guardrails.GlobalValidation;
+import utam.compiler.helpers.TranslationContext;
+import utam.core.declarative.representation.PageObjectClass;
+import utam.core.declarative.representation.PageObjectDeclaration;
+import utam.core.declarative.representation.PageObjectInterface;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.UnitTestRunner;
+
+/**
+ * benchmarks of compiler stages for one page object at a time, every invocation takes next page
+ * object from the synthetic corpus so that results are averaged over different page objects.
+ * Global guardrails are measured for the whole corpus.
+ *
+ * @since 236
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageObjectBenchmarks {
+
+  @Param({"100", "1000", "10000"})
+  public int corpusSize;
+
+  private TranslatorConfig translatorConfig;
+  private final List<String> pageObjectURIs = new ArrayList<>();
+  private final List<String> sources = new ArrayList<>();
+  private final List<TranslationContext> contexts = new ArrayList<>();
+  private final List<PageObjectInterface> interfaces = new ArrayList<>();
+  private final List<PageObjectClass> classes = new ArrayList<>();
+  private int cursor;
+
+  static void disableLogging() {
+    UTAM_LOGGER.setLevel(Level.WARN);
+  }
+
+  @Setup
+  public void setup() {
+    disableLogging();
+    Map<String, String> corpus = SyntheticCorpus.generate(corpusSize);
+    translatorConfig = getTranslatorConfig(corpus, UnitTestRunner.JUNIT);
+    for (Map.Entry<String, String> entry : corpus.entrySet()) {
+      pageObjectURIs.add(entry.getKey());
+      sources.add(entry.getValue());
+      JsonDeserializer deserializer = new JsonDeserializer(entry.getKey(), entry.getValue(),
+          translatorConfig);
+      contexts.add(deserializer.getPageObjectContext());
+      PageObjectDeclaration declaration = deserializer.getObject();
+      if (declaration.isClassWithInterface()) {
+        interfaces.add(declaration.getInterface());
+      }
+      if (!declaration.isInterfaceOnly()) {
+        classes.add(declaration.getImplementation());
+      }
+    }
+  }
+
+  private int next(int size) {
+    cursor = cursor + 1 < size ? cursor + 1 : 0;
+    return cursor;
+  }
+
+  @Benchmark
+  public JsonDeserializer jsonDeserializer() {
+    int index = next(pageObjectURIs.size());
+    return new JsonDeserializer(pageObjectURIs.get(index), sources.get(index), translatorConfig);
+  }
+
+  @Benchmark
+  public String classSerializer() {
+    return classes.get(next(classes.size())).getGeneratedCode();
+  }
+
+  @Benchmark
+  public String interfaceSerializer() {
+    return interfaces.get(next(interfaces.size())).getGeneratedCode();
+  }
+
+  @Benchmark
+  public String unitTestSerializer() {
+    return classes.get(next(classes.size())).getGeneratedUnitTestCode(UnitTestRunner.JUNIT);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public GlobalValidation globalValidation() {
+    GlobalValidation validation = new GlobalValidation(translatorConfig.getValidationMode());
+    for (TranslationContext context : contexts) {
+      context.setGlobalGuardrailsContext(validation);
+    }
+    validation.validate();
+    return validation;
+  }
+}
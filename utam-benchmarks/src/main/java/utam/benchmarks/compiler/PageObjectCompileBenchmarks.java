@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import static utam.benchmarks.compiler.CorpusTranslatorConfig.getTranslatorConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.compiler.grammar.JsonDeserializer;
+import utam.compiler.grammar.JsonDeserializer.ParsedPageObject;
+import utam.compiler.helpers.TranslationContext;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.UnitTestRunner;
+
+/**
+ * JSON parsing and compilation of the parsed page object measured separately
+ *
+ * @since 236
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageObjectCompileBenchmarks {
+
+  @Param({"100", "1000", "10000"})
+  public int corpusSize;
+
+  private TranslatorConfig translatorConfig;
+  private final List<String> pageObjectURIs = new ArrayList<>();
+  private final List<String> sources = new ArrayList<>();
+  private int cursor;
+
+  @Setup
+  public void setup() {
+    PageObjectBenchmarks.disableLogging();
+    Map<String, String> corpus = SyntheticCorpus.generate(corpusSize);
+    translatorConfig = getTranslatorConfig(corpus, UnitTestRunner.NONE);
+    pageObjectURIs.addAll(corpus.keySet());
+    sources.addAll(corpus.values());
+  }
+
+  private int next() {
+    cursor = cursor + 1 < sources.size() ? cursor + 1 : 0;
+    return cursor;
+  }
+
+  @Benchmark
+  public ParsedPageObject parse() throws IOException {
+    return JsonDeserializer.parse(sources.get(next()));
+  }
+
+  @Benchmark
+  public TranslationContext parseAndCompile() throws IOException {
+    int index = next();
+    return JsonDeserializer.parse(sources.get(index))
+        .compile(pageObjectURIs.get(index), translatorConfig);
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * deterministic generator of synthetic page objects JSON. Same size and seed always produce same
+ * corpus. Every group of ten page objects has an interface with two implementations for different
+ * profiles and regular page objects with root selector, shadow root, nested and parameterized
+ * basic elements, custom elements that reference previously generated page objects, container,
+ * frame and compose methods. Some selectors are shared between page objects to exercise global
+ * guardrails.
+ *
+ * @since 236
+ */
+public final class SyntheticCorpus {
+
+  public static final long DEFAULT_SEED = 236;
+  public static final String PROFILE_NAME = "platform";
+  public static final String[] PROFILE_VALUES = {"android", "ios"};
+  static final String NAMESPACE = "utam-bench/pageObjects/gen";
+  private static final String[] BASIC_TYPES = {"actionable", "clickable", "editable",
+      "touchable"};
+  private static final String[] SHARED_SELECTORS = {"lightning-button", ".slds-input",
+      "lightning-icon", ".slds-card__header"};
+  private static final int GROUP_SIZE = 10;
+
+  private final Random random;
+  private final Map<String, String> pageObjects = new LinkedHashMap<>();
+  // regular page objects that can be referenced by custom elements
+  private final List<Integer> referenceable = new ArrayList<>();
+
+  private SyntheticCorpus(int size, long seed) {
+    this.random = new Random(seed);
+    for (int i = 0; i < size; i++) {
+      pageObjects.put(getPageObjectURI(i), getJson(i));
+    }
+  }
+
+  /**
+   * @param size number of page objects
+   * @param seed seed for random choices
+   * @return JSON of generated page objects by page object URI, in generation order
+   */
+  public static Map<String, String> generate(int size, long seed) {
+    return Collections.unmodifiableMap(new SyntheticCorpus(size, seed).pageObjects);
+  }
+
+  public static Map<String, String> generate(int size) {
+    return generate(size, DEFAULT_SEED);
+  }
+
+  static String getPageObjectURI(int index) {
+    return String.format("%s/page%05d", NAMESPACE, index);
+  }
+
+  private static String getRootSelector(int index) {
+    return String.format("bench-page%05d", index);
+  }
+
+  private String getJson(int index) {
+    int groupIndex = index % GROUP_SIZE;
+    int interfaceIndex = index - groupIndex;
+    if (groupIndex == 0) {
+      return getInterface();
+    }
+    if (groupIndex <= PROFILE_VALUES.length) {
+      return getImplementation(interfaceIndex, PROFILE_VALUES[groupIndex - 1]);
+    }
+    String json = getPageObject(index);
+    referenceable.add(index);
+    return json;
+  }
+
+  private static String getInterface() {
+    return "{\n"
+        + "  \"interface\": true,\n"
+        + "  \"methods\": [\n"
+        + "    { \"name\": \"getContentText\", \"returnType\": \"string\" },\n"
+        + "    { \"name\": \"clickHeader\" }\n"
+        + "  ]\n"
+        + "}\n";
+  }
+
+  private static String getImplementation(int interfaceIndex, String profileValue) {
+    return "{\n"
+        + "  \"implements\": \"" + getPageObjectURI(interfaceIndex) + "\",\n"
+        + "  \"profile\": [{ \"" + PROFILE_NAME + "\": [\"" + profileValue + "\"] }],\n"
+        + "  \"root\": true,\n"
+        + "  \"selector\": { \"css\": \"" + getRootSelector(interfaceIndex) + "\" },\n"
+        + "  \"elements\": [\n"
+        + "    { \"name\": \"header\", \"type\": [\"clickable\"], "
+        + "\"selector\": { \"css\": \".header-" + profileValue + "\" } },\n"
+        + "    { \"name\": \"content\", \"selector\": { \"css\": \".content\" } }\n"
+        + "  ],\n"
+        + "  \"methods\": [\n"
+        + "    { \"name\": \"getContentText\", "
+        + "\"compose\": [{ \"element\": \"content\", \"apply\": \"getText\" }] },\n"
+        + "    { \"name\": \"clickHeader\", "
+        + "\"compose\": [{ \"element\": \"header\", \"apply\": \"click\" }] }\n"
+        + "  ]\n"
+        + "}\n";
+  }
+
+  private String getPageObject(int index) {
+    List<String> shadowElements = new ArrayList<>();
+    int basicCount = 2 + random.nextInt(7);
+    for (int i = 0; i < basicCount; i++) {
+      shadowElements.add(getBasicElement(index, i));
+    }
+    shadowElements.add("{ \"name\": \"header\", \"type\": [\"clickable\"], \"public\": true, "
+        + "\"selector\": { \"css\": \".header\" } }");
+    shadowElements.add("{ \"name\": \"item\", \"type\": [\"actionable\"], \"public\": true, "
+        + "\"selector\": { \"css\": \".item:nth-child(%d)\", "
+        + "\"args\": [{ \"name\": \"index\", \"type\": \"number\" }] } }");
+    shadowElements.add("{ \"name\": \"form\", \"selector\": { \"css\": \"form\" }, "
+        + "\"elements\": [ "
+        + "{ \"name\": \"input\", \"type\": [\"editable\"], \"public\": true, "
+        + "\"selector\": { \"css\": \"input\" } }, "
+        + "{ \"name\": \"links\", \"type\": [\"clickable\"], \"public\": true, "
+        + "\"selector\": { \"css\": \"a\", \"returnAll\": true } } ] }");
+    List<String> elements = new ArrayList<>();
+    int customCount = Math.min(referenceable.size(), random.nextInt(4));
+    for (int i = 0; i < customCount; i++) {
+      int target = referenceable.get(random.nextInt(referenceable.size()));
+      elements.add(String.format("{ \"name\": \"custom%d\", \"type\": \"%s\", \"public\": true, "
+              + "\"selector\": { \"css\": \"%s\" } }", i, getPageObjectURI(target),
+          getRootSelector(target)));
+    }
+    elements.add("{ \"name\": \"content\", \"type\": \"container\", \"public\": true }");
+    elements.add("{ \"name\": \"frame\", \"type\": \"frame\", \"public\": true, "
+        + "\"selector\": { \"css\": \"iframe\" } }");
+    return "{\n"
+        + "  \"root\": true,\n"
+        + "  \"selector\": { \"css\": \"" + getRootSelector(index) + "\" },\n"
+        + "  \"shadow\": { \"elements\": [\n    "
+        + String.join(",\n    ", shadowElements)
+        + "\n  ] },\n"
+        + "  \"elements\": [\n    "
+        + String.join(",\n    ", elements)
+        + "\n  ],\n"
+        + "  \"methods\": [\n"
+        + "    { \"name\": \"clickHeader\", "
+        + "\"compose\": [{ \"element\": \"header\", \"apply\": \"click\" }] },\n"
+        + "    { \"name\": \"getInputValue\", \"compose\": [\n"
+        + "      { \"element\": \"input\", \"apply\": \"clearAndType\", "
+        + "\"args\": [{ \"name\": \"text\", \"type\": \"string\" }] },\n"
+        + "      { \"element\": \"input\", \"apply\": \"getValue\" }\n"
+        + "    ] },\n"
+        + "    { \"name\": \"isItemVisible\", \"compose\": [{ \"element\": \"item\", "
+        + "\"apply\": \"isVisible\" }] }\n"
+        + "  ]\n"
+        + "}\n";
+  }
+
+  private String getBasicElement(int pageObjectIndex, int elementIndex) {
+    String type = BASIC_TYPES[random.nextInt(BASIC_TYPES.length)];
+    // every few elements use selector shared with other page objects
+    String selector = random.nextInt(4) == 0
+        ? SHARED_SELECTORS[random.nextInt(SHARED_SELECTORS.length)]
+        : String.format(".element-%d-%d", pageObjectIndex, elementIndex);
+    return String.format("{ \"name\": \"element%d\", \"type\": [\"%s\"], \"public\": %b, "
+            + "\"selector\": { \"css\": \"%s\" } }", elementIndex, type, random.nextBoolean(),
+        selector);
+  }
+
+  /**
+   * writes corpus as .utam.json files to use it with command line compiler
+   *
+   * @param args target folder, number of page objects and optional seed
+   * @throws IOException if file can't be written
+   */
+  public static void main(String[] args) throws IOException {
+    Path root = Paths.get(args[0]);
+    int size = Integer.parseInt(args[1]);
+    long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+    for (Map.Entry<String, String> entry : generate(size, seed).entrySet()) {
+      String fileName = entry.getKey().substring(entry.getKey().lastIndexOf('/') + 1);
+      Path file = root.resolve(fileName + ".utam.json");
+      Files.createDirectories(root);
+      Files.write(file, entry.getValue().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import static utam.benchmarks.compiler.CorpusTranslatorConfig.getTranslatorConfig;
+import static utam.benchmarks.compiler.PageObjectBenchmarks.disableLogging;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.compiler.translator.DefaultTranslatorRunner;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.UnitTestRunner;
+
+/**
+ * end-to-end compilation of the whole synthetic corpus, generated code is discarded
+ *
+ * @since 236
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TranslatorRunnerBenchmarks {
+
+  @Param({"100", "1000", "10000"})
+  public int corpusSize;
+
+  @Param({"NONE", "JUNIT"})
+  public UnitTestRunner unitTestRunner;
+
+  private TranslatorConfig translatorConfig;
+
+  @Setup
+  public void setup() {
+    disableLogging();
+    translatorConfig = getTranslatorConfig(SyntheticCorpus.generate(corpusSize), unitTestRunner);
+  }
+
+  @Benchmark
+  public DefaultTranslatorRunner runAndWrite() throws IOException {
+    DefaultTranslatorRunner runner = new DefaultTranslatorRunner(translatorConfig);
+    runner.run();
+    runner.write();
+    return runner;
+  }
+
+  @Benchmark
+  public DefaultTranslatorRunner streaming() {
+    DefaultTranslatorRunner runner = new DefaultTranslatorRunner(translatorConfig);
+    runner.setStreamingMode(true);
+    runner.run();
+    return runner;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.runtime;
+
+import java.util.List;
+import utam.core.element.Actionable;
+import utam.core.framework.base.PageObject;
+import utam.core.framework.base.RootPageObject;
+
+/**
+ * root page object used by runtime benchmarks, implementation mirrors generated code
+ *
+ * @since 236
+ */
+public interface BenchPage extends RootPageObject {
+
+  Actionable getHeader();
+
+  Actionable getItem(int index);
+
+  List<Actionable> getItems();
+
+  List<Child> getChildren();
+
+  Boolean isItemVisible(int index);
+
+  Boolean isItemVisibleBatched(int index);
+
+  /**
+   * custom element of the benchmark page object
+   *
+   * @since 236
+   */
+  interface Child extends PageObject {
+
+    Actionable getLabel();
+  }
+}
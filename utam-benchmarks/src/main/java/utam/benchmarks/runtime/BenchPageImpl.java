@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.runtime;
+
+import java.util.List;
+import utam.core.element.Actionable;
+import utam.core.element.ElementLocation;
+import utam.core.framework.base.BasePageObject;
+import utam.core.framework.base.ElementMarker;
+import utam.core.framework.base.PageMarker;
+import utam.core.framework.element.BasePageElement;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * same fields and methods as compiler generates for a page object with shadow root, nested,
+ * parameterized and custom elements
+ *
+ * @since 236
+ */
+@PageMarker.Find(css = "bench-page")
+public class BenchPageImpl extends BasePageObject implements BenchPage {
+
+  @ElementMarker.Find(css = ".header", expand = true)
+  private ElementLocation header;
+
+  @ElementMarker.Find(css = ".content", expand = true)
+  private ElementLocation content;
+
+  @ElementMarker.Find(css = ".item:nth-child(%d)", scope = "content")
+  private ElementLocation item;
+
+  @ElementMarker.Find(css = ".item", scope = "content")
+  private ElementLocation items;
+
+  @Override
+  public Actionable getHeader() {
+    return element(this.header).build(Actionable.class, BasePageElement.class);
+  }
+
+  @Override
+  public Actionable getItem(int index) {
+    return element(this.item).build(Actionable.class, BasePageElement.class, index);
+  }
+
+  @Override
+  public List<Actionable> getItems() {
+    return element(this.items).buildList(Actionable.class, BasePageElement.class);
+  }
+
+  @Override
+  public List<Child> getChildren() {
+    return inScope(this.content, LocatorBy.byCss("bench-child"), false, false)
+        .buildList(Child.class);
+  }
+
+  // compose method as generated without batching
+  @Override
+  public Boolean isItemVisible(int index) {
+    Actionable header0 = this.getHeader();
+    header0.getText();
+    Actionable item1 = this.getItem(index);
+    Boolean statement1 = item1.isVisible();
+    return statement1;
+  }
+
+  // same compose method with reads fused by the compiler
+  @Override
+  public Boolean isItemVisibleBatched(int index) {
+    Object[] batch0 = this.readInBatch(() -> this.getHeader().getText(),
+        () -> this.getItem(index).isVisible());
+    Boolean statement1 = (Boolean) batch0[1];
+    return statement1;
+  }
+
+  /**
+   * implementation of the custom element
+   *
+   * @since 236
+   */
+  @PageMarker.Find(css = "bench-child")
+  public static class ChildImpl extends BasePageObject implements Child {
+
+    @ElementMarker.Find(css = ".label", expand = true)
+    private ElementLocation label;
+
+    @Override
+    public Actionable getLabel() {
+      return element(this.label).build(Actionable.class, BasePageElement.class);
+    }
+  }
+}
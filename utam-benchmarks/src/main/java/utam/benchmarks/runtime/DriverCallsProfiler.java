@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.runtime;
+
+import java.util.Collection;
+import java.util.Collections;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * reports number of calls to the stand-in driver per benchmark operation, use together with GC
+ * profiler for allocations per operation: <code>java -jar target/benchmarks.jar Runtime -prof gc
+ * -prof utam.benchmarks.runtime.DriverCallsProfiler</code>
+ *
+ * @since 236
+ */
+public class DriverCallsProfiler implements InternalProfiler {
+
+  @Override
+  public String getDescription() {
+    return "stand-in driver calls per operation";
+  }
+
+  @Override
+  public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    StandInWebDriver.resetCallsCount();
+  }
+
+  @Override
+  public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+      IterationParams iterationParams, IterationResult result) {
+    long operations = Math.max(1, result.getMetadata().getMeasuredOps());
+    double callsPerOperation = (double) StandInWebDriver.getCallsCount() / operations;
+    return Collections.singletonList(new ScalarResult("driver.calls.norm", callsPerOperation,
+        "calls/op", AggregationPolicy.AVG));
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.runtime;
+
+import static utam.core.framework.UtamLogger.UTAM_LOGGER;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.core.driver.AsyncDriver;
+import utam.core.driver.Driver;
+import utam.core.driver.DriverConfig;
+import utam.core.element.Actionable;
+import utam.core.element.Element;
+import utam.core.element.ElementLocation;
+import utam.core.element.FindContext.Type;
+import utam.core.element.Locator;
+import utam.core.framework.base.PageObject;
+import utam.core.framework.base.PageObjectsFactory;
+import utam.core.framework.base.PageObjectsFactoryImpl;
+import utam.core.framework.consumer.PageObjectContext;
+import utam.core.framework.consumer.PageObjectContextImpl;
+import utam.core.framework.consumer.UtamLoaderConfig;
+import utam.core.framework.consumer.UtamLoaderConfigImpl;
+import utam.core.framework.consumer.UtamLoaderImpl;
+import utam.core.framework.element.BasePageElement;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.framework.element.FormFill;
+import utam.core.selenium.element.DriverAdapter;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * runtime hot paths against in-process stand-in driver. With zero latency results show framework
+ * overhead, fixed latency models remote grid where number of driver calls dominates. Run with GC
+ * profiler and {@link DriverCallsProfiler} to see allocations and driver calls per operation.
+ *
+ * @since 236
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuntimeBenchmarks {
+
+  // latency of every driver call
+  @Param({"0", "1000"})
+  public long latencyMicros;
+
+  // number of elements found by every findElements
+  @Param({"10"})
+  public int listSize;
+
+  private AsyncDriver driver;
+  private PageObjectContext pageObjectContext;
+  private PageObjectsFactory factory;
+  private UtamLoaderConfig loaderConfig;
+  private BenchPage page;
+  private ElementLocation rootLocation;
+  private ElementLocation nestedLocation;
+  private ElementLocation parameterizedLocation;
+  private ElementLocation lightDomLocation;
+  private ElementLocation foldedLocation;
+  private Locator scopedLocator;
+  private Element element;
+  private List<BasePageElement> formFields;
+  private int counter;
+
+  @Setup
+  public void setup() {
+    UTAM_LOGGER.setLevel(Level.WARN);
+    driver = new DriverAdapter(
+        new StandInWebDriver(TimeUnit.MICROSECONDS.toNanos(latencyMicros), listSize),
+        new DriverConfig(Duration.ZERO, Duration.ofSeconds(1), Duration.ofMillis(10)));
+    Map<Class<? extends PageObject>, Class> beans = new HashMap<>();
+    beans.put(BenchPage.class, BenchPageImpl.class);
+    beans.put(BenchPage.Child.class, BenchPageImpl.ChildImpl.class);
+    pageObjectContext = new PageObjectContextImpl(beans);
+    factory = new PageObjectsFactoryImpl(pageObjectContext, null, driver);
+    page = factory.create(BenchPage.class);
+    loaderConfig = new UtamLoaderConfigImpl();
+    rootLocation = new ElementLocationChain(LocatorBy.byCss("bench-page"), Type.EXISTING);
+    nestedLocation = rootLocation
+        .scope(LocatorBy.byCss(".content"), Type.EXISTING_IN_SHADOW)
+        .scope(LocatorBy.byCss(".list"), Type.EXISTING)
+        .scope(LocatorBy.byCss(".item"), Type.EXISTING_IN_SHADOW);
+    parameterizedLocation = rootLocation
+        .scope(LocatorBy.byCss(".content[title='%s']"), Type.EXISTING_IN_SHADOW)
+        .scope(LocatorBy.byCss(".item:nth-child(%d)"), Type.EXISTING);
+    lightDomLocation = rootLocation
+        .scope(LocatorBy.byCss(".content"), Type.EXISTING)
+        .scope(LocatorBy.byCss(".list"), Type.EXISTING)
+        .scope(LocatorBy.byCss(".item"), Type.EXISTING);
+    // same element with light DOM scopes folded by the compiler
+    foldedLocation = rootLocation
+        .scope(LocatorBy.byCss(":scope .content .list .item"), Type.EXISTING);
+    scopedLocator = LocatorBy.byCss(".scoped");
+    element = driver.findElement(LocatorBy.byCss(".element"), Type.EXISTING);
+    formFields = new ArrayList<>();
+    for (Element field : driver.findElements(LocatorBy.byCss("input"), Type.EXISTING)) {
+      formFields.add(BasePageElement.createInstance(BasePageElement.class, field, factory));
+    }
+  }
+
+  @Benchmark
+  public BenchPage bootstrap() {
+    BenchPage instance = new BenchPageImpl();
+    factory.bootstrap(instance, rootLocation);
+    return instance;
+  }
+
+  @Benchmark
+  public BenchPage loaderSetup() {
+    // what every test thread does: own loader for its driver, config is shared
+    return new UtamLoaderImpl(loaderConfig, driver).create(BenchPageImpl.class);
+  }
+
+  @Benchmark
+  public BenchPage getBean() {
+    return pageObjectContext.getBean(BenchPage.class);
+  }
+
+  @Benchmark
+  public Element findElement() {
+    return nestedLocation.findElement(driver);
+  }
+
+  @Benchmark
+  public Element findElementLightDom() {
+    return lightDomLocation.findElement(driver);
+  }
+
+  @Benchmark
+  public Element findElementFolded() {
+    return foldedLocation.findElement(driver);
+  }
+
+  @Benchmark
+  public ElementLocation scope() {
+    return nestedLocation.scope(scopedLocator, Type.EXISTING);
+  }
+
+  @Benchmark
+  public ElementLocation scopeDeep() {
+    // container and list page objects nest scopes many levels deep
+    ElementLocation location = rootLocation;
+    for (int i = 0; i < 10; i++) {
+      location = location.scope(scopedLocator, Type.EXISTING);
+    }
+    return location;
+  }
+
+  @Benchmark
+  public ElementLocation setParameters() {
+    return parameterizedLocation.setParameters("title", 5);
+  }
+
+  @Benchmark
+  public ElementLocation setParametersUncached() {
+    // more distinct values than cache of bound locators can hold
+    return parameterizedLocation.setParameters("title", counter++ & 63);
+  }
+
+  @Benchmark
+  public List<Actionable> basicElementBuildList() {
+    return page.getItems();
+  }
+
+  @Benchmark
+  public List<BenchPage.Child> customElementBuildList() {
+    return page.getChildren();
+  }
+
+  @Benchmark
+  public int readSequential() {
+    // e.g. header text, badge count and toast message
+    return element.getText().length() + element.getAttribute("title").length()
+        + element.getText().length();
+  }
+
+  @Benchmark
+  public int readAsync() {
+    CompletableFuture<String> header = driver.getTextAsync(element);
+    CompletableFuture<String> badge = driver.getAttributeAsync(element, "title");
+    CompletableFuture<String> toast = driver.getTextAsync(element);
+    return AsyncDriver.await(header).length() + AsyncDriver.await(badge).length()
+        + AsyncDriver.await(toast).length();
+  }
+
+  @Benchmark
+  public void fillFormSequential() {
+    for (BasePageElement field : formFields) {
+      field.clearAndType("value");
+    }
+  }
+
+  @Benchmark
+  public void fillFormBatch() {
+    FormFill form = new FormFill(driver);
+    for (BasePageElement field : formFields) {
+      form.setText(field, "value");
+    }
+    form.apply();
+  }
+
+  @Benchmark
+  public Boolean composeReads() {
+    return page.isItemVisible(1);
+  }
+
+  @Benchmark
+  public Boolean composeReadsBatched() {
+    return page.isItemVisibleBatched(1);
+  }
+
+  @Benchmark
+  public Actionable createInstance() {
+    return BasePageElement.createInstance(BasePageElement.class, element, factory);
+  }
+
+  @Benchmark
+  public Boolean waitFor() {
+    return driver.waitFor(() -> Boolean.TRUE, "condition", Duration.ofSeconds(1));
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * in-process WebDriver without browser: every element is found, lists have fixed size and
+ * shadow root queries via JavaScript return elements as well. Every call that would go to a
+ * remote browser is counted and can be delayed by a fixed latency to model a remote grid.
+ *
+ * @since 236
+ */
+public class StandInWebDriver implements WebDriver, JavascriptExecutor {
+
+  private static final AtomicLong CALLS_COUNTER = new AtomicLong();
+  private static final String SHADOW_QUERY_ALL = "shadowRoot.querySelectorAll";
+  private static final String SHADOW_QUERY = "shadowRoot.querySelector";
+  private final long latencyNanos;
+  private final int listSize;
+
+  /**
+   * @param latencyNanos delay of every driver call in nanoseconds, 0 for no delay
+   * @param listSize     number of elements returned by every findElements call
+   */
+  public StandInWebDriver(long latencyNanos, int listSize) {
+    this.latencyNanos = latencyNanos;
+    this.listSize = listSize;
+  }
+
+  /**
+   * @return number of driver calls since last reset, across all stand-in drivers
+   */
+  public static long getCallsCount() {
+    return CALLS_COUNTER.get();
+  }
+
+  public static void resetCallsCount() {
+    CALLS_COUNTER.set(0);
+  }
+
+  // count driver call and wait for fixed latency
+  void call() {
+    CALLS_COUNTER.incrementAndGet();
+    if (latencyNanos <= 0) {
+      return;
+    }
+    long deadline = System.nanoTime() + latencyNanos;
+    long remaining = latencyNanos;
+    while (remaining > 0) {
+      LockSupport.parkNanos(remaining);
+      remaining = deadline - System.nanoTime();
+    }
+  }
+
+  WebElement newElement() {
+    return new StandInWebElement(this);
+  }
+
+  List<WebElement> newElements() {
+    List<WebElement> elements = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      elements.add(newElement());
+    }
+    return elements;
+  }
+
+  @Override
+  public void get(String url) {
+    call();
+  }
+
+  @Override
+  public String getCurrentUrl() {
+    call();
+    return "about:blank";
+  }
+
+  @Override
+  public String getTitle() {
+    call();
+    return "";
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    call();
+    return newElements();
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    call();
+    return newElement();
+  }
+
+  @Override
+  public String getPageSource() {
+    call();
+    return "";
+  }
+
+  @Override
+  public void close() {
+    call();
+  }
+
+  @Override
+  public void quit() {
+    call();
+  }
+
+  @Override
+  public Set<String> getWindowHandles() {
+    call();
+    return Collections.singleton(getWindowHandle());
+  }
+
+  @Override
+  public String getWindowHandle() {
+    call();
+    return "window";
+  }
+
+  @Override
+  public TargetLocator switchTo() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Navigation navigate() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Options manage() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Object executeScript(String script, Object... args) {
+    call();
+    if (script.contains(SHADOW_QUERY_ALL)) {
+      return newElements();
+    }
+    if (script.contains(SHADOW_QUERY)) {
+      return newElement();
+    }
+    return null;
+  }
+
+  @Override
+  public Object executeAsyncScript(String script, Object... args) {
+    return executeScript(script, args);
+  }
+
+  /**
+   * element of the stand-in driver, every call is a driver call
+   *
+   * @since 236
+   */
+  static final class StandInWebElement implements WebElement, WrapsDriver {
+
+    private final StandInWebDriver driver;
+
+    StandInWebElement(StandInWebDriver driver) {
+      this.driver = driver;
+    }
+
+    @Override
+    public void click() {
+      driver.call();
+    }
+
+    @Override
+    public void submit() {
+      driver.call();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+      driver.call();
+    }
+
+    @Override
+    public void clear() {
+      driver.call();
+    }
+
+    @Override
+    public String getTagName() {
+      driver.call();
+      return "div";
+    }
+
+    @Override
+    public String getAttribute(String name) {
+      driver.call();
+      return name;
+    }
+
+    @Override
+    public boolean isSelected() {
+      driver.call();
+      return false;
+    }
+
+    @Override
+    public boolean isEnabled() {
+      driver.call();
+      return true;
+    }
+
+    @Override
+    public String getText() {
+      driver.call();
+      return "text";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+      driver.call();
+      return driver.newElements();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+      driver.call();
+      return driver.newElement();
+    }
+
+    @Override
+    public boolean isDisplayed() {
+      driver.call();
+      return true;
+    }
+
+    @Override
+    public Point getLocation() {
+      driver.call();
+      return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+      driver.call();
+      return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+      driver.call();
+      return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+      driver.call();
+      return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+      return driver;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.runtime;
+
+import static utam.benchmarks.compiler.CorpusTranslatorConfig.MODULE_NAME;
+import static utam.benchmarks.compiler.CorpusTranslatorConfig.getTranslatorConfig;
+import static utam.core.framework.UtamLogger.UTAM_LOGGER;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.apache.log4j.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.benchmarks.compiler.SyntheticCorpus;
+import utam.compiler.translator.DefaultTargetConfiguration;
+import utam.compiler.translator.DefaultTranslatorRunner;
+import utam.core.declarative.translator.UnitTestRunner;
+import utam.core.framework.consumer.SharedArchiveTrainer;
+
+/**
+ * startup of a JVM that loads and bootstraps every page object of a compiled synthetic corpus,
+ * with and without class data sharing archive created by {@link SharedArchiveTrainer}. Corpus is
+ * generated, compiled and packaged into a jar during setup, because CDS only archives classes
+ * from jar files. Should be run from benchmarks jar for the same reason.
+ *
+ * @since 236
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmarks {
+
+  @Param({"500"})
+  public int corpusSize;
+
+  @Param({"false", "true"})
+  public boolean isSharedArchive;
+
+  private List<String> command;
+
+  private static void compile(Path sources, Path classes) throws IOException {
+    List<String> files;
+    try (Stream<Path> walk = Files.walk(sources)) {
+      files = walk.filter(path -> path.toString().endsWith(".java"))
+          .map(Path::toString)
+          .collect(Collectors.toList());
+    }
+    List<String> arguments = new ArrayList<>(Arrays.asList(
+        "-nowarn", "-proc:none", "-d", classes.toString(),
+        "-cp", System.getProperty("java.class.path")));
+    arguments.addAll(files);
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+      throw new IllegalStateException("generated page objects do not compile");
+    }
+  }
+
+  private static void jar(Path classes, Path resources, File jar) throws IOException {
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()));
+        Stream<Path> walk = Stream.concat(Files.walk(classes), Files.walk(resources))) {
+      for (Path file : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+        Path root = file.startsWith(classes) ? classes : resources;
+        out.putNextEntry(new JarEntry(root.relativize(file).toString().replace('\\', '/')));
+        Files.copy(file, (OutputStream) out);
+        out.closeEntry();
+      }
+    }
+  }
+
+  @Setup
+  public void setup() throws IOException, InterruptedException {
+    UTAM_LOGGER.setLevel(Level.WARN);
+    Path root = Files.createTempDirectory("utam-startup");
+    Path sources = Files.createDirectories(root.resolve("sources"));
+    Path resources = Files.createDirectories(root.resolve("resources"));
+    Path classes = Files.createDirectories(root.resolve("classes"));
+    DefaultTranslatorRunner runner = new DefaultTranslatorRunner(getTranslatorConfig(
+        SyntheticCorpus.generate(corpusSize),
+        new DefaultTargetConfiguration(sources.toString(), resources.toString(),
+            UnitTestRunner.NONE, null)));
+    runner.run();
+    runner.write();
+    runner.writeDependenciesConfigs();
+    runner.writeClassList();
+    compile(sources, classes);
+    File pageObjectsJar = root.resolve("pageObjects.jar").toFile();
+    jar(classes, resources, pageObjectsJar);
+    String classpath = pageObjectsJar + File.pathSeparator + System.getProperty("java.class.path");
+    command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    if (isSharedArchive) {
+      File archive = root.resolve("pageObjects.jsa").toFile();
+      SharedArchiveTrainer.createArchive(classpath, Collections.singletonList(MODULE_NAME),
+          archive);
+      command.add("-XX:SharedArchiveFile=" + archive);
+    }
+    command.addAll(Arrays.asList("-cp", classpath, SharedArchiveTrainer.class.getName(), "train",
+        MODULE_NAME));
+  }
+
+  @Benchmark
+  public int startup() throws IOException, InterruptedException {
+    return new ProcessBuilder(command)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .redirectError(ProcessBuilder.Redirect.INHERIT)
+        .start()
+        .waitFor();
+  }
+}
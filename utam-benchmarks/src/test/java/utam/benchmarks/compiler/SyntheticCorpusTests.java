@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static utam.benchmarks.compiler.CorpusTranslatorConfig.getTranslatorConfig;
+
+import java.io.IOException;
+import java.util.Map;
+import org.testng.annotations.Test;
+import utam.compiler.translator.DefaultTranslatorRunner;
+import utam.core.declarative.translator.UnitTestRunner;
+
+/**
+ * @since 236
+ */
+public class SyntheticCorpusTests {
+
+  @Test
+  public void testCorpusIsDeterministic() {
+    Map<String, String> corpus = SyntheticCorpus.generate(50);
+    assertThat(corpus.size(), is(50));
+    assertThat(SyntheticCorpus.generate(50), is(corpus));
+    assertThat(SyntheticCorpus.generate(50, 1), is(not(corpus)));
+  }
+
+  @Test
+  public void testCorpusCompiles() throws IOException {
+    Map<String, String> corpus = SyntheticCorpus.generate(100);
+    DefaultTranslatorRunner runner = new DefaultTranslatorRunner(
+        getTranslatorConfig(corpus, UnitTestRunner.JUNIT));
+    runner.run();
+    runner.write();
+  }
+}
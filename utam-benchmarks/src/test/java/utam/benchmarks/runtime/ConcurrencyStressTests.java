@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.runtime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+import utam.core.element.ElementLocation;
+import utam.core.element.FindContext.Type;
+import utam.core.framework.consumer.PageObjectContext;
+import utam.core.framework.consumer.UtamLoader;
+import utam.core.framework.consumer.UtamLoaderConfig;
+import utam.core.framework.consumer.UtamLoaderConfigImpl;
+import utam.core.framework.consumer.UtamLoaderImpl;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.selenium.element.DriverAdapter;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * parallel test threads share loader config, every thread has its own driver and loader
+ *
+ * @since 236
+ */
+public class ConcurrencyStressTests {
+
+  private static final int THREADS = 64;
+  private static final int ITERATIONS = 200;
+
+  // all tasks start at once to maximize contention on lazily initialized state
+  private static <T> List<T> runInParallel(Callable<T> task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return task.call();
+        }));
+      }
+      start.countDown();
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        // rethrows first error from a worker thread
+        results.add(future.get(1, TimeUnit.MINUTES));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testLoadersShareConfig() throws Exception {
+    UtamLoaderConfig config = new UtamLoaderConfigImpl();
+    Set<PageObjectContext> contexts = ConcurrentHashMap.newKeySet();
+    List<Integer> counters = runInParallel(() -> {
+      UtamLoader loader = new UtamLoaderImpl(config,
+          new DriverAdapter(new StandInWebDriver(0, 3), config.getDriverConfig()));
+      int counter = 0;
+      for (int i = 0; i < ITERATIONS; i++) {
+        contexts.add(config.getPageContext());
+        BenchPage page = loader.create(BenchPage.class);
+        assertThat(page.getHeader().getText(), is("text"));
+        assertThat(page.getItem(i % 3 + 1).getText(), is("text"));
+        assertThat(page.getItems(), hasSize(3));
+        for (BenchPage.Child child : page.getChildren()) {
+          assertThat(child.getLabel().getText(), is("text"));
+          counter++;
+        }
+        loader.resetContext();
+      }
+      return counter;
+    });
+    assertThat(counters, everyItem(is(3 * ITERATIONS)));
+    assertThat("page objects context is built once", contexts, hasSize(1));
+  }
+
+  @Test
+  public void testSharedLocationChain() throws Exception {
+    ElementLocation shared = new ElementLocationChain(LocatorBy.byCss("root"), Type.EXISTING)
+        .scope(LocatorBy.byCss(".content"), Type.EXISTING_IN_SHADOW)
+        .scope(LocatorBy.byCss(".item:nth-child(%d)"), Type.EXISTING)
+        .scope(LocatorBy.byCss(".label[title='%s']"), Type.EXISTING_IN_SHADOW);
+    String expected = new ElementLocationChain(LocatorBy.byCss("root"), Type.EXISTING)
+        .scope(LocatorBy.byCss(".content"), Type.EXISTING_IN_SHADOW)
+        .scope(LocatorBy.byCss(".item:nth-child(1)"), Type.EXISTING)
+        .scope(LocatorBy.byCss(".label[title='one']"), Type.EXISTING_IN_SHADOW)
+        .getLocatorChainString();
+    List<String> strings = runInParallel(() -> {
+      String string = null;
+      for (int i = 0; i < ITERATIONS; i++) {
+        String bound = shared.setParameters(1, "one").getLocatorChainString();
+        assertThat(bound, is(expected));
+        string = shared.getLocatorChainString();
+      }
+      return string;
+    });
+    assertThat(strings, everyItem(is(sameInstance(shared.getLocatorChainString()))));
+  }
+}
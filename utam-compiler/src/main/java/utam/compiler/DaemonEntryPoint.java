@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler;
+
+import utam.compiler.daemon.CompilerDaemon;
+
+/**
+ * starts compiler daemon, the only argument is port to listen to
+ *
+ * @since 236
+ */
+public class DaemonEntryPoint {
+
+  public static void main(String[] args) throws Exception {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+    new CompilerDaemon(port).start();
+  }
+}
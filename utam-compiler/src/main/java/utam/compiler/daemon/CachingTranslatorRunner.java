@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.daemon;
+
+import static utam.compiler.grammar.JsonDeserializer.getStringFromReader;
+import static utam.core.framework.UtamLogger.info;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import utam.compiler.UtamCompilationError;
+import utam.compiler.grammar.JsonDeserializer;
+import utam.compiler.guardrails.GlobalValidation;
+import utam.compiler.translator.DefaultTranslatorRunner;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.TranslatorSourceConfig;
+
+/**
+ * translator runner that reuses page objects compiled by previous runs if content of their JSON
+ * did not change
+ *
+ * @since 236
+ */
+public class CachingTranslatorRunner extends DefaultTranslatorRunner {
+
+  private final Map<String, CompiledPageObject> cache;
+  private final Set<String> compiledPageObjects = new HashSet<>();
+  // page objects that were not found in cache or changed since previous run
+  private final Set<String> changedPageObjects = new HashSet<>();
+  // page objects that were deleted from sources since previous run
+  private final Collection<CompiledPageObject> removedPageObjects = new ArrayList<>();
+  private int cacheHitsCounter = 0;
+  private boolean isIncremental = false;
+
+  /**
+   * @param translatorConfig translator configuration, cache should only be shared between runs with
+   *                         same configuration
+   * @param cache            compiled page objects by page object URI
+   */
+  public CachingTranslatorRunner(TranslatorConfig translatorConfig,
+      Map<String, CompiledPageObject> cache) {
+    super(translatorConfig);
+    this.cache = cache;
+  }
+
+  static String getContentHash(String content) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(content.getBytes(StandardCharsets.UTF_8));
+      StringBuilder builder = new StringBuilder();
+      for (byte b : hash) {
+        builder.append(String.format("%02x", b));
+      }
+      return builder.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new UtamCompilationError(e);
+    }
+  }
+
+  @Override
+  protected JsonDeserializer getDeserializer(TranslatorSourceConfig sourceConfig,
+      String pageObjectURI) {
+    String content = getStringFromReader(sourceConfig, pageObjectURI);
+    String hash = getContentHash(content);
+    compiledPageObjects.add(pageObjectURI);
+    CompiledPageObject cached = cache.get(pageObjectURI);
+    if (cached != null && cached.hash.equals(hash)) {
+      cacheHitsCounter++;
+      return cached.deserializer;
+    }
+    JsonDeserializer deserializer = new JsonDeserializer(pageObjectURI, content,
+        getTranslatorConfig());
+    cache.put(pageObjectURI, new CompiledPageObject(hash, deserializer));
+    changedPageObjects.add(pageObjectURI);
+    return deserializer;
+  }
+
+  @Override
+  public void run() {
+    try {
+      super.run();
+    } catch (RuntimeException e) {
+      // changed page objects should be compiled and validated again by next run
+      cache.keySet().removeAll(changedPageObjects);
+      throw e;
+    }
+    // remove page objects that were deleted since previous run, their files are deleted by write
+    Iterator<Map.Entry<String, CompiledPageObject>> iterator = cache.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, CompiledPageObject> entry = iterator.next();
+      if (!compiledPageObjects.contains(entry.getKey())) {
+        removedPageObjects.add(entry.getValue());
+        iterator.remove();
+      }
+    }
+  }
+
+  @Override
+  public void write() throws IOException {
+    super.write();
+    if (removedPageObjects.isEmpty()) {
+      return;
+    }
+    int filesCounter = 0;
+    for (CompiledPageObject removed : removedPageObjects) {
+      filesCounter += deleteGeneratedFiles(removed.deserializer.getObject());
+    }
+    info(String.format("deleted %d files of %d removed page objects", filesCounter,
+        removedPageObjects.size()));
+  }
+
+  /**
+   * in incremental mode only changed page objects are written and global guardrails only compare
+   * elements of changed page objects with others, because other pairs were validated by previous
+   * runs with same cache
+   *
+   * @param isIncremental true to enable incremental mode
+   */
+  public void setIncrementalMode(boolean isIncremental) {
+    this.isIncremental = isIncremental;
+  }
+
+  @Override
+  protected void validateGlobalGuardrails(GlobalValidation globalGuardrails) {
+    globalGuardrails.validate(isIncremental ? changedPageObjects : null);
+  }
+
+  @Override
+  protected boolean isWriteRequired(String pageObjectURI) {
+    return !isIncremental || changedPageObjects.contains(pageObjectURI);
+  }
+
+  /**
+   * URIs of page objects that were compiled by this run because they are new or changed
+   *
+   * @return collection of page object URIs
+   */
+  public Set<String> getChangedPageObjects() {
+    return changedPageObjects;
+  }
+
+  /**
+   * number of page objects that were not compiled because they did not change
+   *
+   * @return number of cache hits
+   */
+  public int getCacheHitsCount() {
+    return cacheHitsCounter;
+  }
+
+  /**
+   * compiled page object along with hash of its JSON source
+   *
+   * @since 236
+   */
+  public static final class CompiledPageObject {
+
+    private final String hash;
+    private final JsonDeserializer deserializer;
+
+    CompiledPageObject(String hash, JsonDeserializer deserializer) {
+      this.hash = hash;
+      this.deserializer = deserializer;
+    }
+  }
+}
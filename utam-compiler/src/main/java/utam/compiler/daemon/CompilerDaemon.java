@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.daemon;
+
+import static utam.compiler.daemon.CachingTranslatorRunner.getContentHash;
+import static utam.core.declarative.translator.GuardrailsMode.WARNING;
+import static utam.core.framework.UtamLogger.info;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import picocli.CommandLine.ExitCode;
+import utam.compiler.daemon.CachingTranslatorRunner.CompiledPageObject;
+import utam.compiler.translator.JsonCompilerConfig;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.framework.UtamLogger;
+
+/**
+ * long-lived compiler process that listens on a local socket for compilation requests. Request
+ * has same JSON compiler config as one-shot compiler, compiled page objects are kept in memory
+ * between requests and only page objects with changed JSON are compiled again. Requests are
+ * processed one at a time.
+ *
+ * @since 236
+ */
+public class CompilerDaemon {
+
+  static final String COMMAND_COMPILE = "compile";
+  static final String COMMAND_STOP = "stop";
+  static final String ERR_UNKNOWN_COMMAND = "unknown compiler daemon command '%s'";
+  static final String ERR_MISSING_CONFIG = "compiler config and compiler root should be set";
+  static final int CONFIG_ERR = ExitCode.USAGE;
+  static final int RUNTIME_ERR = ExitCode.SOFTWARE;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private final ServerSocket serverSocket;
+  // compiled page objects by module config
+  private final Map<String, ModuleCache> modules = new HashMap<>();
+  private volatile boolean isRunning = true;
+
+  /**
+   * @param port port to listen to on loopback address, 0 to pick any free port
+   * @throws IOException if socket can't be opened
+   */
+  public CompilerDaemon(int port) throws IOException {
+    this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+  }
+
+  static ObjectMapper getMapper() {
+    return MAPPER;
+  }
+
+  /**
+   * @return port that daemon listens to
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * accept and process requests until stop request is received
+   *
+   * @throws IOException if socket error happens
+   */
+  public void start() throws IOException {
+    info(String.format("compiler daemon is listening on port %d", getPort()));
+    try (ServerSocket server = serverSocket) {
+      while (isRunning) {
+        try (Socket socket = server.accept()) {
+          BufferedReader reader = new BufferedReader(
+              new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+          Response response;
+          try {
+            response = process(MAPPER.readValue(reader.readLine(), Request.class));
+          } catch (IOException | IllegalArgumentException e) {
+            response = new Response(CONFIG_ERR, e.getMessage(), 0, 0);
+          }
+          Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+          writer.write(MAPPER.writeValueAsString(response));
+          writer.write(System.lineSeparator());
+          writer.flush();
+        }
+      }
+    }
+    info("compiler daemon stopped");
+  }
+
+  Response process(Request request) {
+    if (COMMAND_STOP.equals(request.command)) {
+      isRunning = false;
+      return new Response(ExitCode.OK, COMMAND_STOP, 0, 0);
+    }
+    if (!COMMAND_COMPILE.equals(request.command)) {
+      return new Response(CONFIG_ERR, String.format(ERR_UNKNOWN_COMMAND, request.command), 0, 0);
+    }
+    if (request.config == null || request.compilerRoot == null) {
+      return new Response(CONFIG_ERR, ERR_MISSING_CONFIG, 0, 0);
+    }
+    return compile(new File(request.config), new File(request.compilerRoot));
+  }
+
+  private Response compile(File configFile, File compilerRoot) {
+    long timer = System.currentTimeMillis();
+    try {
+      // same as TranslatorGenerationCommand with JSON config
+      JsonCompilerConfig jsonConfig = new JsonCompilerConfig(configFile, compilerRoot);
+      TranslatorConfig translatorConfig = jsonConfig.getTranslatorConfig(WARNING);
+      String configHash = getContentHash(
+          new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8));
+      String moduleKey = configFile.getAbsolutePath() + File.pathSeparator + compilerRoot
+          .getAbsolutePath();
+      ModuleCache moduleCache = modules.computeIfAbsent(moduleKey, key -> new ModuleCache());
+      CachingTranslatorRunner runner = new CachingTranslatorRunner(translatorConfig,
+          moduleCache.getCompiledPageObjects(configHash));
+      runner.run();
+      runner.write();
+      runner.writeDependenciesConfigs();
+      runner.writeClassList();
+      int total = moduleCache.compiled.size();
+      String message = String.format("compiled %d page objects, %d not changed, took %d msec",
+          total, runner.getCacheHitsCount(), System.currentTimeMillis() - timer);
+      info(message);
+      return new Response(ExitCode.OK, message, total, runner.getCacheHitsCount());
+    } catch (IOException | RuntimeException e) {
+      UtamLogger.error(e);
+      return new Response(RUNTIME_ERR, e.getMessage(), 0, 0);
+    }
+  }
+
+  /**
+   * compiled page objects of one module, dropped if module config changes
+   */
+  private static class ModuleCache {
+
+    private final Map<String, CompiledPageObject> compiled = new HashMap<>();
+    private String configHash;
+
+    Map<String, CompiledPageObject> getCompiledPageObjects(String configHash) {
+      if (!configHash.equals(this.configHash)) {
+        compiled.clear();
+        this.configHash = configHash;
+      }
+      return compiled;
+    }
+  }
+
+  /**
+   * request to the compiler daemon
+   *
+   * @since 236
+   */
+  public static class Request {
+
+    final String command;
+    final String config;
+    final String compilerRoot;
+
+    /**
+     * @param command      "compile" or "stop"
+     * @param config       path to the JSON compiler config
+     * @param compilerRoot root folder for compiler to resolve relative paths
+     */
+    @JsonCreator
+    public Request(
+        @JsonProperty(value = "command", required = true) String command,
+        @JsonProperty(value = "config") String config,
+        @JsonProperty(value = "compilerRoot") String compilerRoot) {
+      this.command = command;
+      this.config = config;
+      this.compilerRoot = compilerRoot;
+    }
+
+    @JsonProperty("command")
+    public String getCommand() {
+      return command;
+    }
+
+    @JsonProperty("config")
+    public String getConfig() {
+      return config;
+    }
+
+    @JsonProperty("compilerRoot")
+    public String getCompilerRoot() {
+      return compilerRoot;
+    }
+  }
+
+  /**
+   * response of the compiler daemon
+   *
+   * @since 236
+   */
+  public static class Response {
+
+    private final int returnCode;
+    private final String message;
+    private final int pageObjectsCount;
+    private final int notChangedCount;
+
+    /**
+     * @param returnCode       same as return code of the one-shot compiler
+     * @param message          result or error message
+     * @param pageObjectsCount number of page objects compiled
+     * @param notChangedCount  number of page objects reused from previous requests
+     */
+    @JsonCreator
+    public Response(
+        @JsonProperty(value = "returnCode") int returnCode,
+        @JsonProperty(value = "message") String message,
+        @JsonProperty(value = "pageObjects") int pageObjectsCount,
+        @JsonProperty(value = "notChanged") int notChangedCount) {
+      this.returnCode = returnCode;
+      this.message = message;
+      this.pageObjectsCount = pageObjectsCount;
+      this.notChangedCount = notChangedCount;
+    }
+
+    @JsonProperty("returnCode")
+    public int getReturnCode() {
+      return returnCode;
+    }
+
+    @JsonProperty("message")
+    public String getMessage() {
+      return message;
+    }
+
+    @JsonProperty("pageObjects")
+    public int getPageObjectsCount() {
+      return pageObjectsCount;
+    }
+
+    @JsonProperty("notChanged")
+    public int getNotChangedCount() {
+      return notChangedCount;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.daemon;
+
+import static utam.compiler.daemon.CompilerDaemon.COMMAND_COMPILE;
+import static utam.compiler.daemon.CompilerDaemon.COMMAND_STOP;
+import static utam.compiler.daemon.CompilerDaemon.getMapper;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import utam.compiler.daemon.CompilerDaemon.Request;
+import utam.compiler.daemon.CompilerDaemon.Response;
+
+/**
+ * thin client that sends requests to the compiler daemon running on same machine
+ *
+ * @since 236
+ */
+public class CompilerDaemonClient {
+
+  static final String ERR_NO_RESPONSE = "compiler daemon on port %d did not respond";
+  private final int port;
+
+  /**
+   * @param port port that compiler daemon listens to
+   */
+  public CompilerDaemonClient(int port) {
+    this.port = port;
+  }
+
+  /**
+   * send compilation request with same parameters as for one-shot compiler with JSON config
+   *
+   * @param jsonConfig   JSON file with compiler configuration
+   * @param compilerRoot root folder for compiler to resolve relative paths
+   * @return response from daemon
+   * @throws IOException if daemon is not running or connection fails
+   */
+  public Response compile(File jsonConfig, File compilerRoot) throws IOException {
+    return send(new Request(COMMAND_COMPILE, jsonConfig.getAbsolutePath(),
+        compilerRoot.getAbsolutePath()));
+  }
+
+  /**
+   * request daemon to stop
+   *
+   * @return response from daemon
+   * @throws IOException if daemon is not running or connection fails
+   */
+  public Response stop() throws IOException {
+    return send(new Request(COMMAND_STOP, null, null));
+  }
+
+  Response send(Request request) throws IOException {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+      writer.write(getMapper().writeValueAsString(request));
+      writer.write(System.lineSeparator());
+      writer.flush();
+      BufferedReader reader = new BufferedReader(
+          new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      String response = reader.readLine();
+      if (response == null) {
+        throw new IOException(String.format(ERR_NO_RESPONSE, port));
+      }
+      return getMapper().readValue(response, Response.class);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.daemon;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static utam.core.framework.UtamLogger.info;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import utam.compiler.daemon.CachingTranslatorRunner.CompiledPageObject;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.framework.UtamLogger;
+
+/**
+ * watches folders with page objects sources and recompiles changed page objects. Bursts of file
+ * system events are collapsed into one compilation. Generated code of a page object depends only
+ * on its own JSON, so only changed page objects are compiled and written, and global guardrails
+ * only compare changed page objects with others.
+ *
+ * @since 236
+ */
+public class SourcesWatcher {
+
+  static final long DEFAULT_DEBOUNCE_MSEC = 300;
+  private final Supplier<TranslatorConfig> configSupplier;
+  private final Collection<Path> roots;
+  private final long debounceMsec;
+  private final Map<String, CompiledPageObject> cache = new HashMap<>();
+  private volatile boolean isWatching = true;
+
+  /**
+   * @param configSupplier creates new translator configuration for every compilation, because
+   *                       sources are scanned again
+   * @param roots          root folders to watch recursively
+   * @param debounceMsec   how long file system should be quiet before compilation starts
+   */
+  public SourcesWatcher(Supplier<TranslatorConfig> configSupplier, Collection<Path> roots,
+      long debounceMsec) {
+    this.configSupplier = configSupplier;
+    this.roots = roots;
+    this.debounceMsec = debounceMsec;
+  }
+
+  public SourcesWatcher(Supplier<TranslatorConfig> configSupplier, Collection<Path> roots) {
+    this(configSupplier, roots, DEFAULT_DEBOUNCE_MSEC);
+  }
+
+  private static void register(WatchService watchService, Path root) throws IOException {
+    Files.walkFileTree(root, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+          throws IOException {
+        dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  /**
+   * compile changed page objects, errors are reported and do not stop watching
+   *
+   * @return runner used for compilation or null if compilation failed
+   */
+  CachingTranslatorRunner compile() {
+    long timer = System.currentTimeMillis();
+    try {
+      TranslatorConfig translatorConfig = configSupplier.get();
+      if (translatorConfig == null) {
+        return null;
+      }
+      CachingTranslatorRunner runner = new CachingTranslatorRunner(translatorConfig, cache);
+      runner.setIncrementalMode(true);
+      runner.run();
+      runner.write();
+      runner.writeDependenciesConfigs();
+      runner.writeClassList();
+      info(String.format("recompiled %d changed page objects, took %d msec",
+          runner.getChangedPageObjects().size(), System.currentTimeMillis() - timer));
+      return runner;
+    } catch (IOException | RuntimeException e) {
+      UtamLogger.error(e);
+      return null;
+    }
+  }
+
+  // collects events for new directories and returns true if any event was received
+  private boolean processEvents(WatchService watchService, WatchKey key) throws IOException {
+    Path dir = (Path) key.watchable();
+    boolean isChanged = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      isChanged = true;
+      if (event.kind() == ENTRY_CREATE) {
+        Path child = dir.resolve((Path) event.context());
+        if (Files.isDirectory(child)) {
+          register(watchService, child);
+        }
+      }
+    }
+    key.reset();
+    return isChanged;
+  }
+
+  /**
+   * compile all page objects, then wait for changes and recompile until stopped
+   *
+   * @throws IOException          if folders can't be watched
+   * @throws InterruptedException if watching thread is interrupted
+   */
+  public void watch() throws IOException, InterruptedException {
+    try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+      for (Path root : roots) {
+        register(watchService, root);
+      }
+      compile();
+      info(String.format("watching for changes in %s", roots));
+      while (isWatching) {
+        WatchKey key = watchService.poll(debounceMsec, TimeUnit.MILLISECONDS);
+        if (key == null || !processEvents(watchService, key)) {
+          continue;
+        }
+        // wait until burst of changes is over
+        while ((key = watchService.poll(debounceMsec, TimeUnit.MILLISECONDS)) != null) {
+          processEvents(watchService, key);
+        }
+        compile();
+      }
+    }
+  }
+
+  /**
+   * stop watching after current compilation
+   */
+  public void stop() {
+    isWatching = false;
+  }
+}
@@ -10,11 +10,15 @@ package utam.compiler.grammar;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.google.common.io.CharStreams;
+import utam.compiler.helpers.BasicElementUnionType;
 import utam.compiler.helpers.TranslationContext;
 import utam.compiler.helpers.TypeUtilities;
 import utam.core.framework.consumer.UtamError;
 import utam.core.framework.context.Profile;
 import utam.compiler.translator.ClassSerializer;
+import utam.compiler.translator.CompilerProfiler;
+import utam.compiler.translator.CompilerProfiler.Measurement;
+import utam.compiler.translator.CompilerProfiler.Phase;
 import utam.compiler.translator.InterfaceSerializer;
 import utam.compiler.translator.UnitTestSerializer;
 import utam.core.declarative.representation.*;
@@ -41,16 +45,31 @@ public final class JsonDeserializer {
   private final UtamPageObject utamPageObject;
   private final TranslationContext context;
 
-  JsonDeserializer(
+  /**
+   * compile page object from JSON string, public because used by compiler daemon that reads
+   * sources itself to track their changes
+   *
+   * @param pageObjectURI          page object URI
+   * @param jsonString             content of the JSON file
+   * @param translatorConfiguration translator configuration
+   */
+  public JsonDeserializer(
       String pageObjectURI,
       String jsonString,
       TranslatorConfig translatorConfiguration) {
     this.pageObjectURI = pageObjectURI;
+    CompilerProfiler profiler = CompilerProfiler.getCurrent();
     try {
-      this.utamPageObject = deserialize(UtamPageObject.class, jsonString);
-      this.context = new TranslationContext(pageObjectURI, translatorConfiguration);
-      this.utamPageObject.compile(this.context);
-      this.context.guardrailsValidation();
+      try (Measurement measurement = profiler.start(Phase.PARSE)) {
+        this.utamPageObject = deserialize(UtamPageObject.class, jsonString);
+      }
+      try (Measurement measurement = profiler.start(Phase.COMPILE)) {
+        this.context = new TranslationContext(pageObjectURI, translatorConfiguration);
+        this.utamPageObject.compile(this.context);
+      }
+      try (Measurement measurement = profiler.start(Phase.LOCAL_GUARDRAILS)) {
+        this.context.guardrailsValidation();
+      }
     } catch (IOException e) {
       throw new UtamError(getErrorPrefix(), e);
     }
@@ -66,9 +85,9 @@ public final class JsonDeserializer {
         translatorConfig);
   }
 
-  private static String getStringFromReader(
+  public static String getStringFromReader(
       TranslatorSourceConfig translatorSourceConfig, String pageObjectURI) {
-    try {
+    try (Measurement measurement = CompilerProfiler.getCurrent().start(Phase.READ)) {
       return CharStreams.toString(translatorSourceConfig.getDeclarationReader(pageObjectURI));
     } catch (IOException e) {
       throw new UtamError(getErrorPrefix(pageObjectURI), e);
@@ -99,6 +118,18 @@ public final class JsonDeserializer {
     return getDeserializerMapper().readValue(jsonString, type);
   }
 
+  /**
+   * parse JSON without compiling, public so that parsing and compilation can be measured
+   * separately by benchmarks
+   *
+   * @param jsonString content of the JSON file
+   * @return parsed page object
+   * @throws IOException if JSON can't be parsed
+   */
+  public static ParsedPageObject parse(String jsonString) throws IOException {
+    return new ParsedPageObject(deserialize(UtamPageObject.class, jsonString));
+  }
+
   public final TranslationContext getPageObjectContext() {
     return context;
   }
@@ -111,6 +142,33 @@ public final class JsonDeserializer {
     return new Object(utamPageObject, context);
   }
 
+  /**
+   * page object parsed from JSON but not compiled yet
+   *
+   * @since 236
+   */
+  public static final class ParsedPageObject {
+
+    private final UtamPageObject utamPageObject;
+
+    private ParsedPageObject(UtamPageObject utamPageObject) {
+      this.utamPageObject = utamPageObject;
+    }
+
+    /**
+     * compile parsed page object
+     *
+     * @param pageObjectURI    page object URI
+     * @param translatorConfig translator configuration
+     * @return context of the compiled page object
+     */
+    public TranslationContext compile(String pageObjectURI, TranslatorConfig translatorConfig) {
+      TranslationContext context = new TranslationContext(pageObjectURI, translatorConfig);
+      utamPageObject.compile(context);
+      return context;
+    }
+  }
+
   static class Object implements PageObjectDeclaration {
 
     private final UtamPageObject utamPageObject;
@@ -275,6 +333,9 @@ public final class JsonDeserializer {
           .filter(method -> method.isReturnsBasicElement() && method.isPublic() == isPublicElements)
           .map(method -> method.getDeclaration().getReturnType())
           .map(TypeUtilities::getElementType)
+          // shared types are not declared in the page object
+          .filter(type -> !(type instanceof BasicElementUnionType
+              && ((BasicElementUnionType) type).isSharedType()))
           .collect(Collectors.toList());
     }
 
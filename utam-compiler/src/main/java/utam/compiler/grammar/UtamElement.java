@@ -8,6 +8,7 @@
 package utam.compiler.grammar;
 
 import static utam.compiler.helpers.AnnotationUtils.getFindAnnotation;
+import static utam.compiler.helpers.AnnotationUtils.getFoldedSelectorComment;
 import static utam.compiler.helpers.BasicElementInterface.processBasicTypeNode;
 import static utam.compiler.helpers.TypeUtilities.CONTAINER_ELEMENT_TYPE_NAME;
 import static utam.compiler.helpers.TypeUtilities.FRAME_ELEMENT_TYPE_NAME;
@@ -17,6 +18,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
@@ -24,6 +26,7 @@ import java.util.function.Supplier;
 import utam.compiler.helpers.BasicElementUnionType;
 import utam.compiler.helpers.ElementContext;
 import utam.compiler.helpers.ElementUnitTestHelper;
+import utam.compiler.helpers.FoldedSelector;
 import utam.compiler.helpers.LocatorCodeGeneration;
 import utam.compiler.helpers.TranslationContext;
 import utam.compiler.representation.ContainerMethod;
@@ -35,7 +38,9 @@ import utam.compiler.translator.TranslationTypesConfigJava;
 import utam.core.declarative.representation.MethodParameter;
 import utam.core.declarative.representation.PageObjectMethod;
 import utam.core.declarative.representation.TypeProvider;
+import utam.core.element.Locator;
 import utam.core.framework.consumer.UtamError;
+import utam.core.selenium.element.LocatorBy;
 
 /**
  * Page Object Element
@@ -52,6 +57,8 @@ public final class UtamElement {
   static final String ERR_ELEMENT_NESTED_ELEMENTS = "element '%s' can't have nested elements";
   static final String ERR_ELEMENT_EXTERNAL_NOT_ALLOWED =
       "element '%s': external flag is not supported";
+  static final String ERR_ELEMENT_INJECT_TEXT_NOT_ALLOWED =
+      "element '%s': injectText can only be set for basic element";
   static final String ERR_FRAME_LIST_SELECTOR_NOT_ALLOWED =
       "element '%s': frame selector cannot return all";
 
@@ -64,6 +71,8 @@ public final class UtamElement {
   UtamElementFilter filter;
   private final Boolean isNullable;
   Boolean isExternal;
+  private final Boolean isInjectText;
+  private final Boolean isFold;
   private final Supplier<Traversal> traversalAbstraction;
 
   @JsonCreator
@@ -73,6 +82,8 @@ public final class UtamElement {
       @JsonProperty(value = "public") Boolean isPublic,
       @JsonProperty(value = "nullable") Boolean isNullable,
       @JsonProperty(value = "external") Boolean isExternal, // to support compatibility
+      @JsonProperty(value = "injectText") Boolean isInjectText,
+      @JsonProperty(value = "fold") Boolean isFold,
       @JsonProperty(value = "selector") UtamSelector selector,
       @JsonProperty(value = "filter") UtamElementFilter filter,
       @JsonProperty("shadow") UtamShadowElement shadow,
@@ -85,6 +96,8 @@ public final class UtamElement {
     this.filter = filter;
     this.isNullable = isNullable;
     this.isExternal = isExternal;
+    this.isInjectText = isInjectText;
+    this.isFold = isFold;
     Entry<Supplier<Traversal>, String[]> elementType = processTypeNode(type);
     this.type = elementType.getValue();
     this.traversalAbstraction = elementType.getKey();
@@ -119,6 +132,14 @@ public final class UtamElement {
     return Boolean.TRUE.equals(isNullable);
   }
 
+  private boolean isInjectText() {
+    return Boolean.TRUE.equals(isInjectText);
+  }
+
+  private boolean isFold() {
+    return Boolean.TRUE.equals(isFold);
+  }
+
   final void traverse(
       TranslationContext context, ElementContext scopeElement, boolean isExpandScopeShadowRoot) {
     Traversal element = getAbstraction();
@@ -146,7 +167,8 @@ public final class UtamElement {
 
   public enum Type {
     BASIC(String.join(", ",
-        "name", "public", "selector", "type", "filter", "nullable", "shadow", "elements")),
+        "name", "public", "selector", "type", "filter", "nullable", "injectText", "fold",
+        "shadow", "elements")),
     CUSTOM(String.join(", ",
         "name", "public", "selector", "type", "filter", "nullable", "external")),
     CONTAINER(String.join(", ", "name", "public", "selector", "type")),
@@ -194,6 +216,12 @@ public final class UtamElement {
       if (isExternal != null && selector.isReturnAll()) {
         throw new UtamError(String.format(ERR_ELEMENT_EXTERNAL_NOT_ALLOWED, name));
       }
+      if (isInjectText != null) {
+        throw new UtamError(String.format(ERR_ELEMENT_INJECT_TEXT_NOT_ALLOWED, name));
+      }
+      if (isFold != null) {
+        throw new UtamError(Type.CUSTOM.getSupportedPropertiesErr(name));
+      }
     }
 
     @Override
@@ -288,14 +316,25 @@ public final class UtamElement {
     final ElementContext[] traverse(
         TranslationContext context, ElementContext scopeElement, boolean isExpandScopeShadowRoot) {
       boolean isPublicImplementationOnlyElement = isPublic() && context.isImplementationPageObject();
-      TypeProvider elementType =
-          BasicElementUnionType.asBasicType(name, type, isPublicImplementationOnlyElement);
+      TypeProvider elementType = isPublic()
+          ? BasicElementUnionType.asBasicType(name, type, isPublicImplementationOnlyElement)
+          : BasicElementUnionType.asSharedBasicType(name, type);
       LocatorCodeGeneration locatorHelper = selector.getCodeGenerationHelper(context);
       List<MethodParameter> addedParameters = new ArrayList<>(locatorHelper.getParameters());
-      ElementField field =
+      Locator locator = locatorHelper.getLocator();
+      // chain is folded for nested elements even if element itself is found scope by scope
+      FoldedSelector foldedChain = getFoldedSelector(scopeElement, isExpandScopeShadowRoot);
+      FoldedSelector foldedSelector = isFold() ? foldedChain : null;
+      ElementField field = foldedSelector == null ?
           new ElementField(
-              name, getFindAnnotation(locatorHelper.getLocator(), scopeElement,
-              isExpandScopeShadowRoot, isNullable()));
+              name, getFindAnnotation(locator, scopeElement,
+              isExpandScopeShadowRoot, isNullable())) :
+          new ElementField(
+              name, Arrays.asList(
+              getFoldedSelectorComment(foldedSelector),
+              getFindAnnotation(LocatorBy.byCss(foldedSelector.getSelector()),
+                  foldedSelector.getScopeElement(), foldedSelector.isExpandScopeShadowRoot(),
+                  false)));
       if (filter != null) {
         filter.setElementFilter(context, Type.BASIC, elementType, name);
         addedParameters.addAll(filter.getApplyMethodParameters());
@@ -309,6 +348,11 @@ public final class UtamElement {
           new ElementContext.Basic(
               scopeElement, name, elementType, locatorHelper.getLocator(),
               addedParameters, isNullable());
+      elementContext.setInjectText(isInjectText());
+      if (FoldedSelector.isFoldableScope(locator, isNullable(), selector.isReturnAll())) {
+        elementContext.setFoldedScope(foldedChain != null ? foldedChain
+            : FoldedSelector.start(scopeElement, isExpandScopeShadowRoot, locator));
+      }
       final PageObjectMethod method;
       if (filter != null) {
         // element parameters do not include filter or matcher parameters
@@ -325,7 +369,8 @@ public final class UtamElement {
                 filter.getApplyMethodParameters(),
                 filter.getMatcherType(),
                 filter.getMatcherParameters(),
-                filter.getFindFirst());
+                filter.getFindFirst(),
+                isInjectText());
       } else if (isList) {
         method = new ElementMethod.Multiple(elementContext, isPublic());
       } else {
@@ -335,14 +380,30 @@ public final class UtamElement {
       context.setElement(elementContext);
       context.setMethod(method);
       elementContext.setElementMethod(method);
+      // unit test mocks scopes that runtime finds
+      ElementContext foundInScope =
+          foldedSelector == null ? scopeElement : foldedSelector.getScopeElement();
       context.setTestableElement(name, new ElementUnitTestHelper(
-              locatorHelper.getLocator().getStringValue(),
-              scopeElement == null? null : scopeElement.getName(),
-              isExpandScopeShadowRoot,
+              foldedSelector == null ? locator.getStringValue() : foldedSelector.getSelector(),
+              foundInScope == null? null : foundInScope.getName(),
+              foldedSelector == null ? isExpandScopeShadowRoot
+                  : foldedSelector.isExpandScopeShadowRoot(),
               isList
       ));
       return new ElementContext[] {elementContext};
     }
+
+    // light DOM element inside folded scope is found with one selector
+    private FoldedSelector getFoldedSelector(ElementContext scopeElement,
+        boolean isExpandScopeShadowRoot) {
+      if (scopeElement == null || isExpandScopeShadowRoot
+          || scopeElement.getFoldedScope() == null
+          || !FoldedSelector.isFoldableElement(selector.getLocator(), isNullable(),
+          selector.isReturnAll())) {
+        return null;
+      }
+      return scopeElement.getFoldedScope().add(selector.getLocator());
+    }
   }
 
   class Container extends Traversal {
@@ -353,6 +414,8 @@ public final class UtamElement {
       if (filter != null
           || isNullable != null
           || isExternal != null
+          || isInjectText != null
+          || isFold != null
           || elements != null
           || shadow != null) {
         throw new UtamError(Type.CONTAINER.getSupportedPropertiesErr(name));
@@ -393,6 +456,8 @@ public final class UtamElement {
       if (filter != null
           || isNullable != null
           || isExternal != null
+          || isInjectText != null
+          || isFold != null
           || elements != null
           || shadow != null) {
         throw new UtamError(Type.FRAME.getSupportedPropertiesErr(name));
@@ -44,6 +44,7 @@ class UtamMethod {
   private final UtamArgument[] args;
   private final JsonNode returnType;
   private final Boolean isReturnList;
+  private final boolean isBatchReads;
 
   @JsonCreator
   UtamMethod(
@@ -51,12 +52,14 @@ class UtamMethod {
       @JsonProperty(value = "compose") UtamMethodAction[] compose,
       @JsonProperty(value = "args") UtamArgument[] args,
       @JsonProperty(value = "returnType") JsonNode returnType,
-      @JsonProperty(value = "returnAll") Boolean isReturnList) {
+      @JsonProperty(value = "returnAll") Boolean isReturnList,
+      @JsonProperty(value = "batchReads") Boolean isBatchReads) {
     this.name = name;
     this.compose = compose;
     this.args = args;
     this.returnType = returnType;
     this.isReturnList = isReturnList;
+    this.isBatchReads = Boolean.TRUE.equals(isBatchReads);
   }
 
   PageObjectMethod getMethod(TranslationContext context) {
@@ -102,7 +105,8 @@ class UtamMethod {
         name,
         lastStatementReturnType,
         methodContext.getMethodParameters(),
-        statements
+        statements,
+        isBatchReads
     );
   }
 
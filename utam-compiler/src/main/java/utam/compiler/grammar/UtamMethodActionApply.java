@@ -214,6 +214,15 @@ class UtamMethodActionApply extends UtamMethodAction {
           || elementContext instanceof CustomReturnsAll;
     }
 
+    @Override
+    protected String getBatchOperandString() {
+      // element declared by previous statement or nullable element needs own variable
+      if (isElementAlreadyUsed || elementContext.isNullable() || isApplyToList()) {
+        return null;
+      }
+      return getElementGetterString();
+    }
+
     @Override
     protected List<MethodParameter> getElementParameters() {
       return parameters;
@@ -266,5 +275,10 @@ class UtamMethodActionApply extends UtamMethodAction {
         List<MethodParameter> actionParameters) {
       super(action, returnType, actionParameters);
     }
+
+    @Override
+    protected boolean isReadOnly() {
+      return getAction().isReadOnly();
+    }
   }
 }
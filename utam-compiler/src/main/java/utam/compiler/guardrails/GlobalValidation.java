@@ -8,14 +8,18 @@
 package utam.compiler.guardrails;
 
 import static utam.compiler.guardrails.ValidationExclusions.isViolationAllowed;
+import static utam.compiler.guardrails.ValidationUtilities.getSelectorIndexKey;
 import static utam.compiler.guardrails.ValidationUtilities.getValidationError;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import utam.compiler.helpers.ElementContext;
 import utam.core.declarative.translator.GuardrailsMode;
+import utam.core.element.Locator;
 import utam.core.framework.UtamLogger;
 
 /**
@@ -28,6 +32,8 @@ public class GlobalValidation {
 
   private static final String ERR_FORMAT_GLOBAL =
       "Validation failure for element '%s' in Page Object '%s' and element '%s' in Page Object '%s': ";
+  private static final String INFO_FORMAT_TIMING =
+      "validated %d page objects with %d unique selectors, %d comparisons, took %d msec";
   private final Map<String, Collection<ElementContext>> allElementsAccumulated = Collections
       .synchronizedMap(new HashMap<>());
   private final GuardrailsMode guardrailsMode;
@@ -49,23 +55,67 @@ public class GlobalValidation {
   }
 
   /**
-   * iterate through all Page Objects and all their elements
+   * build index of all elements by selector: only elements with same selector can violate
+   * guardrails, so other pairs are never compared
+   *
+   * @return map with selector as a key and list of elements with that selector across all Page
+   * Objects, in order of Page Objects iteration
+   */
+  Map<Locator, List<ValidationSubject>> getSelectorsIndex() {
+    Map<Locator, List<ValidationSubject>> index = new HashMap<>();
+    for (String pageObject : allElementsAccumulated.keySet()) {
+      for (ElementContext elementContext : allElementsAccumulated.get(pageObject)) {
+        Locator key = getSelectorIndexKey(elementContext);
+        if (key != null) {
+          index.computeIfAbsent(key, k -> new ArrayList<>())
+              .add(new ValidationSubject(pageObject, elementContext));
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * iterate through all Page Objects and all their elements, each element is compared only with
+   * elements from other Page Objects that have same selector
    */
   public void validate() {
+    validate(null);
+  }
+
+  /**
+   * same as full validation, but only pairs of elements where at least one element belongs to a
+   * changed Page Object are compared, used for incremental compilation
+   *
+   * @param changedPageObjects URIs of changed Page Objects, if null all pairs are compared
+   */
+  public void validate(Collection<String> changedPageObjects) {
+    long timer = System.currentTimeMillis();
+    Map<Locator, List<ValidationSubject>> index = getSelectorsIndex();
+    int comparisonsCounter = 0;
     for (String firstPageObject : allElementsAccumulated.keySet()) {
       for (ElementContext firstElementContext : allElementsAccumulated.get(firstPageObject)) {
+        Locator key = getSelectorIndexKey(firstElementContext);
+        if (key == null) {
+          continue; // element without selector can't have violations
+        }
         ValidationSubject first = new ValidationSubject(firstPageObject, firstElementContext);
-        for (String secondPageObject : allElementsAccumulated.keySet()) {
-          if (secondPageObject.equals(firstPageObject)) {
+        boolean isFirstChanged =
+            changedPageObjects == null || changedPageObjects.contains(firstPageObject);
+        for (ValidationSubject second : index.get(key)) {
+          if (second.pageObjectName.equals(firstPageObject)) {
             continue; // we already tested inside same PO
           }
-          for (ElementContext secondElementContext : allElementsAccumulated.get(secondPageObject)) {
-            ValidationSubject second = new ValidationSubject(secondPageObject, secondElementContext);
-            checkViolations(first, second);
+          if (!isFirstChanged && !changedPageObjects.contains(second.pageObjectName)) {
+            continue; // both were validated before
           }
+          checkViolations(first, second);
+          comparisonsCounter++;
         }
       }
     }
+    UtamLogger.info(String.format(INFO_FORMAT_TIMING, allElementsAccumulated.size(), index.size(),
+        comparisonsCounter, System.currentTimeMillis() - timer));
   }
 
   private void checkViolations(ValidationSubject first, ValidationSubject second) {
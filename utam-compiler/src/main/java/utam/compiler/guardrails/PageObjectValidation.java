@@ -8,14 +8,18 @@
 package utam.compiler.guardrails;
 
 import static utam.compiler.guardrails.ValidationExclusions.isViolationAllowed;
+import static utam.compiler.guardrails.ValidationUtilities.getSelectorIndexKey;
 import static utam.compiler.guardrails.ValidationUtilities.getValidationError;
 import static utam.compiler.guardrails.ValidationUtilities.hasHardcodedText;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import utam.compiler.helpers.ElementContext;
 import utam.core.declarative.translator.GuardrailsMode;
+import utam.core.element.Locator;
 import utam.core.framework.UtamLogger;
 
 /**
@@ -63,30 +67,41 @@ public class PageObjectValidation {
   }
 
   /**
-   * validate all elements inside a page object
+   * validate all elements inside a page object in one pass: selector of each element is checked
+   * for hardcoded text, then element is compared with previously visited elements that have same
+   * selector, because only those can violate guardrails
    */
   public void validate() {
-    List<ElementContext> elements = new ArrayList<>(this.elements);
-    for (int i = 0; i < elements.size(); i++) {
-      ElementContext element = elements.get(i);
+    Map<Locator, List<ElementContext>> index = new HashMap<>();
+    for (ElementContext element : elements) {
       // first validate selector
       validateSelector(element);
-      // then iterate through remaining elements
-      for (int j = i + 1; j < elements.size(); j++) {
-        ElementContext testAgainst = elements.get(j);
-        ValidationError errType = getValidationError(element, testAgainst);
-        if (errType == null) {
-          return;
-        }
-        String errorMessage = getErrorPrefix(element, testAgainst) + errType.getErrMessage();
-        // for exception or in a warning mode - print warning in console
-        if (isViolationAllowed(pageObjectURI, element.getName(), errType)
-            || !guardrailsMode.isInterruptWithError()) {
-          UtamLogger.warning(errorMessage);
-        } else {
-          throw new UtamValidationError(errorMessage);
-        }
+      Locator key = getSelectorIndexKey(element);
+      if (key == null) {
+        continue; // element without selector can't have violations
       }
+      List<ElementContext> sameSelectorElements = index
+          .computeIfAbsent(key, k -> new ArrayList<>());
+      // then compare with previous elements that have same selector
+      for (ElementContext previous : sameSelectorElements) {
+        checkViolations(previous, element);
+      }
+      sameSelectorElements.add(element);
+    }
+  }
+
+  private void checkViolations(ElementContext element, ElementContext testAgainst) {
+    ValidationError errType = getValidationError(element, testAgainst);
+    if (errType == null) {
+      return;
+    }
+    String errorMessage = getErrorPrefix(element, testAgainst) + errType.getErrMessage();
+    // for exception or in a warning mode - print warning in console
+    if (isViolationAllowed(pageObjectURI, element.getName(), errType)
+        || !guardrailsMode.isInterruptWithError()) {
+      UtamLogger.warning(errorMessage);
+    } else {
+      throw new UtamValidationError(errorMessage);
     }
   }
 }
@@ -39,6 +39,21 @@ abstract class ValidationUtilities {
     return testAgainst.equals(underTest);
   }
 
+  /**
+   * elements can only violate guardrails if they have same selector (see isSameSelector), so
+   * selector is used as a key to index elements for validation
+   *
+   * @param element element to index
+   * @return selector or null if element has no selector and can't be compared with others
+   */
+  static Locator getSelectorIndexKey(ElementContext element) {
+    Locator selector = element.getSelector();
+    if (selector == null || selector.getStringValue().isEmpty()) {
+      return null;
+    }
+    return selector;
+  }
+
   static boolean hasHardcodedText(Locator underTest) {
     // root can have null as selector
     if (underTest == null) {
@@ -59,4 +59,14 @@ public interface ActionType {
   default UtamArgument[] getTransformedArgs(UtamArgument[] args) {
     return args;
   }
+
+  /**
+   * action only reads state of the element and does not change page, so it can be sent together
+   * with other reads
+   *
+   * @return true if action is read only
+   */
+  default boolean isReadOnly() {
+    return false;
+  }
 }
@@ -7,6 +7,7 @@
  */
 package utam.compiler.helpers;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -83,6 +84,19 @@ public final class AnnotationUtils {
     return new Annotation(res.toString(), SELECTOR_CLASS_LIST);
   }
 
+  /**
+   * comment with original chain of a folded element selector
+   *
+   * @param foldedSelector folded selector
+   * @return provider of the comment line
+   */
+  public static AnnotationProvider getFoldedSelectorComment(FoldedSelector foldedSelector) {
+    return new Annotation(
+        String.format("// folded from selectors chain %s",
+            foldedSelector.getChainString()),
+        Collections.emptyList());
+  }
+
   public static AnnotationProvider getPagePlatformAnnotation(String string) {
     PlatformType pagePlatform = PlatformType.fromString(string);
     if (pagePlatform == PlatformType.NONE) {
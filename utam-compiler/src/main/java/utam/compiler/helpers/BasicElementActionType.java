@@ -203,6 +203,12 @@ public enum BasicElementActionType implements ActionType {
     return this.name();
   }
 
+  @Override
+  public boolean isReadOnly() {
+    // waits return nothing, all other actions read state of the element
+    return !VOID.isSameType(returnType);
+  }
+
   @Override
   public UtamArgument[] getTransformedArgs(UtamArgument[] args) {
     if (args == null) {
@@ -12,9 +12,11 @@ import static utam.compiler.helpers.TypeUtilities.BASIC_ELEMENT;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import utam.compiler.helpers.TypeUtilities.FromClass;
 import utam.compiler.representation.UnionTypeImpl;
 import utam.core.declarative.representation.TypeProvider;
 import utam.core.declarative.representation.UnionType;
+import utam.core.framework.element.BasePageElement;
 
 /**
  * basic element union type
@@ -24,10 +26,18 @@ import utam.core.declarative.representation.UnionType;
  */
 public class BasicElementUnionType implements TypeProvider {
 
+  static final TypeProvider SHARED_IMPLEMENTATION_TYPE = new FromClass(BasePageElement.class);
   private final String name;
   private final List<BasicElementInterface> basicInterfaces = new ArrayList<>();
+  // type shared between page objects, null if page object declares its own union type
+  private final TypeProvider sharedType;
 
   BasicElementUnionType(String name, String[] interfaceTypes, boolean requiresPrefix) {
+    this(name, interfaceTypes, requiresPrefix, false);
+  }
+
+  private BasicElementUnionType(String name, String[] interfaceTypes, boolean requiresPrefix,
+      boolean isShared) {
     // If the basic element being defined is in an implementation-only Page Object,
     // that is, one that has an "implements" property defined, and the element is
     // marked as public, then there must be a method defined in the interface-only
@@ -42,9 +52,24 @@ public class BasicElementUnionType implements TypeProvider {
     this.name = prefix + name.substring(0, 1).toUpperCase() + name.substring(1) + "Element";
     for(String interfaceType : interfaceTypes) {
       if (BasicElementInterface.isBasicType(interfaceType)) {
-        basicInterfaces.add(BasicElementInterface.asBasicType(interfaceType));
+        BasicElementInterface basicInterface = BasicElementInterface.asBasicType(interfaceType);
+        if (!basicInterfaces.contains(basicInterface)) {
+          basicInterfaces.add(basicInterface);
+        }
       }
     }
+    this.sharedType = isShared ? getSharedType(basicInterfaces) : null;
+  }
+
+  // one basic interface is used as is, BasePageElement implements any combination of them
+  private static TypeProvider getSharedType(List<BasicElementInterface> basicInterfaces) {
+    if (basicInterfaces.isEmpty()) {
+      return BASIC_ELEMENT;
+    }
+    if (basicInterfaces.size() == 1) {
+      return basicInterfaces.get(0);
+    }
+    return SHARED_IMPLEMENTATION_TYPE;
   }
 
   BasicElementInterface[] getTypesArray() {
@@ -75,6 +100,46 @@ public class BasicElementUnionType implements TypeProvider {
     return null;
   }
 
+  /**
+   * type of the private basic element. Declared union type is only needed when element is part of
+   * the page object interface, so instead of declaring an interface and implementation class in
+   * every page object, private element is typed with the shared type for its combination of basic
+   * types: the basic interface itself if there is only one, or BasePageElement that implements all
+   * basic interfaces.
+   *
+   * @param name           name of the element
+   * @param interfaceTypes basic types from JSON
+   * @return instance of shared type or null if types are not basic
+   */
+  public static BasicElementUnionType asSharedBasicType(String name, String[] interfaceTypes) {
+    if (interfaceTypes == null || interfaceTypes.length == 0) {
+      return new BasicElementUnionType(
+          name, new String[] { BASIC_ELEMENT.getSimpleName() }, false, true);
+    }
+    if (isBasicType(interfaceTypes)) {
+      return new BasicElementUnionType(name, interfaceTypes, false, true);
+    }
+    return null;
+  }
+
+  /**
+   * shared type is not declared in the page object and is implemented by BasePageElement
+   *
+   * @return true if type is shared between page objects
+   */
+  public boolean isSharedType() {
+    return sharedType != null;
+  }
+
+  /**
+   * simple name of the class that is instantiated for the element
+   *
+   * @return for shared type it's BasePageElement, otherwise nested implementation class
+   */
+  public String getImplementationSimpleName() {
+    return isSharedType() ? SHARED_IMPLEMENTATION_TYPE.getSimpleName() : name + "Impl";
+  }
+
   public List<TypeProvider> getBasicInterfaces() {
     if (basicInterfaces.size() == 0) {
       // If there are no basic interfaces declared, the only interface implemented by this
@@ -86,22 +151,22 @@ public class BasicElementUnionType implements TypeProvider {
 
   @Override
   public String getFullName() {
-    return name;
+    return isSharedType() ? sharedType.getFullName() : name;
   }
 
   @Override
   public String getSimpleName() {
-    return name;
+    return isSharedType() ? sharedType.getSimpleName() : name;
   }
 
   @Override
   public String getPackageName() {
-    return "";
+    return isSharedType() ? sharedType.getPackageName() : "";
   }
 
   @Override
   public Class getClassType() {
-    return null;
+    return isSharedType() ? sharedType.getClassType() : null;
   }
 
   /**
@@ -36,6 +36,12 @@ public enum EditableActionType implements ActionType {
    * press keyboard key
    */
   press(PrimitiveType.STRING),
+  /**
+   * replace element value with one script instead of key strokes, then dispatch input and change
+   * events <br>
+   * falls back to clearAndType if element is not a text input, text area or content editable
+   */
+  injectText(PrimitiveType.STRING),
   /**
    * Apply WebElement.sendKeys from Selenium - "simulate typing into an element, which may set its *
    * value". <br>
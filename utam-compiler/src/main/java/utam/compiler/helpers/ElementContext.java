@@ -43,6 +43,10 @@ public abstract class ElementContext {
   private final boolean isNullable;
   private PageObjectMethod elementGetter;
   private final ElementType elementType;
+  // set if light DOM elements of this element can be found with folded selector
+  private FoldedSelector foldedScope;
+  // set if element text is injected with script instead of typed
+  private boolean isInjectText;
 
   ElementContext(
       ElementType elementType,
@@ -113,6 +117,22 @@ public abstract class ElementContext {
     this.elementGetter = method;
   }
 
+  public final FoldedSelector getFoldedScope() {
+    return foldedScope;
+  }
+
+  public final void setFoldedScope(FoldedSelector foldedScope) {
+    this.foldedScope = foldedScope;
+  }
+
+  public final boolean isInjectText() {
+    return isInjectText;
+  }
+
+  public final void setInjectText(boolean isInjectText) {
+    this.isInjectText = isInjectText;
+  }
+
   public String getElementGetterName() {
     return getElementMethod().getDeclaration().getName();
   }
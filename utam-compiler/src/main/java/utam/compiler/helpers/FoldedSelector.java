@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.helpers;
+
+import static utam.core.element.Locator.SELECTOR_INTEGER_PARAMETER;
+import static utam.core.element.Locator.SELECTOR_STRING_PARAMETER;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.openqa.selenium.By;
+import utam.core.element.Locator;
+
+/**
+ * CSS selector of an element folded with selectors of its light DOM scopes, so that element is
+ * found with one driver call instead of one call per scope. When every scope is found as first
+ * match and every selector in the chain is a single compound selector, first element that matches
+ * descendant selector "scope1 scope2 element" is the element that is found scope by scope, so
+ * folding only happens when that is the case: scopes are basic, not nullable, not lists and have no
+ * parameters, element itself is not nullable and not a list. If scope by scope search fails
+ * because first matching scope does not contain the element, folded selector can still find the
+ * element inside a later matching scope, so element is folded only if it sets "fold" in JSON.
+ * Folding stops at shadow root and at custom component root. Original chain is kept in a comment
+ * for diagnostics.
+ *
+ * @since 236
+ */
+public final class FoldedSelector {
+
+  // folded selector is found inside element, without :scope ancestors of that element would match
+  static final String SCOPE_PSEUDO_CLASS = ":scope";
+  private final ElementContext scopeElement;
+  private final boolean isExpandScopeShadowRoot;
+  private final List<String> chain;
+
+  private FoldedSelector(ElementContext scopeElement, boolean isExpandScopeShadowRoot,
+      List<String> chain) {
+    this.scopeElement = scopeElement;
+    this.isExpandScopeShadowRoot = isExpandScopeShadowRoot;
+    this.chain = Collections.unmodifiableList(chain);
+  }
+
+  private static boolean isCss(Locator locator) {
+    return locator.getValue() instanceof By.ByCssSelector;
+  }
+
+  /**
+   * selector can be part of descendant selector if it is a single compound selector: no top level
+   * comma, whitespace or combinator, no :scope and string parameters only inside quotes because
+   * their value can have any CSS. Selector with combinators is matched against the whole document
+   * when found inside an element, so its left part can match the scope element itself or its
+   * ancestors, while in descendant selector it has to be inside previous scope.
+   *
+   * @param css                 selector string
+   * @param isAllowedParameters false if selector can't have parameters
+   * @return true if selector can be folded
+   */
+  static boolean isFoldable(String css, boolean isAllowedParameters) {
+    String trimmed = css.trim();
+    if (trimmed.isEmpty() || trimmed.contains(SCOPE_PSEUDO_CLASS)) {
+      return false;
+    }
+    char quote = 0;
+    int depth = 0;
+    for (int i = 0; i < trimmed.length(); i++) {
+      char c = trimmed.charAt(i);
+      if (quote != 0) {
+        if (c == '\\') {
+          i++;
+        } else if (c == quote) {
+          quote = 0;
+        }
+        continue;
+      }
+      if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == '(' || c == '[') {
+        depth++;
+      } else if (c == ')' || c == ']') {
+        depth--;
+      } else if (depth == 0 && (c == ',' || Character.isWhitespace(c) || "+>~".indexOf(c) >= 0)) {
+        return false;
+      } else if (trimmed.startsWith(SELECTOR_STRING_PARAMETER, i)) {
+        return false;
+      }
+    }
+    return isAllowedParameters || !trimmed.contains(SELECTOR_INTEGER_PARAMETER);
+  }
+
+  /**
+   * @param locator    locator of the element
+   * @param isNullable element is nullable
+   * @param isList     element returns all
+   * @return true if element can be a folded scope for its light DOM elements
+   */
+  public static boolean isFoldableScope(Locator locator, boolean isNullable, boolean isList) {
+    return !isNullable && !isList && isCss(locator)
+        && isFoldable(locator.getStringValue(), false);
+  }
+
+  /**
+   * @param locator    locator of the element
+   * @param isNullable element is nullable
+   * @param isList     element returns all
+   * @return true if element can be found with selector folded with its scopes
+   */
+  public static boolean isFoldableElement(Locator locator, boolean isNullable, boolean isList) {
+    return !isNullable && !isList && isCss(locator)
+        && isFoldable(locator.getStringValue(), true);
+  }
+
+  /**
+   * start folding at an element that is a foldable scope
+   *
+   * @param scopeElement            scope of the element
+   * @param isExpandScopeShadowRoot if element is inside shadow root of its scope
+   * @param locator                 element locator
+   * @return folded selector
+   */
+  public static FoldedSelector start(ElementContext scopeElement,
+      boolean isExpandScopeShadowRoot, Locator locator) {
+    List<String> chain = new ArrayList<>();
+    chain.add(locator.getStringValue().trim());
+    return new FoldedSelector(scopeElement, isExpandScopeShadowRoot, chain);
+  }
+
+  /**
+   * @param locator locator of the light DOM element inside last folded scope
+   * @return folded selector for the element
+   */
+  public FoldedSelector add(Locator locator) {
+    List<String> chain = new ArrayList<>(this.chain);
+    chain.add(locator.getStringValue().trim());
+    return new FoldedSelector(scopeElement, isExpandScopeShadowRoot, chain);
+  }
+
+  /**
+   * @return scope of the first folded element
+   */
+  public ElementContext getScopeElement() {
+    return scopeElement;
+  }
+
+  /**
+   * @return true if first folded element is inside shadow root of its scope
+   */
+  public boolean isExpandScopeShadowRoot() {
+    return isExpandScopeShadowRoot;
+  }
+
+  /**
+   * @return descendant selector, relative to scope element unless searched inside shadow root
+   */
+  public String getSelector() {
+    String descendants = String.join(" ", chain);
+    return isExpandScopeShadowRoot ? descendants : SCOPE_PSEUDO_CLASS + " " + descendants;
+  }
+
+  /**
+   * @return original chain of selectors for diagnostics
+   */
+  public String getChainString() {
+    return chain.stream().map(css -> String.format("'%s'", css))
+        .collect(Collectors.joining(", "));
+  }
+
+  // used in tests
+  List<String> getChain() {
+    return chain;
+  }
+}
@@ -72,6 +72,8 @@ public final class TranslationContext {
   private final List<UnionType> interfaceUnionTypes = new ArrayList<>();
   // some union types are declared inside implementing class only
   private final List<UnionType> classUnionTypes = new ArrayList<>();
+  // page object types referenced by this page object, used to compile reachable page objects only
+  private final Set<String> referencedPageObjects = new HashSet<>();
 
 
   public TranslationContext(String pageObjectURI, TranslatorConfig translatorConfiguration) {
@@ -111,7 +113,8 @@ public final class TranslationContext {
   }
 
   public void setGlobalGuardrailsContext(GlobalValidation validation) {
-    validation.setPageObjectElements(pageObjectURI, elementContextMap.values());
+    // copy elements so that global validation does not hold reference to the whole context
+    validation.setPageObjectElements(pageObjectURI, new ArrayList<>(elementContextMap.values()));
   }
 
   public void setAbstract() {
@@ -128,6 +131,7 @@ public final class TranslationContext {
 
   public void setImplementedType(String implementsProperty) {
     this.isImplementationPageObject = true;
+    this.referencedPageObjects.add(implementsProperty);
     this.pageObjectInterfaceType = translationTypesConfig.getInterfaceType(implementsProperty);
   }
 
@@ -140,9 +144,20 @@ public final class TranslationContext {
   }
 
   public TypeProvider getType(String type) {
+    referencedPageObjects.add(type);
     return translationTypesConfig.getInterfaceType(type);
   }
 
+  /**
+   * page object types referenced by this page object: implemented interface, custom elements,
+   * returned types and page object arguments (for example container or frame targets)
+   *
+   * @return collection of page object URIs
+   */
+  public Set<String> getReferencedPageObjects() {
+    return referencedPageObjects;
+  }
+
   public TypeProvider getUtilityType(String type) {
     return translationTypesConfig.getUtilityType(type);
   }
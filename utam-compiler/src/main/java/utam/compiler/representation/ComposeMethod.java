@@ -11,7 +11,10 @@ import static utam.compiler.helpers.ParameterUtils.getParametersValuesString;
 import static utam.compiler.helpers.TypeUtilities.VOID;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
 import utam.compiler.helpers.ElementContext;
 import utam.compiler.helpers.ParameterUtils;
 import utam.core.declarative.representation.MethodParameter;
@@ -26,6 +29,10 @@ import utam.core.declarative.representation.TypeProvider;
  */
 public class ComposeMethod implements PageObjectMethod {
 
+  // changing this affects unit tests results!!!
+  private static final String BATCH_VARIABLE_PREFIX = "batch";
+  private static final int MIN_BATCH_SIZE = 2;
+
   private final String name;
   private final List<MethodParameter> parameters;
   private final List<String> code = new ArrayList<>();
@@ -33,18 +40,27 @@ public class ComposeMethod implements PageObjectMethod {
   private final List<TypeProvider> imports = new ArrayList<>();
   private final TypeProvider returns;
 
+  /**
+   * @param methodName   name of the method
+   * @param returnType   return type
+   * @param parameters   method parameters
+   * @param statements   statements of the method
+   * @param isBatchReads if true, consecutive reads of basic elements are sent at once from worker
+   *                     threads, which needs a driver that accepts concurrent commands
+   */
   public ComposeMethod(String methodName,
       TypeProvider returnType,
       List<MethodParameter> parameters,
-      List<ComposeMethodStatement> statements) {
+      List<ComposeMethodStatement> statements,
+      boolean isBatchReads) {
     this.name = methodName;
     this.returns = returnType;
     statements.forEach(
         statement -> {
-          code.addAll(statement.getCodeLines());
           ParameterUtils.setImports(imports, statement.getImports());
           ParameterUtils.setImports(classImports, statement.getClassImports());
         });
+    code.addAll(isBatchReads ? getBatchedCodeLines(statements) : getCodeLines(statements));
     this.parameters = new ArrayList<>(parameters);
     if(!returnType.isSameType(VOID)) {
       ParameterUtils.setImport(imports, returnType);
@@ -52,6 +68,61 @@ public class ComposeMethod implements PageObjectMethod {
     }
   }
 
+  public ComposeMethod(String methodName,
+      TypeProvider returnType,
+      List<MethodParameter> parameters,
+      List<ComposeMethodStatement> statements) {
+    this(methodName, returnType, parameters, statements, false);
+  }
+
+  private static List<String> getCodeLines(List<ComposeMethodStatement> statements) {
+    List<String> code = new ArrayList<>();
+    statements.forEach(statement -> code.addAll(statement.getCodeLines()));
+    return code;
+  }
+
+  /**
+   * used when method opts in with "batchReads": consecutive reads of basic elements are fused into
+   * one batch that finds elements and reads values at once, any other statement is a barrier. Read
+   * is fused only if its element is not used by another statement, because element variable is not
+   * declared for batched reads.
+   *
+   * @param statements statements of the method
+   * @return code lines of the method
+   */
+  static List<String> getBatchedCodeLines(List<ComposeMethodStatement> statements) {
+    List<String> batchReads = new ArrayList<>(statements.size());
+    Map<String, Integer> operandsUsage = new HashMap<>();
+    for (ComposeMethodStatement statement : statements) {
+      batchReads.add(statement.getBatchReadString());
+      operandsUsage.merge(statement.operand.getOperandString(), 1, Integer::sum);
+    }
+    IntPredicate isBatched = index -> batchReads.get(index) != null
+        && operandsUsage.get(statements.get(index).operand.getOperandString()) == 1;
+    List<String> code = new ArrayList<>();
+    int index = 0;
+    while (index < statements.size()) {
+      int end = index;
+      while (end < statements.size() && isBatched.test(end)) {
+        end++;
+      }
+      if (end - index < MIN_BATCH_SIZE) {
+        code.addAll(statements.get(index).getCodeLines());
+        index++;
+        continue;
+      }
+      String batchVariable = BATCH_VARIABLE_PREFIX + index;
+      code.add(String.format("Object[] %s = this.readInBatch(%s)", batchVariable,
+          String.join(", ", batchReads.subList(index, end))));
+      for (int i = index; i < end; i++) {
+        String batchValue = String.format("%s[%d]", batchVariable, i - index);
+        code.addAll(statements.get(i).getBatchedCodeLines(batchValue));
+      }
+      index = end;
+    }
+    return code;
+  }
+
   static String getElementLocatorString(ElementContext elementContext) {
     if(elementContext.getParameters().isEmpty()) {
       return String.format("this.%s", elementContext.getName());
@@ -15,6 +15,7 @@ import static utam.compiler.helpers.TypeUtilities.wrapAsList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import utam.compiler.helpers.MatcherType;
 import utam.compiler.helpers.MethodContext;
 import utam.compiler.helpers.ParameterUtils;
@@ -41,6 +42,7 @@ public abstract class ComposeMethodStatement {
   private final TypeProvider statementReturns;
   private final TypeProvider matcherOperandType;
   private final TypeProvider actionReturnType;
+  private final Matcher matcher;
 
   ComposeMethodStatement(
       Operand operand,
@@ -56,14 +58,17 @@ public abstract class ComposeMethodStatement {
     setParameters(operation, operand, matcher);
     this.operation = operation;
     this.operand = operand;
+    this.matcher = matcher;
     this.codeLines.addAll(operand.getOperandInstantiationCode(statementReturns));
-    setCodeLines(matcher);
+    this.codeLines.addAll(getInvocationCodeLines(this::getMethodCallString));
   }
 
-  private void setCodeLines(Matcher matcher) {
+  // invocation returns null if statement value is not used
+  private List<String> getInvocationCodeLines(Function<Boolean, String> invocation) {
+    List<String> codeLines = new ArrayList<>();
     String statementVariable = statementContext.getVariableName();
     if (matcher != null) {
-      codeLines.add(getMethodCallString(true));
+      codeLines.add(invocation.apply(true));
       String matcherCode = matcher.matcherType.getCode(statementVariable, matcher.matcherParameters);
       String matcherVariable = statementContext.getMatcherVariableName();
       if (statementContext.isLastStatement() || statementContext.isLastPredicateStatement()) {
@@ -74,15 +79,18 @@ public abstract class ComposeMethodStatement {
       }
     } else {
       boolean isUseVariable = isUseVariable();
-      String invocationStr = getMethodCallString(isUseVariable);
+      String invocationStr = invocation.apply(isUseVariable);
       if (statementContext.isLastPredicateStatement()) {
         String lastStatement = getPredicateReturnStatement();
         codeLines.add(invocationStr.concat(lastStatement));
       } else {
-        codeLines.add(invocationStr);
-        setRegularReturnStatement();
+        if (invocationStr != null) {
+          codeLines.add(invocationStr);
+        }
+        setRegularReturnStatement(codeLines);
       }
     }
+    return codeLines;
   }
 
   private boolean isUseVariable() {
@@ -97,7 +105,7 @@ public abstract class ComposeMethodStatement {
     return !actionReturnType.isSameType(VOID);
   }
 
-  private void setRegularReturnStatement() {
+  private void setRegularReturnStatement(List<String> codeLines) {
     if(statementContext.isReturnSelf()) {
       codeLines.add("return this");
     } else if (statementContext.isLastStatement() && isUseVariable()) {
@@ -167,15 +175,52 @@ public abstract class ComposeMethodStatement {
     return classImports;
   }
 
+  /**
+   * read of a basic element can be sent in a batch with other reads if its value is only used by
+   * the statement itself
+   *
+   * @return lambda that finds element and reads value or null if statement can't be batched
+   */
+  final String getBatchReadString() {
+    if (!(this instanceof Single)
+        || statementContext.isInsidePredicate()
+        || statementContext.isReturnSelf()
+        || statementContext.isUsedAsChain()
+        || !operation.isReadOnly()) {
+      return null;
+    }
+    String operandString = operand.getBatchOperandString();
+    if (operandString == null) {
+      return null;
+    }
+    return String.format("() -> %s.%s", operandString, operation.getInvocationString());
+  }
+
+  /**
+   * code lines of the statement that was read in a batch, element is not instantiated
+   *
+   * @param batchValue code to get value of this statement from the batch
+   * @return code lines
+   */
+  final List<String> getBatchedCodeLines(String batchValue) {
+    return getInvocationCodeLines(useVariable -> useVariable ?
+        String.format("%s(%s) %s", getVariableAssignmentPrefix(true), getVariableTypeName(),
+            batchValue)
+        : null);
+  }
+
   abstract String getMethodCallString(boolean useVariable);
 
+  private String getVariableTypeName() {
+    return matcherOperandType != null ? matcherOperandType.getSimpleName()
+        : getReturnType().getSimpleName();
+  }
+
   final String getVariableAssignmentPrefix(boolean useVariable) {
     if (!useVariable || isReturnVoid()) {
       return "";
     }
-    String returnTypeStr = matcherOperandType != null ? matcherOperandType.getSimpleName()
-        : getReturnType().getSimpleName();
-    return String.format("%s %s = ", returnTypeStr, statementContext.getVariableName());
+    return String.format("%s %s = ", getVariableTypeName(), statementContext.getVariableName());
   }
 
   /**
@@ -276,6 +321,13 @@ public abstract class ComposeMethodStatement {
     }
 
     protected abstract String getOperandString();
+
+    /**
+     * @return code that finds the element inside a batch or null if operand can't be batched
+     */
+    protected String getBatchOperandString() {
+      return null;
+    }
   }
 
   /**
@@ -291,6 +343,10 @@ public abstract class ComposeMethodStatement {
 
     public abstract TypeProvider getReturnType();
 
+    protected boolean isReadOnly() {
+      return false;
+    }
+
     protected List<TypeProvider> getAddedClassImports() {
       return new ArrayList<>();
     }
@@ -32,6 +32,11 @@ public final class ElementField implements PageClassField {
     this.annotations = Collections.singletonList(annotation);
   }
 
+  public ElementField(String name, List<AnnotationProvider> annotations) {
+    this.name = name;
+    this.annotations = annotations;
+  }
+
   @Override
   public String getName() {
     return name;
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import utam.compiler.helpers.BasicElementUnionType;
 import utam.compiler.helpers.ElementContext;
 import utam.compiler.helpers.MatcherType;
 import utam.compiler.helpers.ParameterUtils;
@@ -74,12 +75,26 @@ public abstract class ElementMethod implements PageObjectMethod {
     return "";
   }
 
+  // private elements with shared type are instantiated as BasePageElement
+  private static String getImplementationSimpleName(TypeProvider elementType) {
+    if (elementType instanceof BasicElementUnionType) {
+      return ((BasicElementUnionType) elementType).getImplementationSimpleName();
+    }
+    return elementType.getSimpleName() + "Impl";
+  }
+
+  // elements marked with "injectText" are built with text injection enabled
+  private static String getElementBuilderCode(String elementName, boolean isInjectText) {
+    return String.format("element(this.%s)%s", elementName,
+        isInjectText ? ".withTextInjection()" : "");
+  }
+
   static String getElementMethodCode(ElementContext element, boolean isList) {
-    return String.format("element(this.%s).%s(%s.class, %sImpl.class%s)",
-        element.getName(),
+    return String.format("%s.%s(%s.class, %s.class%s)",
+        getElementBuilderCode(element.getName(), element.isInjectText()),
         isList? "buildList" : "build",
         element.getType().getSimpleName(),
-        element.getType().getSimpleName(),
+        getImplementationSimpleName(element.getType()),
         getParametersVararg(element.getParameters()));
   }
 
@@ -88,13 +103,14 @@ public abstract class ElementMethod implements PageObjectMethod {
       TypeProvider elementType,
       List<MethodParameter> elementParameters,
       String predicateCode,
-      boolean isReturnFirstMatch) {
+      boolean isReturnFirstMatch,
+      boolean isInjectText) {
     return String.format(
-        "element(this.%s).%s(%s.class, %sImpl.class, %s%s)",
-        elementName,
+        "%s.%s(%s.class, %s.class, %s%s)",
+        getElementBuilderCode(elementName, isInjectText),
         isReturnFirstMatch ? "build" : "buildList",
         elementType.getSimpleName(),
-        elementType.getSimpleName(),
+        getImplementationSimpleName(elementType),
         predicateCode,
         getParametersVararg(elementParameters));
   }
@@ -224,6 +240,21 @@ public abstract class ElementMethod implements PageObjectMethod {
         MatcherType matcherType,
         List<MethodParameter> matcherParameters,
         boolean isFindFirstMatch) {
+      this(elementName, elementType, elementParameters, isPublic, applyMethod, applyParameters,
+          matcherType, matcherParameters, isFindFirstMatch, false);
+    }
+
+    public Filtered(
+        String elementName,
+        TypeProvider elementType,
+        List<MethodParameter> elementParameters,
+        boolean isPublic,
+        String applyMethod,
+        List<MethodParameter> applyParameters,
+        MatcherType matcherType,
+        List<MethodParameter> matcherParameters,
+        boolean isFindFirstMatch,
+        boolean isInjectText) {
       this.isPublic = isPublic;
       this.methodName = getElementGetterMethodName(elementName, isPublic);
       this.returnType = isFindFirstMatch ? elementType : wrapAsList(elementType);
@@ -238,7 +269,8 @@ public abstract class ElementMethod implements PageObjectMethod {
               elementType,
               elementParameters,
               getPredicateCode(applyMethod, applyParameters, matcherType, matcherParameters),
-              isFindFirstMatch);
+              isFindFirstMatch,
+              isInjectText);
     }
 
     @Override
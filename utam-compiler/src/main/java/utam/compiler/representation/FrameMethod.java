@@ -53,7 +53,7 @@ public class FrameMethod extends ElementMethod {
 
   @Override
   public List<String> getCodeLines() {
-    return  Stream.of(methodCode).collect(Collectors.toList());
+    return Stream.of("return " + methodCode).collect(Collectors.toList());
   }
 
   @Override
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.translator;
+
+import static utam.core.framework.UtamLogger.info;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * collects time and allocations spent in every compiler phase, overall and per page object. While
+ * profiler is active for the current thread, compiler code measures phases with
+ * <code>try (Measurement m = CompilerProfiler.getCurrent().start(Phase.PARSE)) {...}</code>.
+ * Phases are exclusive: time of a nested phase (for example formatting during serialization) is
+ * not counted in the outer phase, so phase totals add up to the total time. Inactive profiler
+ * does not measure anything.
+ *
+ * @since 236
+ */
+public class CompilerProfiler {
+
+  static final int DEFAULT_SLOWEST_COUNT = 10;
+  private static final CompilerProfiler DISABLED = new CompilerProfiler(false);
+  private static final ThreadLocal<CompilerProfiler> CURRENT = ThreadLocal
+      .withInitial(() -> DISABLED);
+  private static final Measurement NOT_MEASURED = () -> {
+  };
+  private static final long NOT_SUPPORTED = -1;
+  private final boolean isEnabled;
+  private final Statistics total = new Statistics();
+  private final Map<String, Statistics> pageObjects = new LinkedHashMap<>();
+  private final Deque<PhaseMeasurement> activeMeasurements = new ArrayDeque<>();
+  private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+  private final boolean isAllocationSupported;
+  private Statistics currentPageObject;
+
+  private CompilerProfiler(boolean isEnabled) {
+    this.isEnabled = isEnabled;
+    this.isAllocationSupported = isEnabled && isAllocationSupported(threadBean);
+  }
+
+  public CompilerProfiler() {
+    this(true);
+  }
+
+  private static boolean isAllocationSupported(ThreadMXBean bean) {
+    if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+      return false;
+    }
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+    return allocationBean.isThreadAllocatedMemorySupported()
+        && allocationBean.isThreadAllocatedMemoryEnabled();
+  }
+
+  /**
+   * @return profiler active for current thread or profiler that does not measure anything
+   */
+  public static CompilerProfiler getCurrent() {
+    return CURRENT.get();
+  }
+
+  /**
+   * make this profiler current for the calling thread
+   */
+  public void activate() {
+    if (isEnabled) {
+      CURRENT.set(this);
+    }
+  }
+
+  /**
+   * stop measuring in the calling thread
+   */
+  public void deactivate() {
+    if (isEnabled) {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * following measurements are attributed to given page object
+   *
+   * @param pageObjectURI page object URI or null for measurements of the whole module, like scan
+   */
+  public void setPageObject(String pageObjectURI) {
+    if (!isEnabled) {
+      return;
+    }
+    currentPageObject = pageObjectURI == null ? null
+        : pageObjects.computeIfAbsent(pageObjectURI, uri -> new Statistics());
+  }
+
+  /**
+   * start measuring phase, measurement should be closed when phase is over
+   *
+   * @param phase compiler phase
+   * @return measurement to close
+   */
+  public Measurement start(Phase phase) {
+    if (!isEnabled) {
+      return NOT_MEASURED;
+    }
+    PhaseMeasurement outer = activeMeasurements.peek();
+    if (outer != null) {
+      outer.pause();
+    }
+    PhaseMeasurement measurement = new PhaseMeasurement(phase, currentPageObject);
+    activeMeasurements.push(measurement);
+    return measurement;
+  }
+
+  private long getAllocatedBytes() {
+    if (!isAllocationSupported) {
+      return NOT_SUPPORTED;
+    }
+    return ((com.sun.management.ThreadMXBean) threadBean)
+        .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * @param slowestCount number of slowest page objects to include
+   * @return report that can be serialized to JSON
+   */
+  public Map<String, Object> getReport(int slowestCount) {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("totalMsec", toMsec(total.getNanos()));
+    report.put("totalAllocatedBytes", total.getAllocatedBytes());
+    report.put("pageObjectsCount", pageObjects.size());
+    report.put("phases", total.getPhases());
+    report.put("slowest", getPageObjectsReport(getSlowestPageObjects(slowestCount)));
+    report.put("pageObjects", getPageObjectsReport(new ArrayList<>(pageObjects.keySet())));
+    return report;
+  }
+
+  List<String> getSlowestPageObjects(int slowestCount) {
+    return pageObjects.entrySet().stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<String, Statistics> entry) -> entry.getValue().getNanos()).reversed())
+        .limit(slowestCount)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+  }
+
+  private List<Map<String, Object>> getPageObjectsReport(List<String> pageObjectURIs) {
+    List<Map<String, Object>> report = new ArrayList<>();
+    for (String pageObjectURI : pageObjectURIs) {
+      Statistics statistics = pageObjects.get(pageObjectURI);
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("pageObject", pageObjectURI);
+      entry.put("msec", toMsec(statistics.getNanos()));
+      entry.put("allocatedBytes", statistics.getAllocatedBytes());
+      entry.put("phases", statistics.getPhases());
+      report.add(entry);
+    }
+    return report;
+  }
+
+  /**
+   * write JSON report to a file
+   *
+   * @param file report file
+   * @throws IOException if file can't be written
+   */
+  public void writeReport(File file) throws IOException {
+    new ObjectMapper()
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(file, getReport(DEFAULT_SLOWEST_COUNT));
+  }
+
+  /**
+   * log time of every phase and slowest page objects
+   */
+  public void logSummary() {
+    info(String.format("compiler profile: %d page objects, took %.1f msec",
+        pageObjects.size(), toMsec(total.getNanos())));
+    for (Phase phase : Phase.values()) {
+      long nanos = total.phaseNanos.get(phase);
+      if (nanos > 0) {
+        info(String.format("  %-18s %10.1f msec %5.1f%%", phase.getName(), toMsec(nanos),
+            100.0 * nanos / Math.max(1, total.getNanos())));
+      }
+    }
+    info("slowest page objects:");
+    for (String pageObjectURI : getSlowestPageObjects(DEFAULT_SLOWEST_COUNT)) {
+      info(String.format("  %-60s %10.1f msec", pageObjectURI,
+          toMsec(pageObjects.get(pageObjectURI).getNanos())));
+    }
+  }
+
+  private static double toMsec(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  /**
+   * compiler phases
+   *
+   * @since 236
+   */
+  public enum Phase {
+    SCAN,
+    READ,
+    PARSE,
+    COMPILE,
+    LOCAL_GUARDRAILS,
+    GLOBAL_GUARDRAILS,
+    SERIALIZE,
+    FORMAT,
+    WRITE,
+    UNIT_TEST;
+
+    String getName() {
+      return name().toLowerCase();
+    }
+  }
+
+  /**
+   * measurement of a phase, closing it stops the timer
+   *
+   * @since 236
+   */
+  public interface Measurement extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  // accumulated time and allocations by phase
+  private static final class Statistics {
+
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+    private final Map<Phase, Long> phaseAllocations = new EnumMap<>(Phase.class);
+
+    Statistics() {
+      for (Phase phase : Phase.values()) {
+        phaseNanos.put(phase, 0L);
+        phaseAllocations.put(phase, 0L);
+      }
+    }
+
+    void add(Phase phase, long nanos, long allocatedBytes) {
+      phaseNanos.merge(phase, nanos, Long::sum);
+      phaseAllocations.merge(phase, allocatedBytes, Long::sum);
+    }
+
+    long getNanos() {
+      return phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    long getAllocatedBytes() {
+      return phaseAllocations.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    Map<String, Map<String, Object>> getPhases() {
+      Map<String, Map<String, Object>> phases = new LinkedHashMap<>();
+      for (Phase phase : Phase.values()) {
+        if (phaseNanos.get(phase) > 0) {
+          Map<String, Object> entry = new LinkedHashMap<>();
+          entry.put("msec", toMsec(phaseNanos.get(phase)));
+          entry.put("allocatedBytes", phaseAllocations.get(phase));
+          phases.put(phase.getName(), entry);
+        }
+      }
+      return phases;
+    }
+  }
+
+  private final class PhaseMeasurement implements Measurement {
+
+    private final Phase phase;
+    private final Statistics pageObject;
+    private long nanos;
+    private long allocatedBytes;
+    private long startedNanos;
+    private long startedAllocatedBytes;
+
+    PhaseMeasurement(Phase phase, Statistics pageObject) {
+      this.phase = phase;
+      this.pageObject = pageObject;
+      resume();
+    }
+
+    void resume() {
+      startedAllocatedBytes = getAllocatedBytes();
+      startedNanos = System.nanoTime();
+    }
+
+    void pause() {
+      nanos += System.nanoTime() - startedNanos;
+      if (startedAllocatedBytes != NOT_SUPPORTED) {
+        allocatedBytes += getAllocatedBytes() - startedAllocatedBytes;
+      }
+    }
+
+    @Override
+    public void close() {
+      pause();
+      activeMeasurements.remove(this);
+      total.add(phase, nanos, allocatedBytes);
+      if (pageObject != null) {
+        pageObject.add(phase, nanos, allocatedBytes);
+      }
+      PhaseMeasurement outer = activeMeasurements.peek();
+      if (outer != null) {
+        outer.resume();
+      }
+    }
+  }
+}
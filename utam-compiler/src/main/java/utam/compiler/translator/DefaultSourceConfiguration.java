@@ -15,18 +15,27 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
-import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import utam.compiler.UtamCompilationError;
@@ -46,6 +55,8 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
   static final String ERR_IO_DURING_SCAN = "Error while scanning file(s) path %s";
   private static final String PAGE_OBJECT_URI_FORMAT = "%s/pageObjects/%s";
   private final Map<String, String> sourcePath = new HashMap<>();
+  // compiled file masks, to avoid compiling same regex for every scanned file
+  private final Map<String, Pattern> fileMaskPatterns = new HashMap<>();
   private final RecursiveScanner scanner;
   private final ScannerConfig scannerConfig;
 
@@ -80,11 +91,12 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
   }
 
   String getPageObjectURI(String packageName, Path filePath, String fileMaskRegex) {
-    final Pattern relativePattern = Pattern.compile(fileMaskRegex);
+    final Pattern relativePattern = fileMaskPatterns
+        .computeIfAbsent(fileMaskRegex, Pattern::compile);
     Matcher matcher = relativePattern.matcher(filePath.toString());
     // gets text inside () of the mask, usually PO file name
     final String relativePath = matcher.find() ? matcher.group(1) : "";
-    final String relativePageObjectName = relativePath.replaceAll(Pattern.quote("."), File.separator);
+    final String relativePageObjectName = relativePath.replace(".", File.separator);
     return String.format(PAGE_OBJECT_URI_FORMAT, packageName, relativePageObjectName);
   }
 
@@ -108,10 +120,7 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
 
   @Override
   public void recursiveScan() {
-    for (String packageName : scannerConfig.getAllPackages()) {
-      String fileMaskRegex = scannerConfig.getFileMask(packageName);
-      scanner.scan(this, packageName, fileMaskRegex);
-    }
+    scanner.scan(this, scannerConfig.getFileMasks());
   }
 
   // for tests
@@ -128,25 +137,101 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
   public static class RecursiveScanner {
 
     final String rootFolder;
+    private final Set<String> ignoredDirectories = new HashSet<>();
 
-    public RecursiveScanner(String rootFolder) {
+    /**
+     * @param rootFolder         root folder to scan
+     * @param ignoredDirectories names of the directories that are not scanned, ex. "node_modules"
+     */
+    public RecursiveScanner(String rootFolder, Collection<String> ignoredDirectories) {
       this.rootFolder = rootFolder;
+      if (ignoredDirectories != null) {
+        this.ignoredDirectories.addAll(ignoredDirectories);
+      }
+    }
+
+    public RecursiveScanner(String rootFolder) {
+      this(rootFolder, Collections.emptyList());
     }
 
     void scan(DefaultSourceConfiguration config, String packageName, String fileMaskRegex) {
-      PathMatcher matcher = FileSystems.getDefault().getPathMatcher("regex:" + fileMaskRegex);
+      scan(config, Collections.singletonMap(packageName, fileMaskRegex));
+    }
+
+    /**
+     * walk files tree once for all packages, every file is matched against masks of all packages,
+     * subdirectories are traversed in parallel
+     *
+     * @param config    source config to register found page objects
+     * @param fileMasks file mask for each package name
+     */
+    void scan(DefaultSourceConfiguration config, Map<String, String> fileMasks) {
+      if (fileMasks.isEmpty()) {
+        return;
+      }
+      Map<String, Pattern> patterns = new HashMap<>();
+      fileMasks.forEach((packageName, mask) -> patterns.put(packageName, Pattern.compile(mask)));
+      Queue<Entry<String, Path>> found = new ConcurrentLinkedQueue<>();
       try {
-        Files.walkFileTree(Paths.get(rootFolder), new SimpleFileVisitor<>() {
-          @Override
-          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-            if (matcher.matches(file)) {
-              config.preProcess(packageName, file, fileMaskRegex);
-            }
-            return FileVisitResult.CONTINUE;
+        ForkJoinPool.commonPool()
+            .invoke(new DirectoryScan(Paths.get(rootFolder), patterns, found));
+      } catch (UncheckedIOException | NullPointerException e) {
+        throw new UtamCompilationError(String.format(ERR_IO_DURING_SCAN, rootFolder), e);
+      }
+      // page objects are registered from one thread and in predictable order
+      List<Entry<String, Path>> sorted = new ArrayList<>(found);
+      sorted.sort(Comparator.comparing((Entry<String, Path> entry) -> entry.getValue())
+          .thenComparing(Entry::getKey));
+      sorted.forEach(entry -> config
+          .preProcess(entry.getKey(), entry.getValue(), fileMasks.get(entry.getKey())));
+    }
+
+    // scans files in a directory and forks scan of each subdirectory
+    private class DirectoryScan extends RecursiveAction {
+
+      private static final long serialVersionUID = 1L;
+      private final Path path;
+      private final Map<String, Pattern> patterns;
+      private final Queue<Entry<String, Path>> found;
+
+      DirectoryScan(Path path, Map<String, Pattern> patterns, Queue<Entry<String, Path>> found) {
+        this.path = path;
+        this.patterns = patterns;
+        this.found = found;
+      }
+
+      private void match(Path file) {
+        String fileName = file.toString();
+        patterns.forEach((packageName, pattern) -> {
+          if (pattern.matcher(fileName).matches()) {
+            found.add(new SimpleEntry<>(packageName, file));
           }
         });
-      } catch (IOException | NullPointerException e) {
-        throw new UtamCompilationError(String.format(ERR_IO_DURING_SCAN, rootFolder), e);
+      }
+
+      @Override
+      protected void compute() {
+        // same as Files.walkFileTree: symbolic links are not followed
+        if (!Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+          if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+            throw new UncheckedIOException(new IOException(path.toString()));
+          }
+          match(path);
+          return;
+        }
+        List<DirectoryScan> subdirectories = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+          for (Path entry : stream) {
+            if (!Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+              match(entry);
+            } else if (!ignoredDirectories.contains(entry.getFileName().toString())) {
+              subdirectories.add(new DirectoryScan(entry, patterns, found));
+            }
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        invokeAll(subdirectories);
       }
     }
   }
@@ -170,11 +255,13 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
     }
 
     @Override
-    void scan(DefaultSourceConfiguration config, String packageName, String fileMaskRegex) {
-      Pattern relativePattern = Pattern.compile(fileMaskRegex);
-      inputFiles.stream()
-          .filter(file -> relativePattern.matcher(file.toString()).matches())
-          .forEach(file -> config.preProcess(packageName, file.toPath(), fileMaskRegex));
+    void scan(DefaultSourceConfiguration config, Map<String, String> fileMasks) {
+      fileMasks.forEach((packageName, fileMaskRegex) -> {
+        Pattern relativePattern = Pattern.compile(fileMaskRegex);
+        inputFiles.stream()
+            .filter(file -> relativePattern.matcher(file.toString()).matches())
+            .forEach(file -> config.preProcess(packageName, file.toPath(), fileMaskRegex));
+      });
     }
 
   }
@@ -205,6 +292,10 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
     String getFileMask(String packageName) {
       return packagesMapping.get(packageName);
     }
+
+    Map<String, String> getFileMasks() {
+      return packagesMapping;
+    }
   }
 
   /**
@@ -215,31 +306,22 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
   static class SourceWithoutPackages extends DefaultSourceConfiguration {
 
     private final String pageObjectFileMask;
-    private final String rootFolder;
+    private final RecursiveScanner scanner;
     private static final String DEFAULT_PACKAGE_NAME = "utam";
 
-    SourceWithoutPackages(String rootFolder, String pageObjectsFileMask) {
-      super(new ScannerConfig(pageObjectsFileMask, new HashMap<>()), new RecursiveScanner(rootFolder));
+    SourceWithoutPackages(RecursiveScanner scanner, String pageObjectsFileMask) {
+      super(new ScannerConfig(pageObjectsFileMask, new HashMap<>()), scanner);
       this.pageObjectFileMask = pageObjectsFileMask;
-      this.rootFolder = rootFolder;
+      this.scanner = scanner;
+    }
+
+    SourceWithoutPackages(String rootFolder, String pageObjectsFileMask) {
+      this(new RecursiveScanner(rootFolder), pageObjectsFileMask);
     }
 
     @Override
     public void recursiveScan() {
-      PathMatcher matcher = FileSystems.getDefault().getPathMatcher("regex:" + pageObjectFileMask);
-      try {
-        Files.walkFileTree(Paths.get(rootFolder), new SimpleFileVisitor<>() {
-          @Override
-          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-            if (matcher.matches(file)) {
-              preProcess(DEFAULT_PACKAGE_NAME, file, pageObjectFileMask);
-            }
-            return FileVisitResult.CONTINUE;
-          }
-        });
-      } catch (IOException | NullPointerException e) {
-        throw new UtamCompilationError(String.format(ERR_IO_DURING_SCAN, rootFolder), e);
-      }
+      scanner.scan(this, DEFAULT_PACKAGE_NAME, pageObjectFileMask);
     }
 
     @Override
@@ -132,6 +132,18 @@ public class DefaultTargetConfiguration implements TranslatorTargetConfig {
     return getWriter(fullPath);
   }
 
+  @Override
+  public int deleteGeneratedFiles(TypeProvider pageObjectType, boolean isUnitTest) {
+    int counter = 0;
+    if (new File(getPageObjectClassPath(pageObjectType)).delete()) {
+      counter++;
+    }
+    if (isUnitTest && new File(getPageObjectTestClassPath(pageObjectType)).delete()) {
+      counter++;
+    }
+    return counter;
+  }
+
   @Override
   public UnitTestRunner getUnitTestRunnerType() {
     return unitTestRunner;
@@ -8,29 +8,43 @@
 package utam.compiler.translator;
 
 import static utam.core.framework.UtamLogger.info;
+import static utam.core.framework.consumer.SharedArchiveTrainer.getClassListName;
 import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 import utam.compiler.UtamCompilationError;
+import utam.compiler.translator.CompilerProfiler.Measurement;
+import utam.compiler.translator.CompilerProfiler.Phase;
 import utam.compiler.grammar.JsonDeserializer;
 import utam.compiler.guardrails.GlobalValidation;
 import utam.core.declarative.representation.PageObjectClass;
 import utam.core.declarative.representation.PageObjectDeclaration;
 import utam.core.declarative.representation.PageObjectInterface;
 import utam.core.declarative.representation.TypeProvider;
+import utam.core.declarative.translator.GuardrailsMode;
 import utam.core.declarative.translator.ProfileConfiguration;
 import utam.core.declarative.translator.TranslatorConfig;
 import utam.core.declarative.translator.TranslatorRunner;
 import utam.core.declarative.translator.TranslatorSourceConfig;
 import utam.core.declarative.translator.TranslatorTargetConfig;
 import utam.core.declarative.translator.UnitTestRunner;
+import utam.core.framework.UtamLogger;
 import utam.core.framework.consumer.UtamError;
 import utam.core.framework.context.Profile;
 
@@ -45,18 +59,37 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
   static final String ERR_PROFILE_PATH_DOES_NOT_EXIST =
       "can't write profiles output, profile path '%s' does not exist";
   static final String ERR_PROFILE_PATH_NOT_CONFIGURED = "profile config path is null or empty";
+  static final String INFO_CLASS_LIST_SKIPPED =
+      "resources root is not configured, list of generated classes is not written";
   static final String DUPLICATE_PAGE_OBJECT_NAME = "declaration '%s' already generated";
   static final String DUPLICATE_IMPL_ERR =
       "default implementation for type '%s' is already set as '%s'";
   static final String DUPLICATE_IMPL_WITH_PROFILE_ERR =
       "can't set dependency as '%s' for type '%s', it was already set as '%s' for profile %s";
   static final String PROFILE_NOT_CONFIGURED_ERR = "profile '%s' is not configured";
+  static final String ERR_WRITING_PAGE_OBJECT = "error while writing page object '%s'";
+  static final String ERR_ROOT_PAGE_OBJECT_NOT_FOUND = "root page object '%s' is not found in sources";
+  static final String ERR_UNRESOLVED_REFERENCES =
+      "referenced page object types can't be resolved: %s";
+  private static final long MEGABYTE = 1024L * 1024L;
   private final TranslatorConfig translatorConfig;
   private final Map<String, PageObjectDeclaration> generated = new HashMap<>();
+  // in streaming mode only names of already written page objects are kept
+  private final Set<String> written = new HashSet<>();
   private final Map<Profile, Map<String, String>> profilesMapping = new HashMap<>();
+  // JVM internal names of all generated classes, including nested element types
+  private final Set<String> generatedClasses = new TreeSet<>();
   private final Profile defaultProfile;
   // max number of POs to generate for generator performance measurements
   private int maxPageObjectsCounter = Integer.MAX_VALUE;
+  // if true, every page object is written right after compilation and is not kept in memory
+  private boolean isStreamingMode = false;
+  // if set, only page objects reachable from roots are compiled
+  private Collection<String> rootPageObjects;
+  // resolves referenced page objects that are not in sources, by default only compiler classpath
+  private ClassLoader externalTypesLoader = getClass().getClassLoader();
+  // by default profiler is disabled unless runner is created while profiling
+  private CompilerProfiler profiler = CompilerProfiler.getCurrent();
 
   public DefaultTranslatorRunner(TranslatorConfig translatorConfig) {
     this.translatorConfig = translatorConfig;
@@ -90,40 +123,144 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
     int counter = 0;
     int filesCounter = 0;
     long timer = System.currentTimeMillis();
-    for (String name : getGeneratedPageObjectsNames()) {
-      if (counter >= maxPageObjectsCounter) {
-        break;
-      }
-      PageObjectDeclaration object = getGeneratedObject(name);
-      PageObjectInterface pageObjectInterface = object.getInterface();
-      if (object.isClassWithInterface()) {
-        info(
-            String.format(
-                "write interface %s", pageObjectInterface.getInterfaceType().getFullName()));
-        write(pageObjectInterface.getInterfaceType(), pageObjectInterface.getGeneratedCode());
-        filesCounter++;
-      } else {
-        info(
-            String.format(
-                "interface %s already exists",
-                pageObjectInterface.getInterfaceType().getFullName()));
-      }
-      if (!object.isInterfaceOnly()) {
-        info(
-            String.format(
-                "write class %s", object.getImplementation().getClassType().getFullName()));
-        write(object.getImplementation().getClassType(), object.getImplementation().getGeneratedCode());
-        filesCounter++;
-        if (writeUnitTest(object.getImplementation())) {
-          filesCounter++;
+    profiler.activate();
+    try {
+      for (String name : getGeneratedPageObjectsNames()) {
+        if (counter >= maxPageObjectsCounter) {
+          break;
+        }
+        if (!isWriteRequired(name)) {
+          continue;
         }
+        profiler.setPageObject(name);
+        filesCounter += write(getGeneratedObject(name));
+        counter++;
       }
-      counter++;
+    } finally {
+      profiler.setPageObject(null);
+      profiler.deactivate();
     }
     info(String.format("generated %d files for %d page objects, took %d msec", filesCounter, counter,
         System.currentTimeMillis() - timer));
   }
 
+  // returns number of written files
+  private int write(PageObjectDeclaration object) throws IOException {
+    int filesCounter = 0;
+    PageObjectInterface pageObjectInterface = object.getInterface();
+    if (object.isClassWithInterface()) {
+      info(
+          String.format(
+              "write interface %s", pageObjectInterface.getInterfaceType().getFullName()));
+      String code;
+      try (Measurement measurement = profiler.start(Phase.SERIALIZE)) {
+        code = pageObjectInterface.getGeneratedCode();
+      }
+      write(pageObjectInterface.getInterfaceType(), code);
+      filesCounter++;
+    } else {
+      info(
+          String.format(
+              "interface %s already exists",
+              pageObjectInterface.getInterfaceType().getFullName()));
+    }
+    if (!object.isInterfaceOnly()) {
+      info(
+          String.format(
+              "write class %s", object.getImplementation().getClassType().getFullName()));
+      String code;
+      try (Measurement measurement = profiler.start(Phase.SERIALIZE)) {
+        code = object.getImplementation().getGeneratedCode();
+      }
+      write(object.getImplementation().getClassType(), code);
+      filesCounter++;
+      if (writeUnitTest(object.getImplementation())) {
+        filesCounter++;
+      }
+    }
+    return filesCounter;
+  }
+
+  /**
+   * delete files generated for a page object that was removed from sources
+   *
+   * @param object page object compiled by a previous run
+   * @return number of deleted files
+   * @throws IOException if file can't be deleted
+   */
+  protected final int deleteGeneratedFiles(PageObjectDeclaration object) throws IOException {
+    int filesCounter = 0;
+    if (object.isClassWithInterface()) {
+      filesCounter += getTargetConfig()
+          .deleteGeneratedFiles(object.getInterface().getInterfaceType(), false);
+    }
+    if (!object.isInterfaceOnly()) {
+      boolean isUnitTest =
+          getTargetConfig().getUnitTestRunnerType() != UnitTestRunner.NONE;
+      filesCounter += getTargetConfig()
+          .deleteGeneratedFiles(object.getImplementation().getClassType(), isUnitTest);
+    }
+    return filesCounter;
+  }
+
+  /**
+   * in streaming mode every Page Object is written right after it was compiled, after that only
+   * its name, elements for global guardrails and profiles mapping are kept in memory. Global
+   * guardrails run after all Page Objects are written.
+   *
+   * @param isStreamingMode true to enable streaming mode
+   */
+  public void setStreamingMode(boolean isStreamingMode) {
+    this.isStreamingMode = isStreamingMode;
+  }
+
+  /**
+   * compile only page objects reachable from given roots by type references: implemented
+   * interfaces, custom elements, returned types and page object arguments such as container or
+   * frame targets. Referenced types that are not found in sources should be present in the
+   * classpath set with {@link #setExternalClasspath(Collection)}, otherwise an error or warning is
+   * reported depending on the guardrails mode. Without configured classpath only the compiler's own
+   * classpath is checked, which usually does not contain page objects of other modules.
+   *
+   * @param rootPageObjects URIs of root page objects, null to compile all page objects
+   */
+  public void setRootPageObjects(Collection<String> rootPageObjects) {
+    this.rootPageObjects = rootPageObjects;
+  }
+
+  /**
+   * set classpath of the target module to resolve page objects referenced from other modules when
+   * compiling from roots, compiler's own classpath is still checked as well
+   *
+   * @param classpath jars or folders with compiled page objects, null or empty to use only compiler
+   *                  classpath
+   */
+  public void setExternalClasspath(Collection<File> classpath) {
+    if (classpath == null || classpath.isEmpty()) {
+      this.externalTypesLoader = getClass().getClassLoader();
+      return;
+    }
+    URL[] urls = new URL[classpath.size()];
+    int i = 0;
+    for (File entry : classpath) {
+      try {
+        urls[i++] = entry.toURI().toURL();
+      } catch (MalformedURLException e) {
+        throw new UtamCompilationError(String.format("invalid classpath entry '%s'", entry), e);
+      }
+    }
+    this.externalTypesLoader = new URLClassLoader(urls, getClass().getClassLoader());
+  }
+
+  /**
+   * measure time and allocations of every compiler phase during run and write
+   *
+   * @param profiler profiler to collect measurements
+   */
+  public void setProfiler(CompilerProfiler profiler) {
+    this.profiler = profiler;
+  }
+
   // set max number of POs to generate for generator performance measurements
   protected void setMaxToGenerate(int number) {
     this.maxPageObjectsCounter = number;
@@ -139,7 +276,7 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
     // Legitimate case for writer == null is that the runner configuration
     // wants to write unit tests, but skip files that already exist.
     if (writer != null) {
-      try {
+      try (Measurement measurement = profiler.start(Phase.UNIT_TEST)) {
         info(String.format("generating unit test for %s", typeProvider.getFullName()));
         writer.write(impl.getGeneratedUnitTestCode(
             translatorConfig.getConfiguredTarget().getUnitTestRunnerType()));
@@ -152,8 +289,8 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
   }
 
   private void write(TypeProvider typeProvider, String code) throws IOException {
-    Writer writer = getTargetConfig().getClassWriter(typeProvider);
-    try {
+    try (Measurement measurement = profiler.start(Phase.WRITE)) {
+      Writer writer = getTargetConfig().getClassWriter(typeProvider);
       writer.write(code);
       writer.flush();
     } catch (IOException e) {
@@ -161,31 +298,166 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
     }
   }
 
+  protected final TranslatorConfig getTranslatorConfig() {
+    return translatorConfig;
+  }
+
   private TranslatorTargetConfig getTargetConfig() {
     return translatorConfig.getConfiguredTarget();
   }
 
   @Override
   public void run() {
+    profiler.activate();
+    try {
+      compile();
+    } finally {
+      profiler.setPageObject(null);
+      profiler.deactivate();
+    }
+  }
+
+  private void compile() {
     int counter = 0;
+    int filesCounter = 0;
     long timer = System.currentTimeMillis();
+    long heapBefore = getUsedHeap();
+    long heapPeak = heapBefore;
     TranslatorSourceConfig sourceConfig = translatorConfig.getConfiguredSource();
     GlobalValidation globalGuardrails = new GlobalValidation(translatorConfig.getValidationMode());
-    sourceConfig.recursiveScan();
-    for (String pageObjectURI : sourceConfig.getPageObjects()) {
+    try (Measurement measurement = profiler.start(Phase.SCAN)) {
+      sourceConfig.recursiveScan();
+    }
+    Collection<String> sources = sourceConfig.getPageObjects();
+    // lookup for reachability mode, list of sources might not be a set
+    Set<String> sourcesIndex =
+        rootPageObjects == null ? Collections.emptySet() : new HashSet<>(sources);
+    Deque<String> queue = new ArrayDeque<>(getRootPageObjects(sources, sourcesIndex));
+    Set<String> scheduled = new HashSet<>(queue);
+    Set<String> unresolved = new TreeSet<>();
+    while (!queue.isEmpty()) {
       if (counter >= maxPageObjectsCounter) {
         break;
       }
+      String pageObjectURI = queue.poll();
+      profiler.setPageObject(pageObjectURI);
       info(String.format("de-serialize Page Object %s", pageObjectURI));
-      JsonDeserializer deserializer = new JsonDeserializer(translatorConfig, sourceConfig, pageObjectURI);
+      JsonDeserializer deserializer = getDeserializer(sourceConfig, pageObjectURI);
       PageObjectDeclaration object = deserializer.getObject();
       setPageObject(pageObjectURI, object);
       deserializer.getPageObjectContext().setGlobalGuardrailsContext(globalGuardrails);
+      if (isStreamingMode) {
+        filesCounter += writeAndRelease(pageObjectURI, object);
+      }
+      if (rootPageObjects != null) {
+        for (String referenced : deserializer.getPageObjectContext().getReferencedPageObjects()) {
+          if (sourcesIndex.contains(referenced)) {
+            if (scheduled.add(referenced)) {
+              queue.add(referenced);
+            }
+          } else if (!isExternalType(referenced)) {
+            unresolved.add(referenced);
+          }
+        }
+      }
+      heapPeak = Math.max(heapPeak, getUsedHeap());
       counter++;
     }
+    if (!unresolved.isEmpty()) {
+      String message = String.format(ERR_UNRESOLVED_REFERENCES, unresolved);
+      if (translatorConfig.getValidationMode() == GuardrailsMode.ERROR) {
+        throw new UtamCompilationError(message);
+      }
+      UtamLogger.warning(message);
+    }
+    if (rootPageObjects != null) {
+      info(String.format("%d of %d page objects are reachable from %d roots", scheduled.size(),
+          sources.size(), rootPageObjects.size()));
+    }
+    profiler.setPageObject(null);
+    try (Measurement measurement = profiler.start(Phase.GLOBAL_GUARDRAILS)) {
+      validateGlobalGuardrails(globalGuardrails);
+    }
+    if (isStreamingMode) {
+      info(String.format("generated and wrote %d files for %d page objects, took %d msec",
+          filesCounter, counter, System.currentTimeMillis() - timer));
+    } else {
+      info(String.format("generated %d page objects, took %d msec", counter,
+          System.currentTimeMillis() - timer));
+    }
+    info(String.format("heap used before compilation %d MB, after %d MB, peak %d MB",
+        heapBefore / MEGABYTE, getUsedHeap() / MEGABYTE, heapPeak / MEGABYTE));
+  }
+
+  // all page objects or roots, which should be present in sources
+  private Collection<String> getRootPageObjects(Collection<String> sources,
+      Set<String> sourcesIndex) {
+    if (rootPageObjects == null) {
+      return sources;
+    }
+    for (String root : rootPageObjects) {
+      if (!sourcesIndex.contains(root)) {
+        throw new UtamCompilationError(String.format(ERR_ROOT_PAGE_OBJECT_NOT_FOUND, root));
+      }
+    }
+    return rootPageObjects;
+  }
+
+  // type referenced from another module can be already compiled and present in classpath,
+  // class file is looked up without loading the class
+  private boolean isExternalType(String pageObjectURI) {
+    String typeName = translatorConfig.getTranslationTypesConfig().getInterfaceType(pageObjectURI)
+        .getFullName();
+    return externalTypesLoader.getResource(typeName.replace('.', '/') + ".class") != null;
+  }
+
+  /**
+   * read and compile page object, can be overridden to reuse page objects compiled earlier
+   *
+   * @param sourceConfig  source configuration
+   * @param pageObjectURI page object URI
+   * @return deserializer with compiled page object
+   */
+  protected JsonDeserializer getDeserializer(TranslatorSourceConfig sourceConfig,
+      String pageObjectURI) {
+    return new JsonDeserializer(translatorConfig, sourceConfig, pageObjectURI);
+  }
+
+  /**
+   * run global guardrails after all page objects are compiled, can be overridden to only validate
+   * changed page objects
+   *
+   * @param globalGuardrails global validation with elements of all page objects
+   */
+  protected void validateGlobalGuardrails(GlobalValidation globalGuardrails) {
     globalGuardrails.validate();
-    info(String.format("generated %d page objects, took %d msec", counter,
-        System.currentTimeMillis() - timer));
+  }
+
+  /**
+   * can be overridden to skip writing of page objects that did not change
+   *
+   * @param pageObjectURI page object URI
+   * @return true if generated code for page object should be written
+   */
+  protected boolean isWriteRequired(String pageObjectURI) {
+    return true;
+  }
+
+  // write page object and release its declaration, returns number of written files
+  private int writeAndRelease(String pageObjectURI, PageObjectDeclaration object) {
+    try {
+      int filesCounter = isWriteRequired(pageObjectURI) ? write(object) : 0;
+      generated.remove(pageObjectURI);
+      written.add(pageObjectURI);
+      return filesCounter;
+    } catch (IOException e) {
+      throw new UtamCompilationError(String.format(ERR_WRITING_PAGE_OBJECT, pageObjectURI), e);
+    }
+  }
+
+  private static long getUsedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
   }
 
   final String getResourcesRoot() {
@@ -224,6 +496,63 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
     }
   }
 
+  /**
+   * write list of all generated classes of the module next to dependencies configs. List uses JVM
+   * class list format, so it can be used to create class data sharing archive with page objects,
+   * see SharedArchiveTrainer. List is not written if resources root is not configured.
+   */
+  public void writeClassList() {
+    String resourcesRoot = getTargetConfig().getInjectionConfigRootFilePath();
+    if (resourcesRoot == null || resourcesRoot.isEmpty()) {
+      info(INFO_CLASS_LIST_SKIPPED);
+      return;
+    }
+    String classListPath = getResourcesRoot() + File.separator
+        + getClassListName(translatorConfig.getModuleName());
+    try (Writer writer = new FileWriter(classListPath)) {
+      for (String className : generatedClasses) {
+        writer.write(className);
+        writer.write(System.lineSeparator());
+      }
+    } catch (IOException e) {
+      throw new UtamCompilationError(
+          String.format("error while writing class list '%s'", classListPath), e);
+    }
+  }
+
+  final Collection<String> getGeneratedClasses() {
+    return generatedClasses;
+  }
+
+  private static String getInternalName(TypeProvider type) {
+    return type.getFullName().replace('.', '/');
+  }
+
+  private static String getNestedInternalName(TypeProvider outer, String nestedName) {
+    return getInternalName(outer) + "$" + nestedName;
+  }
+
+  private void setGeneratedClasses(PageObjectDeclaration object) {
+    if (object.isClassWithInterface()) {
+      PageObjectInterface pageObjectInterface = object.getInterface();
+      TypeProvider interfaceType = pageObjectInterface.getInterfaceType();
+      generatedClasses.add(getInternalName(interfaceType));
+      pageObjectInterface.getNestedInterfaces().forEach(nestedType -> generatedClasses
+          .add(getNestedInternalName(interfaceType, nestedType.getSimpleName())));
+      pageObjectInterface.getUnionTypes().forEach(unionType -> generatedClasses
+          .add(getNestedInternalName(interfaceType, unionType.getType().getSimpleName())));
+    }
+    if (!object.isInterfaceOnly()) {
+      PageObjectClass implementation = object.getImplementation();
+      TypeProvider classType = implementation.getClassType();
+      generatedClasses.add(getInternalName(classType));
+      implementation.getUnionTypes().forEach(unionType -> generatedClasses
+          .add(getNestedInternalName(classType, unionType.getType().getSimpleName())));
+      implementation.getDeclaredElementTypes(true).forEach(elementType -> generatedClasses
+          .add(getNestedInternalName(classType, elementType.getSimpleName() + "Impl")));
+    }
+  }
+
   final Properties getProfileMapping(Profile profile) {
     if (!profilesMapping.containsKey(profile)) {
       throw new UtamError(String.format(PROFILE_NOT_CONFIGURED_ERR, profile.getName()));
@@ -235,10 +564,11 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
 
   // used from tests and during compilation
   final void setPageObject(String name, PageObjectDeclaration object) {
-    if (generated.containsKey(name)) {
+    if (generated.containsKey(name) || written.contains(name)) {
       throw new UtamError(String.format(DUPLICATE_PAGE_OBJECT_NAME, name));
     }
     generated.put(name, object);
+    setGeneratedClasses(object);
     String typeName = object.getInterface().getInterfaceType().getFullName();
     // interface only
     if (object.isInterfaceOnly()) {
@@ -81,6 +81,15 @@ public class JsonCompilerConfig {
     return moduleConfig.moduleName;
   }
 
+  /**
+   * root folder to scan for page objects, resolved against compiler root
+   *
+   * @return path to the root folder
+   */
+  public String getPageObjectsRootDirectory() {
+    return filePathsRoot + moduleConfig.getPageObjectsRootDirectory();
+  }
+
   // for tests
   Module getModule() {
     return moduleConfig;
@@ -108,6 +117,7 @@ public class JsonCompilerConfig {
     private final String pageObjectFileMaskRegex;
     private final String moduleName;
     private final String pageObjectsRootDirectory;
+    private final List<String> pageObjectsIgnoredDirectories = new ArrayList<>();
     private final String pageObjectsOutputDir;
     private final String resourcesOutputDir;
     private final String unitTestsOutputDir;
@@ -131,6 +141,8 @@ public class JsonCompilerConfig {
      *                                 within the module
      * @param profiles                 an array of Profile objects representing the profiles used in
      *                                 JSON files of the module
+     * @param ignoredDirectories       names of the directories to skip while scanning for Page
+     *                                 Objects, ex. "node_modules" or "target"
      */
     @JsonCreator
     public Module(
@@ -142,10 +154,13 @@ public class JsonCompilerConfig {
         @JsonProperty(value = "unitTestsOutputDir") final String unitTestDirectory,
         @JsonProperty(value = "unitTestsRunner", defaultValue = "NONE") UnitTestRunner unitTestRunner,
         @JsonProperty(value = "namespaces") List<Namespace> namespaces,
-        @JsonProperty(value = "profiles") List<Profile> profiles
+        @JsonProperty(value = "profiles") List<Profile> profiles,
+        @JsonProperty(value = "pageObjectsIgnoredDirs") List<String> ignoredDirectories
     ) {
       this.moduleName = Objects.requireNonNullElse(moduleName, "");
       this.pageObjectsRootDirectory = pageObjectsRootDirectory;
+      this.pageObjectsIgnoredDirectories
+          .addAll(Objects.requireNonNullElse(ignoredDirectories, new ArrayList<>()));
       this.namespaces.addAll(Objects.requireNonNullElse(namespaces, new ArrayList<>()));
       setUniqueProfiles(profiles);
       this.pageObjectFileMaskRegex = Objects.requireNonNullElse(filesMaskRegex, DEFAULT_JSON_FILE_MASK_REGEX);
@@ -155,6 +170,48 @@ public class JsonCompilerConfig {
       this.unitTestRunnerType = Objects.requireNonNullElse(unitTestRunner, NONE);
     }
 
+    /**
+     * Initializes a new instance of the Module class without ignored directories, all directories
+     * under the Page Objects root are scanned
+     *
+     * @param moduleName               the arbitrary name of the module in the source repository
+     * @param filesMaskRegex           used by scanner to distinguish JSON with page objects
+     * @param pageObjectsRootDirectory the directory in the source repository in which to
+     *                                 recursively search for UTAM Page Object declarative
+     *                                 description files
+     * @param pageObjectsOutputDir     target root folder for generated Page Objects
+     * @param resourcesOutputDir       target folder for generated resources like profiles
+     *                                 configurations
+     * @param unitTestDirectory        target root folder for generated unit tests
+     * @param unitTestRunner           type of the unit tests runner for unit tests generation,
+     *                                 default is NONE, can also be "testng" or "junit"
+     * @param namespaces               an array of Namespace objects describing the namespaces
+     *                                 within the module
+     * @param profiles                 an array of Profile objects representing the profiles used in
+     *                                 JSON files of the module
+     */
+    public Module(
+        String moduleName,
+        String filesMaskRegex,
+        String pageObjectsRootDirectory,
+        String pageObjectsOutputDir,
+        String resourcesOutputDir,
+        String unitTestDirectory,
+        UnitTestRunner unitTestRunner,
+        List<Namespace> namespaces,
+        List<Profile> profiles) {
+      this(moduleName,
+          filesMaskRegex,
+          pageObjectsRootDirectory,
+          pageObjectsOutputDir,
+          resourcesOutputDir,
+          unitTestDirectory,
+          unitTestRunner,
+          namespaces,
+          profiles,
+          null);
+    }
+
     void setUniqueProfiles(List<Profile> profiles) {
       if(profiles == null || profiles.isEmpty()) {
         return;
@@ -180,7 +237,8 @@ public class JsonCompilerConfig {
           null,
           null,
           new ArrayList<>(),
-          new ArrayList<>());
+          new ArrayList<>(),
+          null);
     }
 
     // used in tests
@@ -193,14 +251,16 @@ public class JsonCompilerConfig {
           null,
           null,
           new ArrayList<>(),
-          new ArrayList<>());
+          new ArrayList<>(),
+          null);
     }
 
     public TranslatorSourceConfig getSourceConfig(String compilerRootFolderName) {
+      RecursiveScanner scanner = new RecursiveScanner(
+          compilerRootFolderName + pageObjectsRootDirectory, pageObjectsIgnoredDirectories);
       if(namespaces.isEmpty()) {
-        return new SourceWithoutPackages(compilerRootFolderName + pageObjectsRootDirectory, pageObjectFileMaskRegex);
+        return new SourceWithoutPackages(scanner, pageObjectFileMaskRegex);
       }
-      RecursiveScanner scanner = new RecursiveScanner(compilerRootFolderName + pageObjectsRootDirectory);
       return new DefaultSourceConfiguration(
           new ScannerConfig(pageObjectFileMaskRegex, getPackagesMapping()),
           scanner);
@@ -269,6 +329,15 @@ public class JsonCompilerConfig {
       return pageObjectFileMaskRegex;
     }
 
+    /**
+     * names of the directories to skip while scanning for Page Objects
+     *
+     * @return list of directory names
+     */
+    public List<String> getPageObjectsIgnoredDirectories() {
+      return pageObjectsIgnoredDirectories;
+    }
+
     /**
      * target root folder for generated Page Objects
      *
@@ -11,6 +11,8 @@ import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
 import java.util.Set;
 import java.util.stream.Collectors;
+import utam.compiler.translator.CompilerProfiler.Measurement;
+import utam.compiler.translator.CompilerProfiler.Phase;
 import utam.core.framework.consumer.UtamError;
 import utam.core.declarative.representation.MethodDeclaration;
 import utam.core.declarative.representation.MethodParameter;
@@ -133,7 +135,7 @@ public class TranslationUtilities {
   static String applyJavaFormatter(List<String> in) {
     in.removeIf(String::isEmpty);
     String code = String.join(NEW_LINE, in);
-    try {
+    try (Measurement measurement = CompilerProfiler.getCurrent().start(Phase.FORMAT)) {
       return new Formatter().formatSource(code);
     } catch (FormatterException e) {
       // add number at the beginning of the new line, helps process error message from formatter
@@ -16,16 +16,23 @@ import static utam.core.declarative.translator.UnitTestRunner.validateUnitTestDi
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.concurrent.Callable;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.ExitCode;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
+import utam.compiler.UtamCompilationError;
+import utam.compiler.daemon.CompilerDaemon.Response;
+import utam.compiler.daemon.CompilerDaemonClient;
+import utam.compiler.daemon.SourcesWatcher;
 import utam.core.declarative.translator.GuardrailsMode;
 import utam.core.declarative.translator.TranslatorConfig;
-import utam.core.declarative.translator.TranslatorRunner;
 import utam.core.declarative.translator.TranslatorSourceConfig;
 import utam.core.declarative.translator.TranslatorTargetConfig;
 import utam.core.declarative.translator.UnitTestRunner;
@@ -45,6 +52,9 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
   static final String PACKAGE_CONFIG_MISSING = "Packages mapping is not configured";
   static final String REDUNDANT_CLI_ARGS = "If JSON file is set, all other arguments are ignored";
   static final String ERR_COMPILER_CONFIG_NEEDS_ROOT = "To resolve configuration paths, set compilerRoot";
+  static final String ERR_DAEMON_NEEDS_CONFIG = "To send request to compiler daemon, set JSON config and compilerRoot";
+  static final String ERR_WATCH_REDUNDANT_ARGS = "In watch mode all Page Objects are recompiled incrementally, "
+      + "--roots, --streaming and --profile can't be used with --watch";
 
   @Option(names = {"-f", "-config", "--config"},
       description = "JSON file with configuration. "
@@ -95,6 +105,36 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
       description = "Defines how strict should be guardrails violations, possible values: 'error' or 'warning'")
   private String validationStrict;
 
+  @Option(names = {"-s", "-streaming", "--streaming"},
+      description = "Write every Page Object right after it is compiled to limit memory usage. "
+          + "Can be used with JSON config.")
+  boolean isStreamingMode;
+
+  @Option(names = {"-daemonPort", "--daemonPort"},
+      description = "Port of the running compiler daemon. "
+          + "When set, JSON config is sent to the daemon instead of compiling in this process.")
+  Integer daemonPort;
+
+  @Option(names = {"-w", "-watch", "--watch"},
+      description = "After compilation, watch input folders and recompile changed Page Objects.")
+  boolean isWatchMode;
+
+  @Option(names = {"-roots", "--roots"}, split = ",",
+      description = "Compile only Page Objects reachable from the listed root Page Object URIs. "
+          + "Can be used with JSON config.")
+  List<String> rootPageObjects;
+
+  @Option(names = {"-classpath", "--classpath"}, split = ",",
+      description = "Jars or folders with compiled Page Objects of other modules, used with --roots "
+          + "to resolve referenced Page Objects that are not in sources. "
+          + "Without it only the compiler's own classpath is checked. Can be used with JSON config.")
+  List<File> externalClasspath;
+
+  @Option(names = {"-profile", "--profile"},
+      description = "Measure every compiler phase, write JSON report to the given file "
+          + "and print summary. Can be used with JSON config.")
+  File profileReport;
+
   private Exception thrownError;
   Integer returnCode = CommandLine.ExitCode.OK;
 
@@ -209,17 +249,92 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
     return setConfigFromCommandLineArgs();
   }
 
+  // send compilation request to the compiler daemon instead of compiling in this process
+  private Integer callDaemon() {
+    if (jsonConfig == null || compilerRoot == null) {
+      thrownError = new UnsupportedOperationException(ERR_DAEMON_NEEDS_CONFIG);
+      returnCode = CONFIG_ERR;
+      return returnCode;
+    }
+    try {
+      Response response = new CompilerDaemonClient(daemonPort).compile(jsonConfig, compilerRoot);
+      returnCode = response.getReturnCode();
+      if (returnCode != CommandLine.ExitCode.OK) {
+        thrownError = new UtamCompilationError(response.getMessage());
+      }
+    } catch (IOException e) {
+      thrownError = e;
+      returnCode = RUNTIME_ERR;
+    }
+    return returnCode;
+  }
+
+  // folders to watch for changes in watch mode
+  List<Path> getWatchedRoots() throws IOException {
+    if (jsonConfig != null) {
+      // namespaces are path patterns matched against files scanned under page objects root,
+      // so watching the root covers every namespace
+      JsonCompilerConfig config = new JsonCompilerConfig(this.jsonConfig, this.compilerRoot);
+      return Collections.singletonList(Paths.get(config.getPageObjectsRootDirectory()));
+    }
+    if (inputDirectory != null) {
+      return Collections.singletonList(inputDirectory.toPath());
+    }
+    return inputFiles.stream()
+        .map(file -> file.getAbsoluteFile().toPath().getParent())
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  private Integer watch() {
+    try {
+      new SourcesWatcher(this::getTranslationConfig, getWatchedRoots()).watch();
+      returnCode = CommandLine.ExitCode.OK;
+    } catch (IOException e) {
+      thrownError = e;
+      returnCode = RUNTIME_ERR;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      returnCode = CommandLine.ExitCode.OK;
+    }
+    return returnCode;
+  }
+
   @Override
   public Integer call() {
+    if (daemonPort != null) {
+      return callDaemon();
+    }
     TranslatorConfig translatorConfig = getTranslationConfig();
     if (translatorConfig == null) {
       return returnCode; //error during configuration, exit
     }
+    if (isWatchMode) {
+      if (isStreamingMode || profileReport != null
+          || (rootPageObjects != null && !rootPageObjects.isEmpty())) {
+        thrownError = new UnsupportedOperationException(ERR_WATCH_REDUNDANT_ARGS);
+        returnCode = CONFIG_ERR;
+        return returnCode;
+      }
+      return watch();
+    }
     try {
-      TranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+      DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+      translator.setStreamingMode(isStreamingMode);
+      translator.setRootPageObjects(rootPageObjects);
+      translator.setExternalClasspath(externalClasspath);
+      CompilerProfiler profiler = profileReport == null ? null : new CompilerProfiler();
+      if (profiler != null) {
+        translator.setProfiler(profiler);
+      }
       translator.run();
       translator.write();
       translator.writeDependenciesConfigs();
+      translator.writeClassList();
+      if (profiler != null) {
+        profiler.logSummary();
+        profiler.writeReport(profileReport);
+      }
       returnCode = CommandLine.ExitCode.OK;
     } catch (IOException e) {
       thrownError = e;
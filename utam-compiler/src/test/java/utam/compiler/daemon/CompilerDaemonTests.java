@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.daemon;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static utam.compiler.daemon.CompilerDaemon.CONFIG_ERR;
+import static utam.compiler.daemon.CompilerDaemon.ERR_UNKNOWN_COMMAND;
+import static utam.compiler.daemon.CompilerDaemon.RUNTIME_ERR;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+import picocli.CommandLine.ExitCode;
+import utam.compiler.daemon.CachingTranslatorRunner.CompiledPageObject;
+import utam.compiler.daemon.CompilerDaemon.Request;
+import utam.compiler.daemon.CompilerDaemon.Response;
+import utam.compiler.translator.DefaultTranslatorConfiguration;
+import utam.core.declarative.representation.TypeProvider;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.TranslatorSourceConfig;
+import utam.core.declarative.translator.TranslatorTargetConfig;
+import utam.core.declarative.translator.UnitTestRunner;
+
+/**
+ * @since 236
+ */
+public class CompilerDaemonTests {
+
+  private static final String PAGE_OBJECT_URI = "utam-test/pageObjects/test/testPageObject";
+  private static final String PAGE_OBJECT_CLASS = "utam.test.pageobjects.test.impl.TestPageObjectImpl";
+
+  private static TranslatorConfig getConfig(Map<String, String> sources,
+      Map<String, StringWriter> writers) throws IOException {
+    TranslatorSourceConfig sourceConfig = mock(TranslatorSourceConfig.class);
+    when(sourceConfig.getPageObjects()).thenAnswer(invocation -> sources.keySet());
+    when(sourceConfig.getDeclarationReader(anyString()))
+        .thenAnswer(invocation -> new StringReader(sources.get(invocation.<String>getArgument(0))));
+    TranslatorTargetConfig targetConfig = mock(TranslatorTargetConfig.class);
+    when(targetConfig.getUnitTestRunnerType()).thenReturn(UnitTestRunner.NONE);
+    when(targetConfig.getClassWriter(any())).thenAnswer(invocation -> {
+      StringWriter writer = new StringWriter();
+      writers.put(invocation.<TypeProvider>getArgument(0).getFullName(), writer);
+      return writer;
+    });
+    return new DefaultTranslatorConfiguration("", sourceConfig, targetConfig, new ArrayList<>());
+  }
+
+  @Test
+  public void testCachingRunnerReusesNotChangedPageObjects() throws IOException {
+    Map<String, String> sources = new HashMap<>();
+    sources.put(PAGE_OBJECT_URI, "{ \"elements\" : [{\"name\" : \"test\", \"selector\" : {\"css\" : \"css\"}, \"public\" : true}] }");
+    Map<String, StringWriter> writers = new HashMap<>();
+    TranslatorConfig config = getConfig(sources, writers);
+    Map<String, CompiledPageObject> cache = new HashMap<>();
+
+    CachingTranslatorRunner runner = new CachingTranslatorRunner(config, cache);
+    runner.run();
+    runner.write();
+    assertThat(runner.getCacheHitsCount(), is(0));
+    String firstOutput = writers.get(PAGE_OBJECT_CLASS).toString();
+
+    runner = new CachingTranslatorRunner(config, cache);
+    runner.run();
+    runner.write();
+    assertThat(runner.getCacheHitsCount(), is(1));
+    assertThat(writers.get(PAGE_OBJECT_CLASS).toString(), is(equalTo(firstOutput)));
+
+    // changed content is compiled again
+    sources.put(PAGE_OBJECT_URI, "{}");
+    runner = new CachingTranslatorRunner(config, cache);
+    runner.run();
+    assertThat(runner.getCacheHitsCount(), is(0));
+
+    // removed page object is removed from cache
+    sources.clear();
+    new CachingTranslatorRunner(config, cache).run();
+    assertThat(cache.isEmpty(), is(true));
+  }
+
+  @Test
+  public void testIncrementalModeWritesOnlyChanged() throws IOException {
+    final String otherURI = "utam-test/pageObjects/test/other";
+    Map<String, String> sources = new HashMap<>();
+    sources.put(PAGE_OBJECT_URI, "{}");
+    sources.put(otherURI, "{}");
+    Map<String, StringWriter> writers = new HashMap<>();
+    TranslatorConfig config = getConfig(sources, writers);
+    Map<String, CompiledPageObject> cache = new HashMap<>();
+
+    CachingTranslatorRunner runner = new CachingTranslatorRunner(config, cache);
+    runner.setIncrementalMode(true);
+    runner.run();
+    runner.write();
+    assertThat(writers.size(), is(4));
+
+    writers.clear();
+    sources.put(PAGE_OBJECT_URI, "{ \"methods\" : [] }");
+    runner = new CachingTranslatorRunner(config, cache);
+    runner.setIncrementalMode(true);
+    runner.run();
+    runner.write();
+    assertThat(runner.getChangedPageObjects(), contains(PAGE_OBJECT_URI));
+    assertThat(writers.keySet(), containsInAnyOrder(PAGE_OBJECT_CLASS,
+        "utam.test.pageobjects.test.TestPageObject"));
+  }
+
+  @Test
+  public void testDaemonRequests() throws Exception {
+    CompilerDaemon daemon = new CompilerDaemon(0);
+    Thread thread = new Thread(() -> {
+      try {
+        daemon.start();
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      }
+    });
+    thread.start();
+    CompilerDaemonClient client = new CompilerDaemonClient(daemon.getPort());
+
+    Response response = client.send(new Request("unknown", null, null));
+    assertThat(response.getReturnCode(), is(CONFIG_ERR));
+    assertThat(response.getMessage(), is(equalTo(String.format(ERR_UNKNOWN_COMMAND, "unknown"))));
+
+    response = client.compile(new File("error.config.json"), new File("error"));
+    assertThat(response.getReturnCode(), is(RUNTIME_ERR));
+    assertThat(response.getMessage(), containsString("error.config.json"));
+
+    response = client.stop();
+    assertThat(response.getReturnCode(), is(ExitCode.OK));
+    thread.join(10000);
+    assertThat(thread.isAlive(), is(false));
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.daemon;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.Matcher;
+import org.testng.annotations.Test;
+import utam.compiler.translator.DefaultSourceConfiguration;
+import utam.compiler.translator.DefaultSourceConfiguration.RecursiveScanner;
+import utam.compiler.translator.DefaultSourceConfiguration.ScannerConfig;
+import utam.compiler.translator.DefaultTargetConfiguration;
+import utam.compiler.translator.DefaultTranslatorConfiguration;
+
+/**
+ * @since 236
+ */
+public class SourcesWatcherTests {
+
+  @Test
+  public void testChangeTriggersCompilation() throws Exception {
+    Path root = Files.createTempDirectory("utam");
+    Path subFolder = Files.createDirectory(root.resolve("folder"));
+    AtomicInteger compilationsCounter = new AtomicInteger();
+    SourcesWatcher watcher = new SourcesWatcher(() -> {
+      compilationsCounter.incrementAndGet();
+      return null;
+    }, Collections.singletonList(root), 50);
+    Thread thread = new Thread(() -> {
+      try {
+        watcher.watch();
+      } catch (Exception e) {
+        throw new AssertionError(e);
+      }
+    });
+    thread.start();
+    // initial compilation
+    waitFor(compilationsCounter, 1);
+    // burst of changes in a nested folder
+    for (int i = 0; i < 3; i++) {
+      Files.writeString(subFolder.resolve("test" + i + ".utam.json"), "{}");
+    }
+    waitFor(compilationsCounter, 2);
+    watcher.stop();
+    thread.join(10000);
+    assertThat(thread.isAlive(), is(false));
+    assertThat(compilationsCounter.get(), greaterThanOrEqualTo(2));
+  }
+
+  @Test
+  public void testDeletedPageObjectFilesAreDeleted() throws Exception {
+    Path root = Files.createTempDirectory("utam");
+    Path sources = Files.createDirectory(root.resolve("utam-test"));
+    Path output = Files.createTempDirectory("utam");
+    Files.writeString(sources.resolve("first.utam.json"), "{}");
+    Path deleted = Files.writeString(sources.resolve("second.utam.json"), "{}");
+    SourcesWatcher watcher = new SourcesWatcher(() -> new DefaultTranslatorConfiguration("",
+        new DefaultSourceConfiguration(
+            new ScannerConfig(Collections.singletonMap("utam-test", ".*/utam-test")),
+            new RecursiveScanner(root.toString())),
+        new DefaultTargetConfiguration(output.toString(), ""),
+        new ArrayList<>()), Collections.singletonList(root), 50);
+    Thread thread = new Thread(() -> {
+      try {
+        watcher.watch();
+      } catch (Exception e) {
+        throw new AssertionError(e);
+      }
+    });
+    thread.start();
+    waitFor(() -> getGeneratedFiles(output), hasSize(4));
+    Files.delete(deleted);
+    waitFor(() -> getGeneratedFiles(output), hasSize(2));
+    watcher.stop();
+    thread.join(10000);
+    assertThat(getGeneratedFiles(output), containsInAnyOrder("First.java", "FirstImpl.java"));
+  }
+
+  private static List<String> getGeneratedFiles(Path output) {
+    try (Stream<Path> files = Files.walk(output)) {
+      return files.filter(Files::isRegularFile)
+          .map(file -> file.getFileName().toString())
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static <T> void waitFor(Supplier<T> actual, Matcher<? super T> matcher)
+      throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 10000;
+    while (!matcher.matches(actual.get()) && System.currentTimeMillis() < timeout) {
+      Thread.sleep(20);
+    }
+    assertThat(actual.get(), matcher);
+  }
+
+  private static void waitFor(AtomicInteger counter, int expected) throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 10000;
+    while (counter.get() < expected && System.currentTimeMillis() < timeout) {
+      Thread.sleep(20);
+    }
+    assertThat(counter.get(), greaterThanOrEqualTo(expected));
+  }
+}
@@ -8,6 +8,7 @@
 package utam.compiler.grammar;
 
 import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import utam.compiler.helpers.TranslationContext;
 import utam.compiler.helpers.TypeUtilities;
 import utam.core.framework.consumer.UtamError;
 import org.testng.annotations.Test;
@@ -78,6 +79,14 @@ public class JsonDeserializerTests {
     assertThat(rootNode.getInterface().getBaseInterfaceType(), is(equalTo(ROOT_PAGE_OBJECT)));
   }
 
+  @Test
+  public void testParseAndCompileSeparately() throws IOException {
+    String json = "{\"elements\": [{\"name\": \"test\", \"selector\": {\"css\": \"css\"}}]}";
+    TranslationContext context = JsonDeserializer.parse(json)
+        .compile(TEST_URI, getDefaultConfig(getTypesProvider()));
+    assertThat(context.getElement("test"), is(notNullValue()));
+  }
+
   /** Tests that an empty root node is valid. */
   @Test
   public void testEmptyRootNode() {
@@ -189,13 +198,13 @@ public class JsonDeserializerTests {
 
     PageObjectValidationTestHelper.MethodInfo childElementGetter =
         new PageObjectValidationTestHelper.MethodInfo(
-            getElementGetterMethodName("childElement", false), "ChildElementElement");
-    childElementGetter.addCodeLine("return element(this.childElement).build(ChildElementElement.class, ChildElementElementImpl.class)");
+            getElementGetterMethodName("childElement", false), "Clickable");
+    childElementGetter.addCodeLine("return element(this.childElement).build(Clickable.class, BasePageElement.class)");
     childElementGetter.setIsPublic(false);
 
     PageObjectValidationTestHelper.MethodInfo composeMethod =
         new PageObjectValidationTestHelper.MethodInfo("clickElement", "void");
-    composeMethod.addCodeLine("ChildElementElement childElement0 = this.getChildElementElement()");
+    composeMethod.addCodeLine("Clickable childElement0 = this.getChildElementElement()");
     composeMethod.addCodeLine("childElement0.click()");
 
     PageObjectClass classObject = createRootNode(json).getImplementation();
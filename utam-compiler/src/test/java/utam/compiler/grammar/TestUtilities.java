@@ -76,16 +76,16 @@ public class TestUtilities {
 
     static UtamElement createUtamElement(String name, String type, UtamSelector selector) {
       return new UtamElement(
-          createStringTypeNode(type), name, false, null, null, selector,
+          createStringTypeNode(type), name, false, null, null, null, null, selector,
           null, null, null);
     }
 
     static UtamMethod createUtamMethod(String name, UtamMethodAction[] compose) {
-      return new UtamMethod(name, compose, null, null, null);
+      return new UtamMethod(name, compose, null, null, null, null);
     }
 
     static UtamMethod createUtamMethod(String name, String returns, UtamArgument[] args) {
-      return new UtamMethod(name, null, args, createStringTypeNode(returns), null);
+      return new UtamMethod(name, null, args, createStringTypeNode(returns), null, null);
     }
 
     private static JsonNode createStringTypeNode(String type) {
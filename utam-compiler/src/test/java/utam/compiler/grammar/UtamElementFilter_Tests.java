@@ -180,14 +180,14 @@ public class UtamElementFilter_Tests {
     ElementContext elementContext = context.getElement("element");
     PageObjectMethod method = elementContext.getElementMethod();
     PageObjectValidationTestHelper.MethodInfo methodInfo =
-        new PageObjectValidationTestHelper.MethodInfo("getElementElement", "List<ElementElement>");
+        new PageObjectValidationTestHelper.MethodInfo("getElementElement", "List<BasicElement>");
     for (int i = 1; i <= 3; i++) {
       methodInfo.addParameter(
           new PageObjectValidationTestHelper.MethodParameterInfo("arg" + i, "String"));
     }
     methodInfo.addCodeLines(
         "return element(this.element)"
-            + ".buildList(ElementElement.class, ElementElementImpl.class, "
+            + ".buildList(BasicElement.class, BasePageElement.class, "
             + "elm -> (elm.getAttribute(arg2)!= null && elm.getAttribute(arg2).contains(arg3)), arg1)");
     methodInfo.setIsPublic(false);
     PageObjectValidationTestHelper.validateMethod(method, methodInfo);
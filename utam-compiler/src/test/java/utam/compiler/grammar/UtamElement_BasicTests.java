@@ -24,9 +24,13 @@ import static utam.compiler.grammar.UtamElementFilter_Tests.getInnerTextFilter;
 import static utam.compiler.grammar.UtamSelectorTests.getListCssSelector;
 import static utam.compiler.grammar.UtamSelectorTests.getUtamCssSelector;
 import static utam.compiler.helpers.BasicElementInterface.ERR_UNSUPPORTED_ELEMENT_TYPE;
+import static utam.compiler.helpers.TypeUtilities.BASIC_ELEMENT;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.testng.annotations.Test;
 import utam.compiler.helpers.ElementContext;
 import utam.compiler.helpers.TranslationContext;
@@ -360,17 +364,79 @@ public class UtamElement_BasicTests {
         .getResultFromFile("element/nestedElements");
     TranslationContext context = res.getContext();
     ElementContext one = context.getElement("one");
-    assertThat(one.getType().isSameType(new TypeUtilities.FromString("OneElement")), is(equalTo(true)));
+    assertThat(one.getType().isSameType(BASIC_ELEMENT), is(equalTo(true)));
     ElementContext nested = context.getElement("nestedCustom");
     assertThat(nested.getType().getSimpleName(), is(equalTo("ComponentType")));
     ElementContext nestedInShadow = context.getElement("nestedInsideShadow");
-    assertThat(nestedInShadow.getType().getSimpleName(), is(equalTo("NestedInsideShadowElement")));
+    assertThat(nestedInShadow.getType().getSimpleName(), is(equalTo("BasicElement")));
 
     PageObjectDeclaration objectDeclaration = res.getPageObject();
     List<PageClassField> fields = objectDeclaration.getImplementation().getFields();
     assertThat(fields.size(), is(equalTo(2)));
   }
 
+  @Test
+  public void testLightDomScopesAreFolded() {
+    List<PageClassField> fields = new DeserializerUtilities()
+        .getResultFromFile("element/foldedElements")
+        .getPageObject().getImplementation().getFields();
+    Map<String, PageClassField> fieldsByName = fields.stream()
+        .collect(Collectors.toMap(PageClassField::getName, field -> field));
+    String[][] expected = {
+        {"form", "@ElementMarker.Find(css = \"form\")"},
+        // without "fold" element is found scope by scope, but is still a folded scope
+        {"fieldset", "@ElementMarker.Find(css = \"fieldset\", scope = \"form\")"},
+        {"input", "// folded from selectors chain 'form', 'fieldset', 'input[name='%s']'",
+            "@ElementMarker.Find(css = \":scope form fieldset input[name='%s']\")"},
+        // list returns elements from the first scope only
+        {"options", "@ElementMarker.Find(css = \"option\", scope = \"fieldset\")"},
+        // parameterized element is folded, but is not a folded scope for its elements
+        {"row", "// folded from selectors chain 'form', 'tr:nth-child(%d)'",
+            "@ElementMarker.Find(css = \":scope form tr:nth-child(%d)\")"},
+        {"cell", "@ElementMarker.Find(css = \"td\", scope = \"row\")"},
+        {"optional",
+            "@ElementMarker.Find(css = \".optional\", scope = \"form\", nullable = true)"},
+        {"optionalChild", "@ElementMarker.Find(css = \".child\", scope = \"optional\")"},
+        {"menu", "@ElementMarker.Find(css = \"ul.menu\")"},
+        // selector with combinators is not folded, "ul.menu" can match the scope itself
+        {"menuItem", "@ElementMarker.Find(css = \"ul.menu > li\", scope = \"menu\")"},
+        {"link", "@ElementMarker.Find(css = \"a\", scope = \"menuItem\")"},
+        {"host", "@ElementMarker.Find(css = \"host-element\")"},
+        {"panel", "@ElementMarker.Find(css = \".panel\", scope = \"host\", expand = true)"},
+        // selectors list can't be folded
+        {"title", "@ElementMarker.Find(css = \"h1, h2\", scope = \"panel\")"},
+        // inside shadow root descendant selector does not need :scope
+        {"body", "// folded from selectors chain '.panel', '.body'",
+            "@ElementMarker.Find(css = \".panel .body\", scope = \"host\", expand = true)"},
+    };
+    assertThat(fields, hasSize(expected.length));
+    for (String[] field : expected) {
+      FieldInfo fieldInfo = new FieldInfo(field[0]);
+      fieldInfo.addAnnotations(Arrays.copyOfRange(field, 1, field.length));
+      fieldInfo.validateField(fieldsByName.get(field[0]));
+    }
+  }
+
+  @Test
+  public void testLightDomScopesAreNotFoldedByDefault() {
+    String json = "{\"elements\": [{\"name\": \"form\", \"selector\": {\"css\": \"form\"}, "
+        + "\"elements\": [{\"name\": \"input\", \"selector\": {\"css\": \"input\"}}]}]}";
+    PageClassField field = new DeserializerUtilities().getResultFromString(json)
+        .getPageObject().getImplementation().getFields().get(1);
+    FieldInfo fieldInfo = new FieldInfo("input");
+    fieldInfo.addAnnotations("@ElementMarker.Find(css = \"input\", scope = \"form\")");
+    fieldInfo.validateField(field);
+  }
+
+  @Test
+  public void testFoldForCustomElementThrows() {
+    String json = "{\"elements\": [{\"name\": \"custom\", \"fold\": true, "
+        + "\"type\": \"utam-test/pageObjects/test/custom\", \"selector\": {\"css\": \"css\"}}]}";
+    UtamError e = expectThrows(UtamError.class,
+        () -> new DeserializerUtilities().getResultFromString(json));
+    assertThat(e.getMessage(), containsString(Type.CUSTOM.getSupportedPropertiesErr("custom")));
+  }
+
   @Test
   public void testDeserializationWithoutNameThrows() {
     String json = "{}";
@@ -454,7 +520,7 @@ public class UtamElement_BasicTests {
         elementContext.getElementMethod().getDeclaration().getName(),
         is(equalTo("getTestElement")));
     assertThat(elementContext.getElementMethod().isPublic(), is(false));
-    assertThat(elementContext.getType().isSameType(new TypeUtilities.FromString("TestElement")), is(equalTo(true)));
+    assertThat(elementContext.getType().isSameType(BASIC_ELEMENT), is(equalTo(true)));
   }
 
   @Test
@@ -484,11 +550,41 @@ public class UtamElement_BasicTests {
     PageObjectValidationTestHelper.validateMethod(context.getMethod("getNullable"), methodInfo);
   }
 
+  @Test
+  public void testInjectTextSingle() {
+    MethodInfo methodInfo = new MethodInfo("getInjected", "InjectedElement");
+    methodInfo.addCodeLine("return element(this.injected).withTextInjection()"
+        + ".build(InjectedElement.class, InjectedElementImpl.class)");
+    TranslationContext context = getContext("basicElementInjectText");
+    assertThat(context.getElement("injected").isInjectText(), is(true));
+    PageObjectValidationTestHelper.validateMethod(context.getMethod("getInjected"), methodInfo);
+  }
+
+  @Test
+  public void testInjectTextList() {
+    MethodInfo methodInfo = new MethodInfo("getInjectedList", "List<InjectedListElement>");
+    methodInfo.addCodeLine("return element(this.injectedList).withTextInjection()"
+        + ".buildList(InjectedListElement.class, InjectedListElementImpl.class)");
+    TranslationContext context = getContext("basicElementInjectText");
+    PageObjectValidationTestHelper.validateMethod(context.getMethod("getInjectedList"), methodInfo);
+  }
+
+  @Test
+  public void testInjectTextWithFilter() {
+    MethodInfo methodInfo = new MethodInfo("getInjectedFilter", "InjectedFilterElement");
+    methodInfo.addCodeLine("return element(this.injectedFilter).withTextInjection()"
+        + ".build(InjectedFilterElement.class, InjectedFilterElementImpl.class, "
+        + "elm -> Boolean.TRUE.equals(elm.isVisible()))");
+    TranslationContext context = getContext("basicElementInjectText");
+    PageObjectValidationTestHelper
+        .validateMethod(context.getMethod("getInjectedFilter"), methodInfo);
+  }
+
   @Test
   public void testBasicElementTypeAsString() {
     TranslationContext translationContext = getContext("basicTypes");
     ElementContext elementContext = translationContext.getElement("stringType");
-    assertThat(elementContext.getType().getFullName(), is(equalTo("StringTypeElement")));
+    assertThat(elementContext.getType().getFullName(), is(equalTo("utam.core.element.Actionable")));
   }
 
   @Test
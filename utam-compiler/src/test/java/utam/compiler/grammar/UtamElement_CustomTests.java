@@ -216,6 +216,17 @@ public class UtamElement_CustomTests {
         containsString(String.format(ERR_ELEMENT_EXTERNAL_NOT_ALLOWED, ELEMENT_NAME)));
   }
 
+  @Test
+  public void testCustomElementCantInjectText() {
+    String json = "{ \"name\": \"test\", \"type\": \"" + COMPONENT_TYPE_URI + "\", "
+        + "\"injectText\": true, \"selector\": { \"css\": \"selector\" } }";
+    UtamElement element = TestUtilities.getDeserializedObject(json, UtamElement.class);
+    UtamError e = expectThrows(UtamError.class, element::getAbstraction);
+    assertThat(
+        e.getMessage(),
+        containsString(String.format(ERR_ELEMENT_INJECT_TEXT_NOT_ALLOWED, ELEMENT_NAME)));
+  }
+
   @Test
   public void testNestedCustomList() {
     TranslationContext context = new DeserializerUtilities().getContext("element/customElement");
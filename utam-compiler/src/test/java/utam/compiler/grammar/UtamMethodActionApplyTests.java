@@ -24,6 +24,8 @@ import utam.compiler.representation.PageObjectValidationTestHelper;
 import utam.compiler.representation.PageObjectValidationTestHelper.MethodInfo;
 import utam.compiler.representation.PageObjectValidationTestHelper.MethodParameterInfo;
 import utam.core.declarative.representation.PageObjectMethod;
+import utam.core.element.BasicElement;
+import utam.core.element.Clickable;
 import utam.core.framework.consumer.UtamError;
 
 /**
@@ -87,7 +89,7 @@ public class UtamMethodActionApplyTests {
     TranslationContext context = getContext("basicElement");
     PageObjectMethod actualMethod = context.getMethod(methodName);
     MethodInfo methodInfo = new MethodInfo(methodName);
-    methodInfo.addCodeLine("TestElement test0 = this.getTestElement()");
+    methodInfo.addCodeLine("Clickable test0 = this.getTestElement()");
     methodInfo.addCodeLine("test0.click()");
     PageObjectValidationTestHelper.validateMethod(actualMethod, methodInfo);
   }
@@ -109,7 +111,7 @@ public class UtamMethodActionApplyTests {
     TranslationContext context = getContext("basicActionReturnsSelf");
     PageObjectMethod actualMethod = context.getMethod(methodName);
     MethodInfo methodInfo = new MethodInfo(methodName, "Test");
-    methodInfo.addCodeLine("TestElement test0 = this.getTestElement()");
+    methodInfo.addCodeLine("BasicElement test0 = this.getTestElement()");
     methodInfo.addCodeLine("test0.getText()");
     methodInfo.addCodeLine("test0.getClassAttribute()");
     methodInfo.addCodeLine("return this");
@@ -143,8 +145,8 @@ public class UtamMethodActionApplyTests {
     TranslationContext context = getContext("basicListVoid");
     PageObjectMethod actualMethod = context.getMethod(methodName);
     MethodInfo expected = new MethodInfo(methodName);
-    expected.addImpliedImportedTypes(LIST_IMPORT);
-    expected.addCodeLine("List<TestElement> test0 = this.getTestElement()");
+    expected.addImpliedImportedTypes(LIST_IMPORT, Clickable.class.getName());
+    expected.addCodeLine("List<Clickable> test0 = this.getTestElement()");
     expected.addCodeLine("if (test0 == null) { return; }");
     expected.addCodeLine("test0.forEach(element -> element.focus())");
     PageObjectValidationTestHelper.validateMethod(actualMethod, expected);
@@ -155,9 +157,9 @@ public class UtamMethodActionApplyTests {
     TranslationContext context = getContext("basicListReturns");
     PageObjectMethod actualMethod = context.getMethod(methodName);
     MethodInfo expected = new MethodInfo(methodName, "List<Boolean>");
-    expected.addImpliedImportedTypes(COLLECTORS_IMPORT, LIST_IMPORT);
+    expected.addImpliedImportedTypes(COLLECTORS_IMPORT, LIST_IMPORT, BasicElement.class.getName());
     expected.addImportedTypes(LIST_IMPORT);
-    expected.addCodeLine("List<TestElement> test0 = this.getTestElement()");
+    expected.addCodeLine("List<BasicElement> test0 = this.getTestElement()");
     expected.addCodeLine("if (test0 == null) { return null; }");
     expected.addCodeLine(
         "List<Boolean> statement0 = test0.stream().map(element -> element.isVisible()).collect(Collectors.toList())");
@@ -238,7 +240,7 @@ public class UtamMethodActionApplyTests {
     MethodInfo methodInfo = new MethodInfo(methodName);
     methodInfo.addParameter(new MethodParameterInfo("selectorArg1"));
     methodInfo.addParameter(new MethodParameterInfo("selectorArg2"));
-    methodInfo.addCodeLine("FirstElement first0 = this.getFirstElement(selectorArg1)");
+    methodInfo.addCodeLine("Draggable first0 = this.getFirstElement(selectorArg1)");
     methodInfo.addCodeLine("first0.dragAndDrop(this.getSecond(selectorArg2), 2)");
     PageObjectMethod method = context.getMethod(methodName);
     PageObjectValidationTestHelper.validateMethod(method, methodInfo);
@@ -335,4 +337,71 @@ public class UtamMethodActionApplyTests {
     expected.addCodeLine("return statement0");
     PageObjectValidationTestHelper.validateMethod(method, expected);
   }
+
+  @Test
+  public void testConsecutiveReadsAreBatched() {
+    TranslationContext context = getContext("batchedReads");
+    PageObjectMethod method = context.getMethod("batched");
+    MethodInfo expected = new MethodInfo("batched", "Boolean");
+    expected.addParameter(new MethodParameterInfo("itemTitle"));
+    expected.addCodeLine("Object[] batch0 = this.readInBatch("
+        + "() -> this.getHeaderElement().getText(), "
+        + "() -> this.getItemElement(itemTitle).getAttribute(\"class\"), "
+        + "() -> this.getButtonElement().isVisible())");
+    expected.addCodeLine("Boolean statement2 = (Boolean) batch0[2]");
+    expected.addCodeLine("Boolean matcher2 = Boolean.TRUE.equals(statement2)");
+    expected.addCodeLine("return matcher2");
+    PageObjectValidationTestHelper.validateMethod(method, expected);
+  }
+
+  @Test
+  public void testReadsAreNotBatchedByDefault() {
+    TranslationContext context = getContext("batchedReads");
+    MethodInfo expected = new MethodInfo("notBatched", "String");
+    expected.addCodeLine("BasicElement header0 = this.getHeaderElement()");
+    expected.addCodeLine("header0.getText()");
+    expected.addCodeLine("BasicElement footer1 = this.getFooterElement()");
+    expected.addCodeLine("String statement1 = footer1.getTitle()");
+    expected.addCodeLine("return statement1");
+    PageObjectValidationTestHelper.validateMethod(context.getMethod("notBatched"), expected);
+  }
+
+  @Test
+  public void testActionIsBatchBarrier() {
+    TranslationContext context = getContext("batchedReads");
+    PageObjectMethod method = context.getMethod("barrier");
+    MethodInfo expected = new MethodInfo("barrier", "String");
+    expected.addCodeLine("BasicElement header0 = this.getHeaderElement()");
+    expected.addCodeLine("header0.getText()");
+    expected.addCodeLine("Clickable button1 = this.getButtonElement()");
+    expected.addCodeLine("button1.click()");
+    expected.addCodeLine("Object[] batch2 = this.readInBatch("
+        + "() -> this.getItemElement(itemTitle).getText(), "
+        + "() -> this.getFooterElement().getTitle())");
+    expected.addCodeLine("String statement3 = (String) batch2[1]");
+    expected.addCodeLine("return statement3");
+    expected.addParameter(new MethodParameterInfo("itemTitle"));
+    PageObjectValidationTestHelper.validateMethod(method, expected);
+  }
+
+  @Test
+  public void testReusedOrNullableElementIsNotBatched() {
+    TranslationContext context = getContext("batchedReads");
+    MethodInfo reused = new MethodInfo("reusedElement", "String");
+    reused.addCodeLine("BasicElement header0 = this.getHeaderElement()");
+    reused.addCodeLine("header0.getText()");
+    reused.addCodeLine("Clickable button1 = this.getButtonElement()");
+    reused.addCodeLine("button1.getText()");
+    reused.addCodeLine("String statement2 = header0.getTitle()");
+    reused.addCodeLine("return statement2");
+    PageObjectValidationTestHelper.validateMethod(context.getMethod("reusedElement"), reused);
+    MethodInfo nullable = new MethodInfo("nullableElement", "String");
+    nullable.addCodeLine("BasicElement header0 = this.getHeaderElement()");
+    nullable.addCodeLine("header0.getText()");
+    nullable.addCodeLine("BasicElement toast1 = this.getToastElement()");
+    nullable.addCodeLine("if (toast1 == null) { return null; }");
+    nullable.addCodeLine("String statement1 = toast1.getText()");
+    nullable.addCodeLine("return statement1");
+    PageObjectValidationTestHelper.validateMethod(context.getMethod("nullableElement"), nullable);
+  }
 }
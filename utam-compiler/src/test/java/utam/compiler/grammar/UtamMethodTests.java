@@ -140,7 +140,7 @@ public class UtamMethodTests {
 
     assertThat(
         context.getElement("privateElement").getType().getSimpleName(),
-        is(equalTo("PrivateElementElement")));
+        is(equalTo("Clickable")));
   }
 
   @Test
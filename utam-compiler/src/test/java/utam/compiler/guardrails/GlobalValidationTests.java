@@ -7,15 +7,20 @@
  */
 package utam.compiler.guardrails;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.testng.Assert.expectThrows;
 import static utam.compiler.grammar.TestUtilities.getCssSelector;
 import static utam.compiler.guardrails.GlobalValidation.getErrorPrefix;
+import static utam.compiler.guardrails.ValidationUtilities.getValidationError;
 import static utam.compiler.helpers.ElementContext.Self.SELF_ELEMENT;
 import static utam.compiler.helpers.BasicElementInterface.actionable;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import org.testng.annotations.Test;
 import utam.compiler.guardrails.GlobalValidation.ValidationSubject;
 import utam.compiler.helpers.ElementContext;
@@ -69,4 +74,61 @@ public class GlobalValidationTests {
     // warning in console
     globalValidation.validate();
   }
+
+  @Test
+  public void testSelectorsIndexSkipsElementsWithoutSelector() {
+    Locator selector = getCssSelector("css");
+    ElementContext customElement =
+        new ElementContext.Custom("name1", new TypeUtilities.FromString("test.Type"), selector);
+    ElementContext basicElement = new ElementContext.Basic("name2", actionable, selector);
+    ElementContext otherElement = new ElementContext.Basic("name3", actionable,
+        getCssSelector("other"));
+
+    GlobalValidation globalValidation = new GlobalValidation(GuardrailsMode.ERROR);
+    globalValidation.setPageObjectElements("first", List.of(basicElement, SELF_ELEMENT));
+    globalValidation.setPageObjectElements("second", List.of(customElement, otherElement));
+
+    Map<Locator, List<ValidationSubject>> index = globalValidation.getSelectorsIndex();
+    assertThat(index.size(), is(2));
+    assertThat(index.get(selector).size(), is(2));
+    assertThat(index.get(getCssSelector("other")).size(), is(1));
+  }
+
+  @Test
+  public void testDifferentSelectorsNoError() {
+    ElementContext customElement = new ElementContext.Custom("name1",
+        new TypeUtilities.FromString("test.Type"), getCssSelector("css1"));
+    ElementContext basicElement = new ElementContext.Basic("name2", actionable,
+        getCssSelector("css2"));
+
+    GlobalValidation globalValidation = new GlobalValidation(GuardrailsMode.ERROR);
+    globalValidation.setPageObjectElements("first", Collections.singletonList(basicElement));
+    globalValidation.setPageObjectElements("second", Collections.singletonList(customElement));
+    assertThat(getValidationError(basicElement, customElement), is(nullValue()));
+    assertThat(getValidationError(customElement, basicElement), is(nullValue()));
+    // each element has its own selector, so no pairs are compared
+    Map<Locator, List<ValidationSubject>> index = globalValidation.getSelectorsIndex();
+    assertThat(index.size(), is(2));
+    assertThat(index.get(getCssSelector("css1")).size(), is(1));
+    assertThat(index.get(getCssSelector("css2")).size(), is(1));
+    globalValidation.validate();
+  }
+
+  @Test
+  public void testValidateOnlyChangedPageObjects() {
+    Locator selector = getCssSelector("css");
+    ElementContext customElement =
+        new ElementContext.Custom("name1", new TypeUtilities.FromString("test.Type"), selector);
+    ElementContext basicElement = new ElementContext.Basic("name2", actionable, selector);
+
+    GlobalValidation globalValidation = new GlobalValidation(GuardrailsMode.ERROR);
+    globalValidation.setPageObjectElements("first", Collections.singletonList(basicElement));
+    globalValidation.setPageObjectElements("second", Collections.singletonList(customElement));
+    globalValidation.setPageObjectElements("third", Collections.singletonList(SELF_ELEMENT));
+
+    // pair of not changed page objects is not validated
+    globalValidation.validate(Collections.singletonList("third"));
+    expectThrows(UtamError.class,
+        () -> globalValidation.validate(Collections.singletonList("second")));
+  }
 }
@@ -105,4 +105,19 @@ public class PageObjectValidationTests {
     // warning in console
     validation.validate();
   }
+
+  @Test
+  public void testValidateAllPairsWhenFirstPairHasNoError() {
+    Locator selector = getCssSelector("css");
+    ElementContext basicElement = new ElementContext.Basic("name1", actionable, selector);
+    ElementContext otherElement = new ElementContext.Basic("name2", actionable,
+        getCssSelector("other"));
+    ElementContext customElement =
+        new ElementContext.Custom("name3", new TypeUtilities.FromString("test.Type"), selector);
+    PageObjectValidation validation = new PageObjectValidation(GuardrailsMode.ERROR, PAGE_OBJECT,
+        Stream.of(basicElement, otherElement, customElement).collect(Collectors.toList()));
+
+    UtamError e = expectThrows(UtamError.class, validation::validate);
+    assertThat(e.getMessage(), startsWith(validation.getErrorPrefix(basicElement, customElement)));
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static utam.compiler.helpers.FoldedSelector.isFoldable;
+
+import org.testng.annotations.Test;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * @since 236
+ */
+public class FoldedSelectorTests {
+
+  @Test
+  public void testIsFoldable() {
+    assertThat(isFoldable("div.class span[title='a, b']", false), is(false));
+    assertThat(isFoldable("span.class[title='a > b, c ~ d']", false), is(true));
+    assertThat(isFoldable("li:not(.a, .b > .c)", false), is(true));
+    assertThat(isFoldable("[class~='item']", false), is(true));
+    assertThat(isFoldable(" li.item ", false), is(true));
+    assertThat(isFoldable("", false), is(false));
+    assertThat(isFoldable("h1, h2", false), is(false));
+    assertThat(isFoldable("> li", false), is(false));
+    // combinators at top level: left part can match scope element or its ancestors
+    assertThat(isFoldable("ul.menu > li", false), is(false));
+    assertThat(isFoldable("div span", false), is(false));
+    assertThat(isFoldable("h1+p", false), is(false));
+    assertThat(isFoldable("h1 ~ p", false), is(false));
+    assertThat(isFoldable("div\tspan", false), is(false));
+    assertThat(isFoldable(":scope > li", false), is(false));
+    assertThat(isFoldable("li:nth-child(%d)", false), is(false));
+    assertThat(isFoldable("li:nth-child(%d)", true), is(true));
+    assertThat(isFoldable("[title='%s']", true), is(true));
+    // value of unquoted parameter can be any selector
+    assertThat(isFoldable("%s", true), is(false));
+  }
+
+  @Test
+  public void testFoldableElements() {
+    assertThat(FoldedSelector.isFoldableScope(LocatorBy.byCss("div"), false, false), is(true));
+    assertThat(FoldedSelector.isFoldableScope(LocatorBy.byCss("div"), true, false), is(false));
+    assertThat(FoldedSelector.isFoldableScope(LocatorBy.byCss("div"), false, true), is(false));
+    assertThat(FoldedSelector.isFoldableScope(LocatorBy.byAccessibilityId("div"), false, false),
+        is(false));
+    assertThat(FoldedSelector.isFoldableElement(LocatorBy.byCss("li:nth-child(%d)"), false,
+        false), is(true));
+  }
+
+  @Test
+  public void testFoldedSelector() {
+    ElementContext scope = new ElementContext.Basic("scope");
+    FoldedSelector folded = FoldedSelector.start(scope, false, LocatorBy.byCss(" form "))
+        .add(LocatorBy.byCss("input"));
+    assertThat(folded.getChain(), contains("form", "input"));
+    assertThat(folded.getSelector(), is(equalTo(":scope form input")));
+    assertThat(folded.getChainString(), is(equalTo("'form', 'input'")));
+    assertThat(folded.getScopeElement(), is(scope));
+    FoldedSelector inShadow = FoldedSelector.start(scope, true, LocatorBy.byCss("form"))
+        .add(LocatorBy.byCss("input"));
+    assertThat(inShadow.getSelector(), is(equalTo("form input")));
+    assertThat(inShadow.isExpandScopeShadowRoot(), is(true));
+  }
+}
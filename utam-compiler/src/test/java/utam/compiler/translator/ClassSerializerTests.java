@@ -20,6 +20,7 @@ import static utam.compiler.grammar.TestUtilities.getTestTranslationContext;
 import static utam.compiler.helpers.TypeUtilities.VOID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -95,6 +96,45 @@ public class ClassSerializerTests {
     assertThat(code, containsString("public final void submitInfo(String text)"));
   }
 
+  @Test
+  public void testPrivateElementsUseSharedTypes() {
+    String json =
+        "{"
+            + "  \"elements\": ["
+            + "    { \"name\": \"exposed\", \"type\": [\"clickable\", \"editable\"], "
+            + "\"public\": true, \"selector\": { \"css\": \".exposed\" } },"
+            + "    { \"name\": \"single\", \"type\": [\"editable\"], "
+            + "\"selector\": { \"css\": \".single\" } },"
+            + "    { \"name\": \"union\", \"type\": [\"clickable\", \"editable\"], "
+            + "\"selector\": { \"css\": \".union\" } },"
+            + "    { \"name\": \"noType\", \"selector\": { \"css\": \".noType\" } }"
+            + "  ],"
+            + "  \"methods\": [ { \"name\": \"test\", \"compose\": ["
+            + "    { \"element\": \"single\", \"apply\": \"clear\" },"
+            + "    { \"element\": \"union\", \"apply\": \"click\" },"
+            + "    { \"element\": \"noType\", \"apply\": \"getText\" }"
+            + "  ] } ]"
+            + "}";
+    String code = getJsonStringDeserializer(json).getObject().getImplementation()
+        .getGeneratedCode();
+    // public element keeps its declared type because it is part of the interface
+    assertThat(code, containsString("public final ExposedElement getExposed()"));
+    assertThat(code,
+        containsString("public static class ExposedElementImpl extends BasePageElement implements ExposedElement {}"));
+    // private elements are typed with shared types and instantiated as BasePageElement
+    assertThat(code, containsString("final Editable getSingleElement()"));
+    assertThat(code, containsString("build(Editable.class, BasePageElement.class)"));
+    assertThat(code, containsString("final BasePageElement getUnionElement()"));
+    assertThat(code, containsString("build(BasePageElement.class, BasePageElement.class)"));
+    assertThat(code, containsString("final BasicElement getNoTypeElement()"));
+    assertThat(code, containsString("import utam.core.element.Editable;"));
+    assertThat(code, containsString("import utam.core.element.BasicElement;"));
+    assertThat(code, not(containsString("interface ")));
+    assertThat(code, not(containsString("SingleElementImpl")));
+    assertThat(code, not(containsString("UnionElementImpl")));
+    assertThat(code, not(containsString("NoTypeElementImpl")));
+  }
+
   @Test
   void getLastStatementTest() {
     PageObjectMethod method = mock(PageObjectMethod.class);
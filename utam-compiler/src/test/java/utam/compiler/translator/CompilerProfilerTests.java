@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.translator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import org.testng.annotations.Test;
+import utam.compiler.translator.CompilerProfiler.Measurement;
+import utam.compiler.translator.CompilerProfiler.Phase;
+
+/**
+ * @since 236
+ */
+public class CompilerProfilerTests {
+
+  private static void sleep(long msec) {
+    try {
+      Thread.sleep(msec);
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static double getPhaseMsec(Map<String, Object> report, String phase) {
+    Map<String, Map<String, Object>> phases = (Map<String, Map<String, Object>>) report
+        .get("phases");
+    return (double) phases.get(phase).get("msec");
+  }
+
+  @Test
+  public void testNestedPhasesAreExclusive() {
+    CompilerProfiler profiler = new CompilerProfiler();
+    profiler.setPageObject("first");
+    try (Measurement serialize = profiler.start(Phase.SERIALIZE)) {
+      try (Measurement format = profiler.start(Phase.FORMAT)) {
+        sleep(50);
+      }
+    }
+    Map<String, Object> report = profiler.getReport(1);
+    assertThat(getPhaseMsec(report, "format") >= 50, is(true));
+    assertThat(getPhaseMsec(report, "serialize") < 50, is(true));
+  }
+
+  @Test
+  public void testSlowestPageObjects() {
+    CompilerProfiler profiler = new CompilerProfiler();
+    profiler.setPageObject("fast");
+    try (Measurement measurement = profiler.start(Phase.PARSE)) {
+      sleep(1);
+    }
+    profiler.setPageObject("slow");
+    try (Measurement measurement = profiler.start(Phase.COMPILE)) {
+      sleep(30);
+    }
+    // module level phase is not attributed to page objects
+    profiler.setPageObject(null);
+    try (Measurement measurement = profiler.start(Phase.GLOBAL_GUARDRAILS)) {
+      sleep(1);
+    }
+    assertThat(profiler.getSlowestPageObjects(1), contains("slow"));
+    assertThat(profiler.getSlowestPageObjects(5), contains("slow", "fast"));
+    Map<String, Object> report = profiler.getReport(1);
+    assertThat(report.get("pageObjectsCount"), is(2));
+    assertThat((Map<String, Object>) report.get("phases"), hasKey("global_guardrails"));
+  }
+
+  @Test
+  public void testActivateAndDeactivate() {
+    CompilerProfiler disabled = CompilerProfiler.getCurrent();
+    CompilerProfiler profiler = new CompilerProfiler();
+    profiler.activate();
+    assertThat(CompilerProfiler.getCurrent(), is(sameInstance(profiler)));
+    profiler.deactivate();
+    assertThat(CompilerProfiler.getCurrent(), is(sameInstance(disabled)));
+    // disabled profiler does not measure
+    disabled.setPageObject("test");
+    disabled.start(Phase.PARSE).close();
+    assertThat((Map<String, Object>) disabled.getReport(1).get("phases"), not(hasKey("parse")));
+  }
+
+  @Test
+  public void testWriteReport() throws IOException {
+    CompilerProfiler profiler = new CompilerProfiler();
+    profiler.setPageObject("test");
+    profiler.start(Phase.READ).close();
+    File file = File.createTempFile("profile", ".json");
+    file.deleteOnExit();
+    profiler.writeReport(file);
+    profiler.logSummary();
+    Map<?, ?> report = new ObjectMapper().readValue(file, Map.class);
+    assertThat(report.get("pageObjectsCount"), is(1));
+  }
+}
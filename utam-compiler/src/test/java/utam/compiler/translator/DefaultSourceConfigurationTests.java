@@ -10,6 +10,7 @@ package utam.compiler.translator;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -111,6 +112,34 @@ public class DefaultSourceConfigurationTests {
         is(CoreMatchers.notNullValue()));
   }
 
+  @Test
+  public void testRecursiveScanMultiplePackages() {
+    Map<String, String> packages = new HashMap<>();
+    packages.put("utam-one", ".*/one");
+    packages.put("utam-two", ".*/two");
+    RecursiveScanner scanner = new RecursiveScanner(
+        System.getProperty("user.dir") + "/src/test/resources/spec");
+    DefaultSourceConfiguration config = new DefaultSourceConfiguration(
+        new ScannerConfig(packages), scanner);
+    config.recursiveScan();
+    assertThat(config.getPageObjects(),
+        containsInAnyOrder("utam-one/pageObjects/first", "utam-two/pageObjects/second"));
+  }
+
+  @Test
+  public void testRecursiveScanIgnoredDirectories() {
+    Map<String, String> packages = new HashMap<>();
+    packages.put("utam-one", ".*/one");
+    packages.put("utam-two", ".*/two");
+    RecursiveScanner scanner = new RecursiveScanner(
+        System.getProperty("user.dir") + "/src/test/resources/spec",
+        Collections.singletonList("one"));
+    DefaultSourceConfiguration config = new DefaultSourceConfiguration(
+        new ScannerConfig(packages), scanner);
+    config.recursiveScan();
+    assertThat(config.getPageObjects(), containsInAnyOrder("utam-two/pageObjects/second"));
+  }
+
   @Test
   public void testRecursiveScanPreProcess() {
     ScannerConfig scannerConfig = new ScannerConfig(Collections.singletonMap("utam-one", ".*/one"));
@@ -9,17 +9,23 @@ package utam.compiler.translator;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.testng.Assert.expectThrows;
 import static utam.compiler.grammar.TestUtilities.getJsonStringDeserializer;
 import static utam.compiler.translator.DefaultTranslatorRunner.DUPLICATE_IMPL_ERR;
 import static utam.compiler.translator.DefaultTranslatorRunner.DUPLICATE_IMPL_WITH_PROFILE_ERR;
 import static utam.compiler.translator.DefaultTranslatorRunner.ERR_PROFILE_PATH_DOES_NOT_EXIST;
 import static utam.compiler.translator.DefaultTranslatorRunner.ERR_PROFILE_PATH_NOT_CONFIGURED;
+import static utam.compiler.translator.DefaultTranslatorRunner.ERR_ROOT_PAGE_OBJECT_NOT_FOUND;
+import static utam.compiler.translator.DefaultTranslatorRunner.ERR_UNRESOLVED_REFERENCES;
 import static utam.compiler.translator.DefaultTranslatorRunner.PROFILE_NOT_CONFIGURED_ERR;
 import static utam.compiler.translator.TranslationTypesConfigJava.getJavaTypeName;
 import static utam.compiler.translator.TranslatorMockUtilities.IMPL_ONLY_CLASS_NAME;
@@ -32,12 +38,19 @@ import static utam.compiler.translator.TranslatorMockUtilities.PAGE_OBJECT_URI;
 import static utam.compiler.translator.TranslatorMockUtilities.TEST_URI;
 import static utam.compiler.translator.TranslatorMockUtilities.TEST_URI_CLASS_NAME;
 import static utam.compiler.translator.TranslatorMockUtilities.TEST_URI_INTERFACE_NAME;
+import static utam.core.framework.consumer.SharedArchiveTrainer.getClassListName;
 import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
 import org.testng.annotations.Test;
 import utam.compiler.grammar.JsonDeserializer;
+import utam.core.declarative.translator.GuardrailsMode;
 import utam.core.declarative.translator.TranslatorConfig;
 import utam.core.declarative.translator.TranslatorRunner;
 import utam.core.declarative.translator.UnitTestRunner;
@@ -105,6 +118,152 @@ public class DefaultTranslatorRunnerTests {
             "public final class TestImplObjectImpl extends BasePageObject implements TestAbstractObject"));
   }
 
+  @Test
+  public void testStreamingModeWritesDuringRun() throws IOException {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    DefaultTargetConfigurationTests.Mock targetConfig =
+        new DefaultTargetConfigurationTests.Mock();
+    TranslatorConfig translatorConfig = new DefaultTranslatorConfiguration(sourceConfig,
+        targetConfig);
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.setStreamingMode(true);
+    translator.run();
+    assertThat(
+        targetConfig.writers.keySet(),
+        containsInAnyOrder(
+            PAGE_OBJECT_INTERFACE_CLASS_NAME,
+            PAGE_OBJECT_IMPL_CLASS_NAME,
+            INTERFACE_ONLY_CLASS_NAME,
+            IMPL_ONLY_CLASS_NAME));
+    // declarations are not kept after writing, but profiles mapping is
+    assertThat(translator.getGeneratedPageObjectsNames(), is(empty()));
+    assertThat(translator.getProfileMapping(DEFAULT_PROFILE)
+        .containsKey(getJavaTypeName(INTERFACE_ONLY_URI)), is(true));
+    translator.write();
+    assertThat(targetConfig.writers.keySet(), hasSize(4));
+  }
+
+  @Test
+  public void testCompileReachableFromRoots() throws IOException {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    DefaultTargetConfigurationTests.Mock targetConfig =
+        new DefaultTargetConfigurationTests.Mock();
+    TranslatorConfig translatorConfig = new DefaultTranslatorConfiguration(sourceConfig,
+        targetConfig);
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.setRootPageObjects(Collections.singletonList(IMPL_ONLY_URI));
+    translator.run();
+    translator.write();
+    // implemented interface is reachable, other page object is not
+    assertThat(translator.getGeneratedPageObjectsNames(),
+        containsInAnyOrder(IMPL_ONLY_URI, INTERFACE_ONLY_URI));
+    assertThat(targetConfig.writers.keySet(),
+        containsInAnyOrder(INTERFACE_ONLY_CLASS_NAME, IMPL_ONLY_CLASS_NAME));
+  }
+
+  @Test
+  public void testWriteClassList() throws IOException {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setJSONSource(TEST_URI,
+        "{\"root\": true, \"selector\": {\"css\": \"root\"}, \"elements\": ["
+            + "{\"name\": \"button\", \"type\": [\"clickable\"], \"public\": true, "
+            + "\"selector\": {\"css\": \"button\"}},"
+            + "{\"name\": \"input\", \"type\": [\"editable\"], "
+            + "\"selector\": {\"css\": \"input\"}}]}");
+    DefaultTargetConfigurationTests.Mock targetConfig =
+        new DefaultTargetConfigurationTests.Mock();
+    Path configRoot = Files.createTempDirectory("classlist");
+    targetConfig.setConfigPath(configRoot.toString());
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(
+        new DefaultTranslatorConfiguration(sourceConfig, targetConfig));
+    translator.run();
+    translator.writeClassList();
+    // private element has shared type, so only public element type is generated
+    assertThat(Files.readAllLines(configRoot.resolve(getClassListName(null))), contains(
+        "utam/test/pageobjects/test/Test",
+        "utam/test/pageobjects/test/Test$ButtonElement",
+        "utam/test/pageobjects/test/impl/TestImpl",
+        "utam/test/pageobjects/test/impl/TestImpl$ButtonElementImpl"));
+  }
+
+  @Test
+  public void testCompileFromRootsErrors() {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setJSONSource(TEST_URI,
+        "{\"elements\": [{\"name\": \"custom\", \"type\": \"utam-test/pageObjects/test/missing\", "
+            + "\"selector\": {\"css\": \"css\"}}]}");
+    TranslatorConfig translatorConfig = new DefaultTranslatorConfiguration("",
+        GuardrailsMode.ERROR, sourceConfig, new DefaultTargetConfigurationTests.Mock(),
+        new ArrayList<>());
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.setRootPageObjects(Collections.singletonList(PAGE_OBJECT_URI));
+    UtamError e = expectThrows(UtamError.class, translator::run);
+    assertThat(e.getMessage(), is(equalTo(String.format(ERR_ROOT_PAGE_OBJECT_NOT_FOUND,
+        PAGE_OBJECT_URI))));
+
+    DefaultTranslatorRunner runner = new DefaultTranslatorRunner(translatorConfig);
+    runner.setRootPageObjects(Collections.singletonList(TEST_URI));
+    e = expectThrows(UtamError.class, runner::run);
+    assertThat(e.getMessage(), is(equalTo(String.format(ERR_UNRESOLVED_REFERENCES,
+        "[utam-test/pageObjects/test/missing]"))));
+  }
+
+  @Test
+  public void testCompileFromRootsResolvesExternalClasspath() throws IOException {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setJSONSource(TEST_URI,
+        "{\"elements\": [{\"name\": \"custom\", \"type\": \"utam-test/pageObjects/test/external\", "
+            + "\"selector\": {\"css\": \"css\"}}]}");
+    TranslatorConfig translatorConfig = new DefaultTranslatorConfiguration("",
+        GuardrailsMode.ERROR, sourceConfig, new DefaultTargetConfigurationTests.Mock(),
+        new ArrayList<>());
+    // referenced page object of another module is not in compiler classpath
+    DefaultTranslatorRunner runner = new DefaultTranslatorRunner(translatorConfig);
+    runner.setRootPageObjects(Collections.singletonList(TEST_URI));
+    UtamError e = expectThrows(UtamError.class, runner::run);
+    assertThat(e.getMessage(), is(equalTo(String.format(ERR_UNRESOLVED_REFERENCES,
+        "[utam-test/pageObjects/test/external]"))));
+
+    // ... but is present in classpath of the target module
+    Path classpath = Files.createTempDirectory("classpath");
+    Path classFile = classpath.resolve("utam/test/pageobjects/test/External.class");
+    Files.createDirectories(classFile.getParent());
+    Files.createFile(classFile);
+    runner = new DefaultTranslatorRunner(translatorConfig);
+    runner.setRootPageObjects(Collections.singletonList(TEST_URI));
+    runner.setExternalClasspath(Collections.singletonList(classpath.toFile()));
+    runner.run();
+    assertThat(runner.getGeneratedPageObjectsNames(), contains(TEST_URI));
+  }
+
+  @Test
+  public void testProfilerMeasuresPhases() throws IOException {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    TranslatorConfig translatorConfig = new DefaultTranslatorConfiguration(sourceConfig,
+        new DefaultTargetConfigurationTests.Mock(UnitTestRunner.JUNIT));
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    CompilerProfiler profiler = new CompilerProfiler();
+    translator.setProfiler(profiler);
+    translator.run();
+    translator.write();
+    Map<String, Object> report = profiler.getReport(1);
+    assertThat(report.get("pageObjectsCount"), is(3));
+    assertThat(((Map<String, Object>) report.get("phases")).keySet(),
+        hasItems("read", "parse", "compile", "local_guardrails", "serialize", "format", "write",
+            "unit_test"));
+    // profiler is not active after run
+    assertThat(CompilerProfiler.getCurrent(), is(not(sameInstance(profiler))));
+  }
+
   @Test
   public void testWriteWithJunitRunner() throws IOException {
     DefaultSourceConfigurationTests.Mock sourceConfig =
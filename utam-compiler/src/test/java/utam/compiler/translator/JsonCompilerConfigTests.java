@@ -26,6 +26,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -132,6 +133,15 @@ public class JsonCompilerConfigTests {
     module.getTargetConfig("");
   }
 
+  @Test
+  public void testModuleWithoutIgnoredDirectories() {
+    Module module = new Module("name", null, "pageObjectsDirectory", "out", "resources", null,
+        null, new ArrayList<>(), new ArrayList<>());
+    assertThat(module.getName(), is(equalTo("name")));
+    assertThat(module.getPageObjectFileMaskRegex(), is(equalTo(DEFAULT_JSON_FILE_MASK_REGEX)));
+    assertThat(module.getPageObjectsRootDirectory(), is(equalTo("pageObjectsDirectory")));
+  }
+
   @Test
   public void testNonExistingFile() {
     File wrongFile = new File("error");
@@ -18,6 +18,8 @@ import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static utam.compiler.translator.TranslatorGenerationCommand.CONFIG_ERR;
 import static utam.compiler.translator.TranslatorGenerationCommand.ERR_COMPILER_CONFIG_NEEDS_ROOT;
+import static utam.compiler.translator.TranslatorGenerationCommand.ERR_DAEMON_NEEDS_CONFIG;
+import static utam.compiler.translator.TranslatorGenerationCommand.ERR_WATCH_REDUNDANT_ARGS;
 import static utam.compiler.translator.TranslatorGenerationCommand.INVALID_UNIT_TEST_CONFIG;
 import static utam.compiler.translator.TranslatorGenerationCommand.MISSING_INPUT;
 import static utam.compiler.translator.TranslatorGenerationCommand.OUTPUT_DIRECTORY_MISSING;
@@ -28,9 +30,14 @@ import static utam.compiler.translator.TranslatorGenerationCommand.TOO_MANY_INPU
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import org.testng.annotations.Test;
+import picocli.CommandLine;
 import utam.core.declarative.translator.TranslatorConfig;
 import utam.core.declarative.translator.TranslatorSourceConfig;
 import utam.core.declarative.translator.UnitTestRunner;
@@ -134,4 +141,47 @@ public class TranslatorGenerationCommandTests {
         .getSourcePath();
     assertThat(foundPageObjects.keySet(), hasSize(2));
   }
+
+  @Test
+  public void testCompileWithoutProfileDirectory() throws IOException {
+    Path outputDirectory = Files.createTempDirectory("output");
+    Path packageMapping = Files.createTempFile("packages", ".properties");
+    Files.write(packageMapping, List.of("utam-one=.*/one", "utam-two=.*/two"));
+    TranslatorGenerationCommand command = new TranslatorGenerationCommand();
+    command.inputDirectory = new File(USER_ROOT + RESOURCES_PATH + "/spec");
+    command.outputDirectory = outputDirectory.toFile();
+    command.packageMappingFile = packageMapping.toFile();
+    assertThat(command.call(), is(equalTo(CommandLine.ExitCode.OK)));
+    assertThat(command.getThrownError(), is(nullValue()));
+    try (Stream<Path> files = Files.walk(outputDirectory)) {
+      assertThat(files.anyMatch(file -> file.toString().endsWith(".java")), is(true));
+    }
+  }
+
+  @Test
+  public void testDaemonClientNeedsJsonConfig() {
+    TranslatorGenerationCommand command = new TranslatorGenerationCommand();
+    command.daemonPort = 0;
+    assertThat(command.call(), is(equalTo(CONFIG_ERR)));
+    assertThat(command.getThrownError().getMessage(), containsString(ERR_DAEMON_NEEDS_CONFIG));
+  }
+
+  @Test
+  public void testWatchModeWithRootsOrStreamingThrows() {
+    TranslatorGenerationCommand command = new TranslatorGenerationCommand();
+    command.jsonConfig = new File(USER_ROOT + RESOURCES_PATH + "/config/utam.config.json");
+    command.compilerRoot = new File(USER_ROOT);
+    command.isWatchMode = true;
+    command.rootPageObjects = List.of("utam-one/pageObjects/first");
+    assertThat(command.call(), is(equalTo(CONFIG_ERR)));
+    assertThat(command.getThrownError().getMessage(), containsString(ERR_WATCH_REDUNDANT_ARGS));
+
+    command = new TranslatorGenerationCommand();
+    command.jsonConfig = new File(USER_ROOT + RESOURCES_PATH + "/config/utam.config.json");
+    command.compilerRoot = new File(USER_ROOT);
+    command.isWatchMode = true;
+    command.isStreamingMode = true;
+    assertThat(command.call(), is(equalTo(CONFIG_ERR)));
+    assertThat(command.getThrownError().getMessage(), containsString(ERR_WATCH_REDUNDANT_ARGS));
+  }
 }
@@ -267,6 +267,38 @@ public class UnitTestSerializerTests {
     assertThat(unitTestCode, containsString("of the element named 'testParent'"));
   }
 
+  @Test
+  public void testWithFoldedNestedElement() {
+    String json =
+        "{"
+            + "  \"elements\": ["
+            + "    {"
+            + "      \"name\": \"testParent\","
+            + "      \"selector\": {"
+            + "        \"css\": \".fakeParent\""
+            + "      },"
+            + "      \"elements\": ["
+            + "        {"
+            + "          \"name\": \"testElement\","
+            + "          \"fold\": true,"
+            + "          \"public\": true,"
+            + "          \"type\": [\"editable\"],"
+            + "          \"selector\": {"
+            + "            \"css\": \".fakeSelector\""
+            + "          }"
+            + "        }"
+            + "      ]"
+            + "    }"
+            + "  ]"
+            + "}";
+    UnitTestSerializer serializer = getUnitTestRunner(json);
+    String unitTestCode = serializer.toString();
+    // runtime finds folded element from root, so it is registered as child of root
+    assertThat(unitTestCode, containsString(":scope .fakeParent .fakeSelector"));
+    assertThat(unitTestCode,
+        containsString("register element 'testElement' as a child of the root element"));
+  }
+
   @Test
   public void testWithMethodReturningVoid() {
     String json =
@@ -38,6 +38,20 @@ public interface TranslatorTargetConfig {
    */
   Writer getUnitTestWriter(TypeProvider typeProvider) throws IOException;
 
+  /**
+   * delete files generated for the type when its page object is removed from sources, default
+   * implementation does not delete anything
+   *
+   * @param typeProvider type of the PO, can be interface or class
+   * @param isUnitTest   if true, unit test generated for the type is deleted as well
+   * @return number of deleted files
+   * @throws IOException if file can't be deleted
+   */
+  default int deleteGeneratedFiles(TypeProvider typeProvider, boolean isUnitTest)
+      throws IOException {
+    return 0;
+  }
+
   /**
    * get configured type for unit test generator
    *
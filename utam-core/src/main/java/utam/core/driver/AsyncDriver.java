@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import utam.core.element.Element;
+import utam.core.element.FindContext;
+import utam.core.element.Locator;
+
+/**
+ * driver that can send independent commands without waiting for previous ones, so that latency of
+ * a remote driver is paid once for a group of reads instead of once per read. Commands run in the
+ * frame and context that are current when they are sent, so frame or context should not be
+ * switched while commands are pending.
+ *
+ * @since 236
+ */
+public interface AsyncDriver extends Driver {
+
+  /**
+   * wait for command and rethrow its error as is, without CompletionException wrapper
+   *
+   * @param future result of a command
+   * @param <T>    type of the result
+   * @return result of the command
+   */
+  static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * send any driver command without waiting for its result
+   *
+   * @param command command that calls driver or element
+   * @param <T>     type of the result
+   * @return future result
+   */
+  <T> CompletableFuture<T> submit(Supplier<T> command);
+
+  /**
+   * execute javascript without waiting for its result
+   *
+   * @param script     script to execute
+   * @param parameters script arguments
+   * @return future result of the script
+   */
+  default CompletableFuture<Object> executeScriptAsync(String script, Object... parameters) {
+    return submit(() -> executeScript(script, parameters));
+  }
+
+  /**
+   * find element without waiting for the result
+   *
+   * @param by            locator
+   * @param finderContext find context
+   * @return future element
+   */
+  default CompletableFuture<Element> findElementAsync(Locator by, FindContext finderContext) {
+    return submit(() -> findElement(by, finderContext));
+  }
+
+  /**
+   * find elements without waiting for the result
+   *
+   * @param by            locator
+   * @param finderContext find context
+   * @return future list of elements
+   */
+  default CompletableFuture<List<Element>> findElementsAsync(Locator by,
+      FindContext finderContext) {
+    return submit(() -> findElements(by, finderContext));
+  }
+
+  /**
+   * @param element element to read text from
+   * @return future text of the element
+   */
+  default CompletableFuture<String> getTextAsync(Element element) {
+    return submit(element::getText);
+  }
+
+  /**
+   * @param element   element to read attribute from
+   * @param attribute name of the attribute
+   * @return future value of the attribute
+   */
+  default CompletableFuture<String> getAttributeAsync(Element element, String attribute) {
+    return submit(() -> element.getAttribute(attribute));
+  }
+
+  /**
+   * @return future current URL
+   */
+  default CompletableFuture<String> getUrlAsync() {
+    return submit(this::getUrl);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * executor for commands of asynchronous drivers. Commands mostly wait for remote driver, so on JDK
+ * 21 and later every command runs on its own virtual thread. Framework is compiled for older JDKs,
+ * so virtual threads executor is created via reflection, otherwise cached daemon platform threads
+ * are used.
+ *
+ * @since 236
+ */
+public final class AsyncDriverExecutor {
+
+  static final String VIRTUAL_THREADS_FACTORY = "newVirtualThreadPerTaskExecutor";
+  private static final String THREAD_NAME_PREFIX = "utam-async-driver-";
+
+  private AsyncDriverExecutor() {
+  }
+
+  /**
+   * @return executor shared by all drivers, created on first use
+   */
+  public static ExecutorService getDefault() {
+    return Holder.EXECUTOR;
+  }
+
+  static ExecutorService create() {
+    try {
+      return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREADS_FACTORY).invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return createPlatformThreadsExecutor();
+    }
+  }
+
+  static ExecutorService createPlatformThreadsExecutor() {
+    AtomicInteger threadsCounter = new AtomicInteger();
+    return Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable,
+          THREAD_NAME_PREFIX + threadsCounter.incrementAndGet());
+      // pending commands should not keep JVM running
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static final class Holder {
+
+    private static final ExecutorService EXECUTOR = create();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.beans.ConstructorProperties;
+
+/**
+ * snapshot of recorded statistics for one driver command, latencies are in microseconds
+ *
+ * @since 236
+ */
+public class CommandStatistics {
+
+  private final String command;
+  private final long count;
+  private final long failures;
+  private final double meanMicros;
+  private final long p50Micros;
+  private final long p90Micros;
+  private final long p99Micros;
+  private final long maxMicros;
+
+  @ConstructorProperties({"command", "count", "failures", "meanMicros", "p50Micros", "p90Micros",
+      "p99Micros", "maxMicros"})
+  public CommandStatistics(String command, long count, long failures, double meanMicros,
+      long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+    this.command = command;
+    this.count = count;
+    this.failures = failures;
+    this.meanMicros = meanMicros;
+    this.p50Micros = p50Micros;
+    this.p90Micros = p90Micros;
+    this.p99Micros = p99Micros;
+    this.maxMicros = maxMicros;
+  }
+
+  static CommandStatistics of(String command, LatencyHistogram histogram) {
+    long count = histogram.getCount();
+    return new CommandStatistics(
+        command,
+        count,
+        histogram.getFailures(),
+        count == 0 ? 0 : histogram.getTotalNanos() / 1000.0 / count,
+        histogram.getPercentileNanos(50) / 1000,
+        histogram.getPercentileNanos(90) / 1000,
+        histogram.getPercentileNanos(99) / 1000,
+        histogram.getMaxNanos() / 1000);
+  }
+
+  @JsonProperty("command")
+  public String getCommand() {
+    return command;
+  }
+
+  @JsonProperty("count")
+  public long getCount() {
+    return count;
+  }
+
+  @JsonProperty("failures")
+  public long getFailures() {
+    return failures;
+  }
+
+  @JsonProperty("failureRate")
+  public double getFailureRate() {
+    return count == 0 ? 0 : (double) failures / count;
+  }
+
+  @JsonProperty("meanMicros")
+  public double getMeanMicros() {
+    return meanMicros;
+  }
+
+  @JsonProperty("p50Micros")
+  public long getP50Micros() {
+    return p50Micros;
+  }
+
+  @JsonProperty("p90Micros")
+  public long getP90Micros() {
+    return p90Micros;
+  }
+
+  @JsonProperty("p99Micros")
+  public long getP99Micros() {
+    return p99Micros;
+  }
+
+  @JsonProperty("maxMicros")
+  public long getMaxMicros() {
+    return maxMicros;
+  }
+}
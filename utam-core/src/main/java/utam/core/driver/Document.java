@@ -11,6 +11,7 @@ import java.util.function.Supplier;
 import utam.core.element.Locator;
 import utam.core.framework.base.RootPageObject;
 import utam.core.element.FrameElement;
+import utam.core.framework.element.FormFill;
 
 /**
  * document object to interact with a browser
@@ -66,6 +67,24 @@ public interface Document {
    */
   void exitFrame();
 
+  /**
+   * enters a frame or iframe element, applies action and returns focus to the frame that was
+   * current before. Default implementation always enters the frame and exits to parent frame
+   *
+   * @param frame  the frame to enter
+   * @param action action to apply inside the frame
+   * @param <T>    return type
+   * @return result of the action
+   */
+  default <T> T withinFrame(FrameElement frame, Supplier<T> action) {
+    enterFrame(frame);
+    try {
+      return action.get();
+    } finally {
+      exitToParentFrame();
+    }
+  }
+
   /**
    * enters a frame or iframe element and loads the specified Page Object as loaded in the frame
    * @param frame the frame to enter
@@ -84,4 +103,15 @@ public interface Document {
    * @return result of the applied expectations
    */
   <T> T waitFor(Supplier<T> condition);
+
+  /**
+   * start a batch of form field actions: values are set with one script instead of a round trip
+   * per field, nothing is sent until actions are applied. Default implementation can't run
+   * scripts, so it types every field with send keys
+   *
+   * @return builder of form field actions
+   */
+  default FormFill fillForm() {
+    return new FormFill();
+  }
 }
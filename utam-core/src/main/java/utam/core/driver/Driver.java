@@ -81,6 +81,25 @@ public interface Driver {
    */
   void exitFrame();
 
+  /**
+   * enters a frame or iframe element, applies action and returns focus to the frame that was
+   * current before, switches that are not needed are not sent. Default implementation always
+   * enters the frame and exits to parent frame
+   *
+   * @param frame  the frame element to enter
+   * @param action action to apply inside the frame
+   * @param <T>    return type
+   * @return result of the action
+   */
+  default <T> T withinFrame(Element frame, Supplier<T> action) {
+    enterFrame(frame);
+    try {
+      return action.get();
+    } finally {
+      exitToParentFrame();
+    }
+  }
+
   /**
    * set active page context to NATIVE_APP
    */
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import static utam.core.framework.UtamLogger.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import utam.core.framework.UtamCoreError;
+
+/**
+ * statistics of driver commands recorded by measured drivers of all threads. Registered as JMX
+ * MBean on first use, can also be written as JSON file at JVM exit
+ *
+ * @since 236
+ */
+public final class DriverMetrics implements DriverMetricsMXBean {
+
+  static final String MBEAN_NAME = "utam.core:type=DriverMetrics";
+  // distinct commands are limited, commands over the limit are recorded as one
+  static final int MAX_COMMANDS = 1024;
+  static final String OTHER_COMMANDS = "other";
+  private static final String ERR_WRITING_REPORT = "error while writing driver metrics to '%s'";
+
+  private final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+  private final AtomicBoolean isReportScheduled = new AtomicBoolean();
+
+  // visible for tests, otherwise one instance per JVM is used
+  DriverMetrics() {
+  }
+
+  /**
+   * @return metrics shared by all measured drivers, registered as MBean on first use
+   */
+  public static DriverMetrics getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private static DriverMetrics register() {
+    DriverMetrics metrics = new DriverMetrics();
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(metrics, new ObjectName(MBEAN_NAME));
+    } catch (JMException | RuntimeException e) {
+      // metrics are still recorded and reported without JMX
+      error(e);
+    }
+    return metrics;
+  }
+
+  void record(String command, long nanos, boolean isFailed) {
+    LatencyHistogram histogram = commands.get(command);
+    if (histogram == null) {
+      String key = commands.size() < MAX_COMMANDS ? command : OTHER_COMMANDS;
+      histogram = commands.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+    histogram.record(nanos, isFailed);
+  }
+
+  @Override
+  public List<CommandStatistics> getCommands() {
+    return commands.entrySet()
+        .stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getTotalNanos())
+            .reversed())
+        .map(entry -> CommandStatistics.of(entry.getKey(), entry.getValue()))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public String getJson() {
+    try {
+      return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(getCommands());
+    } catch (JsonProcessingException e) {
+      throw new UtamCoreError("error while serializing driver metrics", e);
+    }
+  }
+
+  @Override
+  public void reset() {
+    commands.values().forEach(LatencyHistogram::reset);
+  }
+
+  /**
+   * write statistics as JSON file
+   *
+   * @param reportFile file to write
+   */
+  public void writeReport(File reportFile) {
+    try {
+      new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile, getCommands());
+    } catch (IOException e) {
+      throw new UtamCoreError(String.format(ERR_WRITING_REPORT, reportFile), e);
+    }
+  }
+
+  /**
+   * write statistics as JSON file when JVM exits, only first call schedules the report
+   *
+   * @param reportFile file to write
+   */
+  public void writeReportOnExit(File reportFile) {
+    if (isReportScheduled.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        try {
+          writeReport(reportFile);
+        } catch (UtamCoreError e) {
+          error(e);
+        }
+      }, "utam-driver-metrics-report"));
+    }
+  }
+
+  private static final class Holder {
+
+    private static final DriverMetrics INSTANCE = register();
+  }
+}
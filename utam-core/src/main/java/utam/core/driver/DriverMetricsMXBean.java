@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import java.util.List;
+
+/**
+ * JMX view of driver commands statistics, registered as "utam.core:type=DriverMetrics"
+ *
+ * @since 236
+ */
+public interface DriverMetricsMXBean {
+
+  /**
+   * @return statistics of every recorded command, sorted by total time spent
+   */
+  List<CommandStatistics> getCommands();
+
+  /**
+   * @return same statistics as JSON string
+   */
+  String getJson();
+
+  /**
+   * forget all recorded statistics
+   */
+  void reset();
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import utam.core.element.Element;
+import utam.core.element.FindContext;
+import utam.core.element.Locator;
+import utam.core.selenium.element.DriverAdapter;
+
+/**
+ * driver decorator that records count, latency and failures of every command in driver metrics.
+ * Finds are recorded by locator strategy, scripts by their text and waits by their message.
+ * Frame switches of withinFrame are recorded together, without time of the action itself.
+ * Elements found through the wrapped driver adapter use this driver, so their finds and scripts are
+ * recorded the same way and other element commands are recorded by name.
+ *
+ * @since 236
+ */
+public class MeasuredDriver implements AsyncDriver {
+
+  // long scripts are recorded by beginning of the text and hash of the whole text
+  static final int SCRIPT_PREFIX_LENGTH = 60;
+  private static final String DEFAULT_WAIT_MESSAGE = "wait for condition";
+
+  private final Driver driver;
+  private final DriverMetrics metrics;
+
+  public MeasuredDriver(Driver driver, DriverMetrics metrics) {
+    this.driver = driver;
+    this.metrics = metrics;
+    Driver unwrapped = getUnwrapped(driver);
+    if (unwrapped instanceof DriverAdapter) {
+      ((DriverAdapter) unwrapped).setElementsDriver(this);
+    }
+  }
+
+  public MeasuredDriver(Driver driver) {
+    this(driver, DriverMetrics.getInstance());
+  }
+
+  /**
+   * unwrap driver to get the one that sends commands
+   *
+   * @param driver driver instance, can be measured
+   * @return driver that is not a decorator
+   */
+  public static Driver getUnwrapped(Driver driver) {
+    Driver unwrapped = driver;
+    while (unwrapped instanceof MeasuredDriver) {
+      unwrapped = ((MeasuredDriver) unwrapped).driver;
+    }
+    return unwrapped;
+  }
+
+  static String getScriptCommand(String script) {
+    String text = script.length() > SCRIPT_PREFIX_LENGTH ?
+        script.substring(0, SCRIPT_PREFIX_LENGTH) + "..." : script;
+    return String.format("executeScript %s #%08x", text.replaceAll("\\s+", " "),
+        script.hashCode());
+  }
+
+  /**
+   * name of the find command recorded in metrics
+   *
+   * @param command find command
+   * @param by      locator
+   * @return command name with locator strategy
+   */
+  public static String getFindCommand(String command, Locator by) {
+    return command + " " + by.getValue().getClass().getSimpleName();
+  }
+
+  /**
+   * record command that is not sent through this driver, used by elements found with it
+   *
+   * @param command name of the command
+   * @param action  action that sends the command
+   * @param <T>     type of the result
+   * @return result of the action
+   */
+  public <T> T measure(String command, Supplier<T> action) {
+    long start = System.nanoTime();
+    boolean isFailed = true;
+    try {
+      T res = action.get();
+      isFailed = false;
+      return res;
+    } finally {
+      metrics.record(command, System.nanoTime() - start, isFailed);
+    }
+  }
+
+  /**
+   * record command without result that is not sent through this driver
+   *
+   * @param command name of the command
+   * @param action  action that sends the command
+   */
+  public void measure(String command, Runnable action) {
+    measure(command, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  @Override
+  public Object executeScript(String script, Object... parameters) {
+    return measure(getScriptCommand(script), () -> driver.executeScript(script, parameters));
+  }
+
+  @Override
+  public Element findElement(Locator by, FindContext finderContext) {
+    return measure(getFindCommand("findElement", by),
+        () -> driver.findElement(by, finderContext));
+  }
+
+  @Override
+  public List<Element> findElements(Locator by, FindContext finderContext) {
+    return measure(getFindCommand("findElements", by),
+        () -> driver.findElements(by, finderContext));
+  }
+
+  @Override
+  public <T> T waitFor(Supplier<T> isTrue, String message, Duration timeout) {
+    return measure("waitFor " + (message == null ? DEFAULT_WAIT_MESSAGE : message),
+        () -> driver.waitFor(isTrue, message, timeout));
+  }
+
+  @Override
+  public void enterFrame(Element element) {
+    measure("enterFrame", () -> driver.enterFrame(element));
+  }
+
+  @Override
+  public void exitToParentFrame() {
+    measure("exitToParentFrame", driver::exitToParentFrame);
+  }
+
+  @Override
+  public void exitFrame() {
+    measure("exitFrame", driver::exitFrame);
+  }
+
+  @Override
+  public <T> T withinFrame(Element frame, Supplier<T> action) {
+    // only switches to enter and restore frames are recorded, action records its own commands
+    long[] actionNanos = new long[1];
+    boolean[] isActionFailed = new boolean[1];
+    long start = System.nanoTime();
+    boolean isFailed = true;
+    try {
+      T res = driver.withinFrame(frame, () -> {
+        long actionStart = System.nanoTime();
+        isActionFailed[0] = true;
+        try {
+          T value = action.get();
+          isActionFailed[0] = false;
+          return value;
+        } finally {
+          actionNanos[0] = System.nanoTime() - actionStart;
+        }
+      });
+      isFailed = false;
+      return res;
+    } finally {
+      metrics.record("withinFrame", System.nanoTime() - start - actionNanos[0],
+          isFailed && !isActionFailed[0]);
+    }
+  }
+
+  @Override
+  public void setPageContextToNative() {
+    measure("setPageContextToNative", driver::setPageContextToNative);
+  }
+
+  @Override
+  public void setPageContextToWebView(String title) {
+    measure("setPageContextToWebView", () -> driver.setPageContextToWebView(title));
+  }
+
+  @Override
+  public boolean isNative() {
+    // only mobile driver requests context, web driver answers without a command
+    return driver.isMobile() ? measure("isNative", driver::isNative) : driver.isNative();
+  }
+
+  @Override
+  public boolean isMobile() {
+    return driver.isMobile();
+  }
+
+  @Override
+  public String getUrl() {
+    return measure("getUrl", driver::getUrl);
+  }
+
+  @Override
+  public String getContext() {
+    return measure("getContext", driver::getContext);
+  }
+
+  @Override
+  public DriverConfig getDriverConfig() {
+    return driver.getDriverConfig();
+  }
+
+  @Override
+  public <T> CompletableFuture<T> submit(Supplier<T> command) {
+    if (driver instanceof AsyncDriver) {
+      return ((AsyncDriver) driver).submit(command);
+    }
+    return CompletableFuture.supplyAsync(command, AsyncDriverExecutor.getDefault());
+  }
+}
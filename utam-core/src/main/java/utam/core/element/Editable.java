@@ -45,4 +45,16 @@ public interface Editable extends BasicElement {
    * @param key string representing a key like "Enter" or "Space"
    */
   void press(CharSequence key);
+
+  /**
+   * replace value of the element without key strokes: value is set with the native value setter,
+   * then input and change events are dispatched. Much faster than clearAndType for long text, but
+   * keyboard listeners are not triggered. If element is not a text input, text area or content
+   * editable element, falls back to clearAndType. Default implementation always uses clearAndType.
+   *
+   * @param text text to set
+   */
+  default void injectText(String text) {
+    clearAndType(text);
+  }
 }
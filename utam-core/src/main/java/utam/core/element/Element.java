@@ -113,6 +113,23 @@ public interface Element {
    */
   void setText(String text);
 
+  /**
+   * set text of a text input, text area or content editable element with one script and dispatch
+   * input and change events, no key strokes are sent
+   *
+   * @param text     string to set
+   * @param isAppend if true, text is appended to the current value, otherwise value is replaced
+   * @return false if element does not accept text and nothing was set
+   */
+  default boolean injectText(String text, boolean isAppend) {
+    // implementations that can't run scripts type the text
+    if (!isAppend) {
+      clear();
+    }
+    setText(text);
+    return true;
+  }
+
   /**
    * scroll the element into view
    *
@@ -31,5 +31,37 @@ public interface Locator<T> {
     return new SimpleEntry<>(currentIndex, this);
   }
 
+  /**
+   * by default parameters are counted in the string value, "%%" is an escaped percent
+   *
+   * @return number of parameters in selector
+   */
+  default int getParametersCount() {
+    String value = getStringValue();
+    int count = 0;
+    for (int i = 0; i < value.length() - 1; i++) {
+      if (value.charAt(i) == '%') {
+        char next = value.charAt(i + 1);
+        if (next == SELECTOR_STRING_PARAMETER.charAt(1)
+            || next == SELECTOR_INTEGER_PARAMETER.charAt(1)) {
+          count++;
+        }
+        i++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * same as setParameters, but does not return index of the next parameter
+   *
+   * @param currentIndex index of the first parameter for this locator
+   * @param values       all parameters of the element
+   * @return locator with applied parameters or same locator if it has no parameters
+   */
+  default Locator<T> bindParameters(int currentIndex, Object... values) {
+    return setParameters(currentIndex, values).getValue();
+  }
+
   Locator getCopy();
 }
@@ -10,6 +10,11 @@ package utam.core.framework.base;
 import static utam.core.framework.element.BasePageElement.createInstance;
 
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import utam.core.driver.AsyncDriver;
 import utam.core.driver.Document;
 import utam.core.element.BasicElement;
 import utam.core.element.Element;
@@ -20,6 +25,7 @@ import utam.core.framework.UtamCoreError;
 import utam.core.framework.consumer.ContainerElement;
 import utam.core.framework.element.BasePageElement;
 import utam.core.framework.element.DocumentObject;
+import utam.core.framework.element.FormFill;
 
 /**
  * base class for any UTAM page object, analogue of the UtamBasePageObject in JS library
@@ -54,6 +60,15 @@ public abstract class BasePageObject extends UtamBaseImpl implements PageObject
     return document;
   }
 
+  /**
+   * start a batch of form field actions that are applied with one script
+   *
+   * @return builder of form field actions
+   */
+  protected final FormFill fillForm() {
+    return getDocument().fillForm();
+  }
+
   protected final ElementLocation getRootLocator() {
     return root;
   }
@@ -142,6 +157,37 @@ public abstract class BasePageObject extends UtamBaseImpl implements PageObject
     return utility;
   }
 
+  /**
+   * used by generator for consecutive reads of basic elements in a compose method that opts in with
+   * "batchReads": with asynchronous driver all reads are sent at once from worker threads through
+   * the same driver session, so latency is paid once for the batch. Driver should accept concurrent
+   * commands, and reads should not switch frames or mobile context. Values are returned in the same
+   * order as reads. Unlike sequential reads, reads after a failed one are still sent and can wait
+   * for their own timeouts. Error of the first failed read is thrown once it and all previous reads
+   * complete, later reads can still be running. Without asynchronous driver reads are sequential.
+   *
+   * @param reads each read finds an element and returns its value
+   * @return array of values in the same order
+   */
+  protected final Object[] readInBatch(Supplier<?>... reads) {
+    Object[] values = new Object[reads.length];
+    if (!(getDriver() instanceof AsyncDriver)) {
+      for (int i = 0; i < reads.length; i++) {
+        values[i] = reads[i].get();
+      }
+      return values;
+    }
+    AsyncDriver driver = getAsyncDriver();
+    List<CompletableFuture<?>> futures = new ArrayList<>(reads.length);
+    for (Supplier<?> read : reads) {
+      futures.add(driver.submit(read));
+    }
+    for (int i = 0; i < reads.length; i++) {
+      values[i] = AsyncDriver.await(futures.get(i));
+    }
+    return values;
+  }
+
   /**
    * create instance of the proxy type that implements custom union type
    *
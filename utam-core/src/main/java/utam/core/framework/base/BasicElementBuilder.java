@@ -28,10 +28,26 @@ public class BasicElementBuilder {
 
   private final PageObjectsFactory factory;
   private final ElementLocation elementFinder;
+  private final boolean isInjectText;
 
-  BasicElementBuilder(PageObjectsFactory factory, ElementLocation elementFinder) {
+  private BasicElementBuilder(PageObjectsFactory factory, ElementLocation elementFinder,
+      boolean isInjectText) {
     this.factory = factory;
     this.elementFinder = elementFinder;
+    this.isInjectText = isInjectText;
+  }
+
+  BasicElementBuilder(PageObjectsFactory factory, ElementLocation elementFinder) {
+    this(factory, elementFinder, false);
+  }
+
+  /**
+   * used by generator for elements marked with "injectText" in JSON
+   *
+   * @return builder for elements that inject text instead of typing it
+   */
+  public BasicElementBuilder withTextInjection() {
+    return new BasicElementBuilder(factory, elementFinder, true);
   }
 
   /**
@@ -54,7 +70,7 @@ public class BasicElementBuilder {
       return null;
     }
 
-    return createInstance(implType, element, factory);
+    return createInstance(implType, element, factory, isInjectText);
   }
 
   /**
@@ -106,7 +122,7 @@ public class BasicElementBuilder {
 
     return elementsFound
         .stream()
-        .map(el -> (T) createInstance(implType, el, factory))
+        .map(el -> (T) createInstance(implType, el, factory, isInjectText))
         .collect(Collectors.toList());
   }
 
@@ -13,11 +13,14 @@ import static utam.core.framework.base.PageMarker.getRootLocatorFromAnnotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import utam.core.driver.Driver;
+import utam.core.driver.MeasuredDriver;
 import utam.core.element.ElementLocation;
+import utam.core.element.FindContext;
 import utam.core.element.Locator;
 import utam.core.framework.consumer.PageObjectContext;
 import utam.core.framework.consumer.UtamError;
@@ -47,7 +50,9 @@ public class PageObjectsFactoryImpl implements PageObjectsFactory {
   }
 
   public PageObjectsFactoryImpl(UtamLoaderConfig utamLoaderConfig, Driver driver) {
-    this(utamLoaderConfig.getPageContext(), utamLoaderConfig.getBridgeAppTitle(), driver);
+    this(utamLoaderConfig.getPageContext(), utamLoaderConfig.getBridgeAppTitle(),
+        utamLoaderConfig.isDriverMetricsEnabled() && !(driver instanceof MeasuredDriver)
+            ? new MeasuredDriver(driver) : driver);
   }
 
   /**
@@ -119,6 +124,13 @@ public class PageObjectsFactoryImpl implements PageObjectsFactory {
   static class FieldsBuilder {
 
     static final String NON_EXISTING_FIELD_ERROR = "non-existing field '%s' is referenced as a scope";
+    // annotated fields are read once per page object class and shared by all threads
+    private static final ClassValue<List<ElementField>> ELEMENT_FIELDS = new ClassValue<>() {
+      @Override
+      protected List<ElementField> computeValue(Class<?> type) {
+        return getElementFields(type);
+      }
+    };
 
     private final BasePageObject instance;
     private final Map<String, ElementLocation> pageElements = new TreeMap<>();
@@ -127,55 +139,71 @@ public class PageObjectsFactoryImpl implements PageObjectsFactory {
       this.instance = instance;
     }
 
-    // get fields including base classes
-    private List<Field> getFields() {
-      List<Field> fields = new ArrayList<>();
-      Class clazz = instance.getClass();
+    // get annotated fields including base classes
+    private static List<ElementField> getElementFields(Class<?> type) {
+      List<ElementField> fields = new ArrayList<>();
+      Class<?> clazz = type;
       while (clazz != Object.class) {
-        fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
+        Arrays.stream(clazz.getDeclaredFields())
+            .filter(f -> ElementLocation.class.isAssignableFrom(f.getType())
+                && f.getAnnotation(ElementMarker.Find.class) != null)
+            .map(ElementField::new)
+            .forEach(fields::add);
         clazz = clazz.getSuperclass();
       }
-      return fields;
+      return Collections.unmodifiableList(fields);
     }
 
     ElementLocation getLocator(Field f) {
-      ElementMarker.Find annotation = f.getDeclaredAnnotation(ElementMarker.Find.class);
-      String scopeString = annotation.scope();
+      return getLocator(new ElementField(f));
+    }
+
+    private ElementLocation getLocator(ElementField field) {
       ElementLocation finder;
-      if (scopeString.isEmpty()) {
-        finder = instance.getRootLocator()
-            .scope(ElementMarker.getLocator(annotation),
-                ElementMarker.getFinderContext(annotation));
-      } else if (pageElements.containsKey(scopeString)) {
-        finder = pageElements.get(scopeString)
-            .scope(ElementMarker.getLocator(annotation),
-                ElementMarker.getFinderContext(annotation));
+      if (field.scope.isEmpty()) {
+        finder = instance.getRootLocator().scope(field.locator, field.findContext);
+      } else if (pageElements.containsKey(field.scope)) {
+        finder = pageElements.get(field.scope).scope(field.locator, field.findContext);
       } else {
-        throw new UtamError(String.format(NON_EXISTING_FIELD_ERROR, scopeString));
+        throw new UtamError(String.format(NON_EXISTING_FIELD_ERROR, field.scope));
       }
-      pageElements.put(f.getName(), finder);
+      pageElements.put(field.name, finder);
       return finder;
     }
 
     void bootstrapElements() {
-      getFields()
-          .stream()
-          .filter(f -> ElementLocation.class.isAssignableFrom(f.getType())
-              && f.getAnnotation(ElementMarker.Find.class) != null)
-          .forEach(
-              f -> {
-                ElementLocation elementLocation = getLocator(f);
-                try {
-                  f.setAccessible(true);
-                  f.set(instance, elementLocation);
-                } catch (Exception e) {
-                  throw new UtamError(
-                      String.format(
-                          "Error while setting field '%s' in class '%s'",
-                          f.getName(), instance.getClass().getSimpleName()),
-                      e);
-                }
-              });
+      for (ElementField field : ELEMENT_FIELDS.get(instance.getClass())) {
+        ElementLocation elementLocation = getLocator(field);
+        try {
+          field.field.set(instance, elementLocation);
+        } catch (Exception e) {
+          throw new UtamError(
+              String.format(
+                  "Error while setting field '%s' in class '%s'",
+                  field.name, instance.getClass().getSimpleName()),
+              e);
+        }
+      }
+    }
+  }
+
+  // immutable metadata of an annotated field, locator is immutable as well
+  private static final class ElementField {
+
+    private final Field field;
+    private final String name;
+    private final String scope;
+    private final Locator locator;
+    private final FindContext findContext;
+
+    ElementField(Field field) {
+      ElementMarker.Find annotation = field.getDeclaredAnnotation(ElementMarker.Find.class);
+      field.setAccessible(true);
+      this.field = field;
+      this.name = field.getName();
+      this.scope = annotation.scope();
+      this.locator = ElementMarker.getLocator(annotation);
+      this.findContext = ElementMarker.getFinderContext(annotation);
     }
   }
 }
@@ -11,6 +11,7 @@ import static utam.core.element.FindContext.Type.NULLABLE;
 import static utam.core.element.FindContext.Type.NULLABLE_IN_SHADOW;
 
 import java.util.function.Supplier;
+import utam.core.driver.AsyncDriver;
 import utam.core.driver.Driver;
 import utam.core.element.Element;
 import utam.core.element.Locator;
@@ -25,6 +26,8 @@ import utam.core.framework.UtamLogger;
  */
 public abstract class UtamBaseImpl implements UtamBase {
 
+  static final String ERR_ASYNC_NOT_SUPPORTED = "driver %s does not support asynchronous commands";
+
   protected UtamBaseImpl() {}
 
   protected abstract Element getElement();
@@ -35,6 +38,19 @@ public abstract class UtamBaseImpl implements UtamBase {
     return getFactory().getDriver();
   }
 
+  /**
+   * driver to send independent commands together, for example to read several elements
+   *
+   * @return driver that returns futures
+   */
+  protected final AsyncDriver getAsyncDriver() {
+    Driver driver = getDriver();
+    if (!(driver instanceof AsyncDriver)) {
+      throw new UtamCoreError(String.format(ERR_ASYNC_NOT_SUPPORTED, driver.getClass().getName()));
+    }
+    return (AsyncDriver) driver;
+  }
+
   protected final void log(String message) {
     UtamLogger.info(getLogMessage(message));
   }
@@ -9,13 +9,18 @@ package utam.core.framework.consumer;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import utam.core.framework.UtamCoreError;
 import utam.core.framework.base.BasePageObject;
 import utam.core.framework.base.PageObject;
 
 /**
- * context to build page object from interface class
+ * context to build page object from interface class. Context is immutable and can be shared by
+ * threads: beans are copied on creation and constructor of the implementing class is resolved once
+ * per type.
  *
  * @author elizaveta.ivanova
  * @since 226
@@ -26,9 +31,10 @@ public class PageObjectContextImpl implements PageObjectContext {
   static final String ERR_GET_INSTANCE_BY_NAME = "can't create instance of type '%s'";
 
   private final Map<Class<? extends PageObject>, Class> activeBeans;
+  private final Map<Class<?>, Constructor<?>> constructors = new ConcurrentHashMap<>();
 
   public PageObjectContextImpl(Map<Class<? extends PageObject>, Class> activeBeans) {
-    this.activeBeans = activeBeans;
+    this.activeBeans = Collections.unmodifiableMap(new HashMap<>(activeBeans));
   }
 
   public static Class getClassFromName(String className) {
@@ -45,8 +51,7 @@ public class PageObjectContextImpl implements PageObjectContext {
     return new String[] {typeName, String.format("%s.impl.%s", packageName, typeName)};
   }
 
-  @Override
-  public <T extends PageObject> T getBean(Class<T> type) {
+  private <T extends PageObject> Constructor<? extends T> getConstructor(Class<T> type) {
     Class<? extends T> implementingClass;
     if (BasePageObject.class.isAssignableFrom(type)) { // if class and not interface is passed
       implementingClass = type;
@@ -59,9 +64,23 @@ public class PageObjectContextImpl implements PageObjectContext {
     try {
       Constructor<? extends T> constructor = implementingClass.getConstructor();
       constructor.setAccessible(true);
+      return constructor;
+    } catch (NoSuchMethodException e) {
+      throw new UtamError(String.format(ERR_GET_INSTANCE_BY_NAME, type.getName()), e);
+    }
+  }
+
+  @Override
+  public <T extends PageObject> T getBean(Class<T> type) {
+    Constructor<? extends T> constructor = (Constructor<? extends T>) constructors.get(type);
+    if (constructor == null) {
+      // resolved outside of map lock, concurrent first calls resolve same constructor
+      constructor = getConstructor(type);
+      constructors.putIfAbsent(type, constructor);
+    }
+    try {
       return constructor.newInstance();
-    } catch (NoSuchMethodException
-        | IllegalAccessException
+    } catch (IllegalAccessException
         | InstantiationException
         | InvocationTargetException e) {
       throw new UtamError(String.format(ERR_GET_INSTANCE_BY_NAME, type.getName()), e);
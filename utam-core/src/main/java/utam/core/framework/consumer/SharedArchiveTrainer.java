@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.consumer;
+
+import static utam.core.element.FindContext.Type.EXISTING;
+import static utam.core.framework.UtamLogger.info;
+import static utam.core.framework.consumer.PageObjectContextImpl.getClassFromName;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import utam.core.element.ElementLocation;
+import utam.core.framework.UtamCoreError;
+import utam.core.framework.base.BasePageObject;
+import utam.core.framework.base.PageObject;
+import utam.core.framework.base.PageObjectsFactory;
+import utam.core.framework.base.PageObjectsFactoryImpl;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.selenium.element.DriverAdapter;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * creates class data sharing (AppCDS) archive for page objects modules, so that test JVM does not
+ * load and verify thousands of generated classes on every start. Compiler writes list of generated
+ * classes for every module next to dependencies configs. Training loads every listed class and
+ * bootstraps every page object once through page objects context, so that the archive also has
+ * framework, Selenium and Jackson classes used at startup. Tests should run with
+ * <code>-XX:SharedArchiveFile=archive.jsa</code> and same classpath that was used to create the
+ * archive. CDS only archives classes loaded from jar files.
+ *
+ * @since 236
+ */
+public final class SharedArchiveTrainer {
+
+  public static final String CLASS_LIST_EXTENSION = ".classlist";
+  static final String DEFAULT_CLASS_LIST_NAME = "utam";
+  static final String TRAIN_COMMAND = "train";
+  static final String DUMP_COMMAND = "dump";
+  static final String ERR_PROCESS_FAILED = "%s process exited with code %d";
+  static final String ERR_READING_CLASS_LIST = "can't read class list '%s'";
+  static final String ERR_UNKNOWN_COMMAND = "usage: %s [module...] | %s archive [module...]";
+  // page objects are bootstrapped with root that is never searched
+  private static final ElementLocation TRAINING_ROOT =
+      new ElementLocationChain(LocatorBy.byCss("utam-training"), EXISTING);
+
+  private SharedArchiveTrainer() {
+  }
+
+  /**
+   * @param moduleName name of the page objects module, can be null
+   * @return name of the resource with list of classes generated for the module
+   */
+  public static String getClassListName(String moduleName) {
+    if (moduleName == null || moduleName.isEmpty()) {
+      return DEFAULT_CLASS_LIST_NAME + CLASS_LIST_EXTENSION;
+    }
+    return moduleName + CLASS_LIST_EXTENSION;
+  }
+
+  /**
+   * read class lists of given modules from classpath, class lists use JVM internal names
+   *
+   * @param classLoader class loader to get resources
+   * @param modules     names of page objects modules
+   * @return binary names of classes
+   */
+  static List<String> getClassNames(ClassLoader classLoader, Collection<String> modules) {
+    Set<String> classNames = new LinkedHashSet<>();
+    for (String module : modules) {
+      String resourceName = getClassListName(module);
+      try {
+        for (URL url : Collections.list(classLoader.getResources(resourceName))) {
+          try (BufferedReader reader = new BufferedReader(
+              new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .map(line -> line.replace('/', '.'))
+                .forEach(classNames::add);
+          }
+        }
+      } catch (IOException e) {
+        throw new UtamCoreError(String.format(ERR_READING_CLASS_LIST, resourceName), e);
+      }
+    }
+    return new ArrayList<>(classNames);
+  }
+
+  /**
+   * load every class and bootstrap every page object implementation once
+   *
+   * @param loaderConfig loader configuration to get page objects context from
+   * @param classNames   binary names of classes
+   * @return number of bootstrapped page objects
+   */
+  public static int train(UtamLoaderConfig loaderConfig, Collection<String> classNames) {
+    // driver is not called while bootstrapping, but its classes are loaded
+    PageObjectsFactory factory = new PageObjectsFactoryImpl(loaderConfig,
+        new DriverAdapter(null, loaderConfig.getDriverConfig()));
+    PageObjectContext pageObjectContext = factory.getPageContext();
+    int counter = 0;
+    for (String className : classNames) {
+      Class type = getClassFromName(className);
+      if (BasePageObject.class.isAssignableFrom(type)
+          && !Modifier.isAbstract(type.getModifiers())) {
+        PageObject instance = pageObjectContext.getBean((Class<? extends PageObject>) type);
+        factory.bootstrap(instance, TRAINING_ROOT);
+        counter++;
+      }
+    }
+    return counter;
+  }
+
+  private static void runJava(String processName, List<String> arguments)
+      throws IOException, InterruptedException {
+    List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(arguments);
+    int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+    if (exitCode != 0) {
+      throw new UtamCoreError(String.format(ERR_PROCESS_FAILED, processName, exitCode));
+    }
+  }
+
+  /**
+   * train in a separate JVM that records loaded classes, then dump archive with recorded classes
+   *
+   * @param classpath classpath of tests, archive can only be used with same classpath
+   * @param modules   names of page objects modules
+   * @param archive   archive file to create
+   * @throws IOException          if process can't be started
+   * @throws InterruptedException if interrupted while waiting for process
+   */
+  public static void createArchive(String classpath, Collection<String> modules, File archive)
+      throws IOException, InterruptedException {
+    long timer = System.currentTimeMillis();
+    File classList = File.createTempFile("utam-training", CLASS_LIST_EXTENSION);
+    try {
+      List<String> training = new ArrayList<>(Arrays.asList(
+          "-Xshare:off",
+          "-XX:DumpLoadedClassList=" + classList.getAbsolutePath(),
+          "-cp", classpath,
+          SharedArchiveTrainer.class.getName(), TRAIN_COMMAND));
+      // module without name is used by default
+      modules.stream().filter(Objects::nonNull).forEach(training::add);
+      runJava("training", training);
+      runJava("archive dump", Arrays.asList(
+          "-Xshare:dump",
+          "-XX:SharedClassListFile=" + classList.getAbsolutePath(),
+          "-XX:SharedArchiveFile=" + archive.getAbsolutePath(),
+          "-cp", classpath));
+    } finally {
+      classList.delete();
+    }
+    info(String.format("created shared archive %s, took %d msec", archive,
+        System.currentTimeMillis() - timer));
+  }
+
+  /**
+   * <code>train [module...]</code> loads and bootstraps page objects of given modules, <code>dump
+   * archive [module...]</code> creates archive for current classpath. If no modules are given,
+   * class list of the module without name is used.
+   *
+   * @param args command and its arguments
+   * @throws IOException          if process can't be started
+   * @throws InterruptedException if interrupted while waiting for process
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    if (args.length > 0 && TRAIN_COMMAND.equals(args[0])) {
+      List<String> modules = getModules(args, 1);
+      List<String> classNames = getClassNames(SharedArchiveTrainer.class.getClassLoader(),
+          modules);
+      int counter = train(new UtamLoaderConfigImpl(), classNames);
+      info(String.format("loaded %d classes, bootstrapped %d page objects", classNames.size(),
+          counter));
+    } else if (args.length > 1 && DUMP_COMMAND.equals(args[0])) {
+      createArchive(System.getProperty("java.class.path"), getModules(args, 2),
+          new File(args[1]));
+    } else {
+      throw new UtamCoreError(String.format(ERR_UNKNOWN_COMMAND, TRAIN_COMMAND, DUMP_COMMAND));
+    }
+  }
+
+  private static List<String> getModules(String[] args, int from) {
+    if (args.length <= from) {
+      return Collections.singletonList(null);
+    }
+    return Arrays.asList(args).subList(from, args.length);
+  }
+}
@@ -12,8 +12,8 @@ import utam.core.driver.DriverConfig;
 import utam.core.framework.context.Profile;
 
 /**
- * configuration of the UTAM integration by consumer, configuration should be created every time
- * Driver is created
+ * configuration of the UTAM integration by consumer. Configuration can be set up once and shared by
+ * loaders running in parallel threads, each loader with its own Driver
  *
  * @author elizaveta.ivanova
  * @since 230
@@ -86,4 +86,26 @@ public interface UtamLoaderConfig {
    * @param title title of the bridge app
    */
   void setBridgeAppTitle(String title);
+
+  /**
+   * record count, latency and failures of driver commands, statistics are available as JMX MBean
+   * "utam.core:type=DriverMetrics". Nothing is recorded when disabled, which is default
+   *
+   * @param isEnabled true to record driver commands for loaders created after this call
+   */
+  void setDriverMetricsEnabled(boolean isEnabled);
+
+  /**
+   * check if driver commands are recorded
+   *
+   * @return true if driver metrics are enabled
+   */
+  boolean isDriverMetricsEnabled();
+
+  /**
+   * enable driver metrics and write them as JSON file when JVM exits
+   *
+   * @param reportFile path of the JSON report
+   */
+  void setDriverMetricsReport(String reportFile);
 }
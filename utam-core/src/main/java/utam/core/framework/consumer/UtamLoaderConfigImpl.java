@@ -12,14 +12,15 @@ import static utam.core.framework.consumer.PageObjectContextImpl.getClassFromNam
 
 import java.io.File;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import utam.core.driver.DriverConfig;
+import utam.core.driver.DriverMetrics;
 import utam.core.framework.UtamCoreError;
 import utam.core.framework.base.PageObject;
 import utam.core.framework.consumer.JsonLoaderConfig.Module;
@@ -28,7 +29,10 @@ import utam.core.framework.context.Profile;
 import utam.core.framework.context.ProfileContext;
 
 /**
- * Loader config is used to set
+ * Loader config is used to set profiles and driver timeouts. Config is set up once and then can be
+ * shared by loaders in parallel threads: page objects context is built once and cached until
+ * profiles change, driver config is replaced as a whole by setters, so readers always see a
+ * consistent value without locking.
  *
  * @author elizaveta.ivanova
  * @since 232
@@ -37,15 +41,16 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
 
   static final String ERR_DUPLICATE_PROFILE = "Profile %s = %s is already configured";
 
+  // guarded by this
   private final Map<ProfileKey, ProfileContext> configuredProfilesContext = new HashMap<>();
   // profiles that were set as active
-  private final List<Profile> activeProfiles = new ArrayList<>();
-  private final List<String> pageObjectModules = new ArrayList<>();
-  // driver timeouts
-  private Duration implicitTimeout = Duration.ZERO;
-  private Duration explicitTimeout = Duration.ofSeconds(20);
-  private Duration pollingInterval = Duration.ofMillis(200);
-  private String bridgeAppTitle;
+  private final List<Profile> activeProfiles = new CopyOnWriteArrayList<>();
+  private final List<String> pageObjectModules = new CopyOnWriteArrayList<>();
+  private volatile DriverConfig driverConfig = new DriverConfig();
+  private volatile String bridgeAppTitle;
+  private volatile boolean isDriverMetricsEnabled;
+  // built on first request, reset when profiles change
+  private volatile PageObjectContext pageObjectContext;
   private final BiFunction<String, Profile, ProfileContext> profileContextProvider;
 
   public UtamLoaderConfigImpl(JsonLoaderConfig config) {
@@ -77,10 +82,7 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
         setConfiguredProfile(moduleName, profile);
       }
     }
-    DriverConfig driverConfig = config.driverConfig;
-    setImplicitTimeout(driverConfig.getImplicitTimeout());
-    setExplicitTimeout(driverConfig.getExplicitTimeout());
-    setPollingInterval(driverConfig.getPollingInterval());
+    this.driverConfig = config.driverConfig;
   }
 
   private static Map<Class<? extends PageObject>, Class<? extends PageObject>> getConfiguredBeans(
@@ -95,20 +97,23 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
   }
 
   @Override
-  public void setConfiguredProfile(String module, Profile profile) {
+  public synchronized void setConfiguredProfile(String module, Profile profile) {
     ProfileKey key = new ProfileKey(profile, module);
     if (configuredProfilesContext.containsKey(key)) {
       throw new UtamCoreError(String.format(ERR_DUPLICATE_PROFILE, profile.getName(), profile.getValue()));
     }
     configuredProfilesContext.put(key, profileContextProvider.apply(module, profile));
+    pageObjectContext = null;
   }
 
   @Override
-  public void setProfile(Profile profile) {
+  public synchronized void setProfile(Profile profile) {
     if (activeProfiles.contains(profile)) {
       throw new UtamCoreError(String.format(ERR_DUPLICATE_PROFILE, profile.getName(), profile.getValue()));
     }
     activeProfiles.add(profile);
+    // context depends on active profiles even if profile is already configured for all modules
+    pageObjectContext = null;
     for (String module : pageObjectModules) {
       ProfileKey profileKey = new ProfileKey(profile, module);
       if (!configuredProfilesContext.containsKey(profileKey)) {
@@ -123,6 +128,21 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
 
   @Override
   public PageObjectContext getPageContext() {
+    PageObjectContext context = pageObjectContext;
+    if (context == null) {
+      synchronized (this) {
+        context = pageObjectContext;
+        if (context == null) {
+          context = buildPageContext();
+          pageObjectContext = context;
+        }
+      }
+    }
+    return context;
+  }
+
+  // called under lock
+  private PageObjectContext buildPageContext() {
     Map<Class<? extends PageObject>, Class> beans = new HashMap<>();
     // first load beans for inactive profiles, active profiles are loaded last
     configuredProfilesContext.keySet().forEach(key -> {
@@ -149,23 +169,26 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
   }
 
   @Override
-  public void setImplicitTimeout(Duration implicitTimeout) {
-    this.implicitTimeout = implicitTimeout;
+  public synchronized void setImplicitTimeout(Duration implicitTimeout) {
+    this.driverConfig = new DriverConfig(implicitTimeout, driverConfig.getExplicitTimeout(),
+        driverConfig.getPollingInterval());
   }
 
   @Override
-  public void setExplicitTimeout(Duration explicitTimeout) {
-    this.explicitTimeout = explicitTimeout;
+  public synchronized void setExplicitTimeout(Duration explicitTimeout) {
+    this.driverConfig = new DriverConfig(driverConfig.getImplicitTimeout(), explicitTimeout,
+        driverConfig.getPollingInterval());
   }
 
   @Override
-  public void setPollingInterval(Duration pollingInterval) {
-    this.pollingInterval = pollingInterval;
+  public synchronized void setPollingInterval(Duration pollingInterval) {
+    this.driverConfig = new DriverConfig(driverConfig.getImplicitTimeout(),
+        driverConfig.getExplicitTimeout(), pollingInterval);
   }
 
   @Override
   public DriverConfig getDriverConfig() {
-    return new DriverConfig(implicitTimeout, explicitTimeout, pollingInterval);
+    return driverConfig;
   }
 
   @Override
@@ -173,8 +196,24 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
     return bridgeAppTitle;
   }
 
+  @Override
+  public void setDriverMetricsEnabled(boolean isEnabled) {
+    this.isDriverMetricsEnabled = isEnabled;
+  }
+
+  @Override
+  public boolean isDriverMetricsEnabled() {
+    return isDriverMetricsEnabled;
+  }
+
+  @Override
+  public void setDriverMetricsReport(String reportFile) {
+    setDriverMetricsEnabled(true);
+    DriverMetrics.getInstance().writeReportOnExit(new File(reportFile));
+  }
+
   // used in tests
-  Set<Profile> getConfiguredProfiles() {
+  synchronized Set<Profile> getConfiguredProfiles() {
     return configuredProfilesContext.keySet().stream().map(key -> key.profile).collect(Collectors.toSet());
   }
 
@@ -30,7 +30,8 @@ import utam.core.selenium.element.ElementAdapter;
 import utam.core.selenium.factory.WebDriverFactory;
 
 /**
- * implementation of UtamLoader
+ * implementation of UtamLoader. Loader, its factory and document are confined to the thread that
+ * owns the driver and are cheap to create, config and page objects context are shared
  *
  * @author elizaveta.ivanova
  * @since 230
@@ -111,8 +112,10 @@ public class UtamLoaderImpl implements UtamLoader {
     T instance = factory.getPageContext().getBean(type);
     // todo - abstract selenium
     WebElement webElement = (WebElement) parent.getScope().get();
-    Element element =
-        driver.isMobile() ? new MobileElementAdapter(webElement, driver) : new ElementAdapter(webElement, driver);
+    // driver of the factory is measured if metrics are enabled
+    Driver elementsDriver = factory.getDriver();
+    Element element = driver.isMobile() ? new MobileElementAdapter(webElement, elementsDriver)
+        : new ElementAdapter(webElement, elementsDriver);
     ElementLocation finder = new ElementLocationChain(element)
         .scope(locator, EXISTING);
     factory.bootstrap(instance, finder);
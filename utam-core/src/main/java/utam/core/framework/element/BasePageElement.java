@@ -32,20 +32,40 @@ import utam.core.framework.consumer.UtamError;
 public class BasePageElement extends UtamBaseImpl implements Actionable, Clickable, Editable,
     Touchable, Draggable {
 
+  // when text injection is enabled, only last characters are typed with key strokes
+  static final int INJECTED_TEXT_TYPED_SUFFIX = 1;
   private Element element;
   private PageObjectsFactory factory;
+  private boolean isInjectText;
 
   // empty constructor is needed for union types to work
   public BasePageElement() {
   }
 
   public static <T extends BasicElement, R extends BasePageElement> T createInstance(Class<R> implType, Element element, PageObjectsFactory factory) {
+    return createInstance(implType, element, factory, false);
+  }
+
+  /**
+   * create element instance, used by element builder
+   *
+   * @param implType     type of the element implementation
+   * @param element      found element
+   * @param factory      page objects factory
+   * @param isInjectText if true, setText and clearAndType inject text and type only last
+   *                     characters with key strokes
+   * @param <T>          element type
+   * @param <R>          implementation type
+   * @return instance of the element or null if element was not found
+   */
+  public static <T extends BasicElement, R extends BasePageElement> T createInstance(
+      Class<R> implType, Element element, PageObjectsFactory factory, boolean isInjectText) {
     if(element.isNull()) {
       return null;
     }
     try {
       R instance =  implType.getConstructor().newInstance();
-      instance.initialize(factory, element);
+      instance.initialize(factory, element, isInjectText);
       return (T)instance;
     } catch (ReflectiveOperationException e) {
       throw new UtamError(
@@ -59,9 +79,10 @@ public class BasePageElement extends UtamBaseImpl implements Actionable, Clickab
   }
 
   // called from method that uses reflection to build an instance
-  void initialize(PageObjectsFactory factory, Element element) {
+  void initialize(PageObjectsFactory factory, Element element, boolean isInjectText) {
     this.factory = factory;
     this.element = element;
+    this.isInjectText = isInjectText;
   }
 
   @Override
@@ -99,7 +120,11 @@ public class BasePageElement extends UtamBaseImpl implements Actionable, Clickab
   @Override
   public void setText(String text) {
     log(String.format("set element text to '%s'", text));
-    getElement().setText(text);
+    if (isInjectText) {
+      injectText(text, true, INJECTED_TEXT_TYPED_SUFFIX);
+    } else {
+      getElement().setText(text);
+    }
   }
 
   @Override
@@ -155,8 +180,39 @@ public class BasePageElement extends UtamBaseImpl implements Actionable, Clickab
 
   @Override
   public void clearAndType(String text) {
-    getElement().clear();
-    getElement().setText(text);
+    if (isInjectText) {
+      injectText(text, false, INJECTED_TEXT_TYPED_SUFFIX);
+    } else {
+      getElement().clear();
+      getElement().setText(text);
+    }
+  }
+
+  @Override
+  public void injectText(String text) {
+    log("inject element text");
+    injectText(text, false, 0);
+  }
+
+  // inject all but last characters, then type them to trigger keyboard listeners
+  private void injectText(String text, boolean isAppend, int typedSuffix) {
+    int injectedLength = Math.max(text.length() - typedSuffix, 0);
+    String injected = text.substring(0, injectedLength);
+    String typed = text.substring(injectedLength);
+    // nothing to inject when appending short text
+    if (!injected.isEmpty() || !isAppend) {
+      if (!getElement().injectText(injected, isAppend)) {
+        // element does not accept injected text, type everything
+        if (!isAppend) {
+          getElement().clear();
+        }
+        getElement().setText(text);
+        return;
+      }
+    }
+    if (!typed.isEmpty()) {
+      getElement().setText(typed);
+    }
   }
 
   @Override
@@ -79,6 +79,14 @@ public class DocumentObject implements Document {
     driver.exitFrame();
   }
 
+  @Override
+  public <T> T withinFrame(FrameElement frame, Supplier<T> action) {
+    if(frame == null) {
+      throw new UtamCoreError(ERR_CANT_ENTER_NULL_FRAME);
+    }
+    return driver.withinFrame(getUnwrappedElement(frame), action);
+  }
+
   @Override
   public <T extends RootPageObject> T enterFrameAndLoad(FrameElement frame, Class<T> type) {
     enterFrame(frame);
@@ -91,4 +99,9 @@ public class DocumentObject implements Document {
   public final <T> T waitFor(Supplier<T> condition) {
     return driver.waitFor(condition, "wait for condition for Document object", null);
   }
+
+  @Override
+  public FormFill fillForm() {
+    return new FormFill(driver);
+  }
 }
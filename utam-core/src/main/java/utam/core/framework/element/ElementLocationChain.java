@@ -9,13 +9,8 @@ package utam.core.framework.element;
 
 import static utam.core.selenium.element.ElementAdapter.getNullElement;
 
-import java.util.AbstractMap.SimpleEntry;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.stream.Stream;
 import utam.core.driver.Driver;
 import utam.core.driver.DriverConfig;
 import utam.core.element.Element;
@@ -24,28 +19,56 @@ import utam.core.element.FindContext;
 import utam.core.element.Locator;
 
 /**
- * chain of locators for a page element
+ * chain of locators for a page element. Chain is immutable and linked to its parent, so scoping
+ * and setting parameters share the prefix with the original chain instead of copying it. Flat array
+ * of links is only built when elements are found. Chains are shared by threads through page objects
+ * metadata, so lazily built values are volatile.
  *
  * @author elizaveta.ivanova
  * @since 234
  */
 public final class ElementLocationChain implements ElementLocation {
 
-  private final Selector[] chain;
+  private final ElementLocationChain parent;
+  private final Selector selector;
+  private final int depth;
+  // total number of parameters in this link and all parents
+  private final int parametersCount;
   private final boolean isNullable;
-  private String chainString;
-
-  private ElementLocationChain(Selector[] chain, boolean isNullable) {
-    this.chain = chain;
+  private volatile Selector[] chain;
+  private volatile String chainString;
+
+  private ElementLocationChain(ElementLocationChain parent, Selector selector,
+      boolean isNullable) {
+    this.parent = parent;
+    this.selector = selector;
+    this.depth = parent == null ? 1 : parent.depth + 1;
+    this.parametersCount = (parent == null ? 0 : parent.parametersCount)
+        + selector.getParametersCount();
     this.isNullable = isNullable;
   }
 
   public ElementLocationChain(Locator locator, FindContext finderContext) {
-    this(new Selector[]{new Selector(locator, finderContext)}, finderContext.isNullable());
+    this(null, new Selector(locator, finderContext), finderContext.isNullable());
   }
 
   public ElementLocationChain(Element found) {
-    this(new Selector[]{new Instance(found)}, found.isNull());
+    this(null, new Instance(found), found.isNull());
+  }
+
+  // links from root to this, built once
+  private Selector[] getChain() {
+    Selector[] links = chain;
+    if (links == null) {
+      links = new Selector[depth];
+      ElementLocationChain link = this;
+      for (int i = depth - 1; i >= 0; i--) {
+        links[i] = link.selector;
+        link = link.parent;
+      }
+      chain = links;
+    }
+    return links;
   }
 
   @Override
@@ -60,14 +83,15 @@ public final class ElementLocationChain implements ElementLocation {
   }
 
   List<Element> findElementsUnwrapped(Driver driver) {
-    if (chain.length == 1) {
-      return chain[0].findElementsInsideDriver(driver);
+    Selector[] links = getChain();
+    if (links.length == 1) {
+      return links[0].findElementsInsideDriver(driver);
     }
-    Element current = chain[0].findElementInsideDriver(driver);
-    for (int i = 1; i < chain.length - 1; i++) {
-      current = chain[i].findElementInsideElement(driver, current);
+    Element current = links[0].findElementInsideDriver(driver);
+    for (int i = 1; i < links.length - 1; i++) {
+      current = links[i].findElementInsideElement(driver, current);
     }
-    return chain[chain.length - 1].findElementsInsideElement(current);
+    return links[links.length - 1].findElementsInsideElement(current);
   }
 
   @Override
@@ -82,9 +106,10 @@ public final class ElementLocationChain implements ElementLocation {
   }
 
   Element findElementUnwrapped(Driver driver) {
-    Element current = chain[0].findElementInsideDriver(driver);
-    for (int i = 1; i < chain.length; i++) {
-      current = chain[i].findElementInsideElement(driver, current);
+    Selector[] links = getChain();
+    Element current = links[0].findElementInsideDriver(driver);
+    for (int i = 1; i < links.length; i++) {
+      current = links[i].findElementInsideElement(driver, current);
       if(current.isNull()) {
         // if intermittent element was not found, no point to continue search
         return getNullElement(driver);
@@ -95,23 +120,19 @@ public final class ElementLocationChain implements ElementLocation {
 
   @Override
   public String getLocatorChainString() {
-    if (chainString != null) {
-      return chainString;
-    }
-    List<String> str = new ArrayList<>();
-    str.add("driver");
-    Stream.of(chain).forEach(link -> str.add(link.getString()));
-    chainString = String.join("", str);
-    return chainString;
+    String string = chainString;
+    if (string == null) {
+      String prefix = parent == null ? "driver" : parent.getLocatorChainString();
+      string = prefix + selector.getString();
+      chainString = string;
+    }
+    return string;
   }
 
   @Override
   public ElementLocation scope(Locator locator, FindContext finderContext) {
-    Selector[] links = Stream.of(chain).map(Selector::copy)
-        .toArray(Selector[]::new);
-    Selector[] copy = Arrays.copyOf(links, chain.length + 1);
-    copy[chain.length] = new Selector(locator, finderContext);
-    return new ElementLocationChain(copy, finderContext.isNullable());
+    return new ElementLocationChain(this, new Selector(locator, finderContext),
+        finderContext.isNullable());
   }
 
   @Override
@@ -119,14 +140,18 @@ public final class ElementLocationChain implements ElementLocation {
     if (parameters == null || parameters.length == 0) {
       return this;
     }
-    int index = 0;
-    Selector[] withParameters = new Selector[chain.length];
-    for (int i = 0; i < chain.length; i++) {
-      Entry<Integer, Selector> updated = chain[i].setParameters(index, parameters);
-      index += updated.getKey();
-      withParameters[i] = updated.getValue();
+    return bind(parameters);
+  }
+
+  // prefix without parameters is shared with this chain
+  private ElementLocationChain bind(Object[] parameters) {
+    if (parametersCount == 0) {
+      return this;
     }
-    return new ElementLocationChain(withParameters, isNullable);
+    ElementLocationChain boundParent = parent == null ? null : parent.bind(parameters);
+    Selector boundSelector = selector.getParametersCount() == 0 ? selector
+        : selector.setParameters(parent == null ? 0 : parent.parametersCount, parameters);
+    return new ElementLocationChain(boundParent, boundSelector, isNullable);
   }
 
   @Override
@@ -148,13 +173,12 @@ public final class ElementLocationChain implements ElementLocation {
       return String.format(" %s %s", findContext.getString(), locator.getValue().toString());
     }
 
-    Entry<Integer, Selector> setParameters(int index, Object... values) {
-      if (values == null || values.length == 0) {
-        return new SimpleEntry<>(index, this);
-      }
-      Entry<Integer, Locator> withParameters = this.locator.setParameters(index, values);
-      return new SimpleEntry<>(withParameters.getKey(),
-          new Selector(withParameters.getValue(), findContext));
+    int getParametersCount() {
+      return locator.getParametersCount();
+    }
+
+    Selector setParameters(int index, Object... values) {
+      return new Selector(locator.bindParameters(index, values), findContext);
     }
 
     Element findElementInsideDriver(Driver driver) {
@@ -172,10 +196,6 @@ public final class ElementLocationChain implements ElementLocation {
     List<Element> findElementsInsideElement(Element element) {
       return element.findElements(locator, findContext);
     }
-
-    Selector copy() {
-      return new Selector(locator.getCopy(), findContext);
-    }
   }
 
   static class Instance extends Selector {
@@ -201,8 +221,13 @@ public final class ElementLocationChain implements ElementLocation {
     }
 
     @Override
-    Entry<Integer, Selector> setParameters(int index, Object... values) {
-      return new SimpleEntry<>(index, this);
+    int getParametersCount() {
+      return 0;
+    }
+
+    @Override
+    Selector setParameters(int index, Object... values) {
+      return this;
     }
 
     @Override
@@ -224,10 +249,5 @@ public final class ElementLocationChain implements ElementLocation {
     List<Element> findElementsInsideElement(Element element) {
       return elements;
     }
-
-    @Override
-    Instance copy() {
-      return this;
-    }
   }
 }
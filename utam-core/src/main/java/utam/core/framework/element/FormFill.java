@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.element;
+
+import java.util.ArrayList;
+import java.util.List;
+import utam.core.driver.Driver;
+import utam.core.element.BasicElement;
+import utam.core.element.Element;
+import utam.core.framework.UtamCoreError;
+import utam.core.framework.UtamLogger;
+
+/**
+ * collects values of form fields and sets them with one script instead of clear and send keys for
+ * every field. Value is set with the native value setter of the field, then input, change and blur
+ * events are dispatched, so that LWC and other frameworks handle it as if user typed it. Fields
+ * that need real key strokes, for example masked inputs, opt out with {@link #typeText(BasicElement,
+ * String)}. Actions are applied in the order they were added. If script can't set a value, for
+ * example field is disabled or value does not fit input type, script stops at that field, the field
+ * is typed with send keys to get same behavior as {@link BasePageElement#clearAndType(String)} and
+ * remaining fields are sent with the next script, so events of the fields are still dispatched in
+ * order. Without a driver every field is typed.
+ *
+ * @since 236
+ */
+public class FormFill {
+
+  static final String ERR_CANT_SELECT = "can't select value '%s'";
+  static final String ERR_NOT_PAGE_ELEMENT = "form field should be a page element, got %s";
+  static final String FILL_FORM_JAVASCRIPT =
+      "var actions = arguments[0], values = arguments[1];"
+          + "for (var i = 0; i < actions.length; i++) {"
+          + "  var el = arguments[i + 2], value = actions[i] === 'clear' ? '' : values[i];"
+          + "  var proto = el instanceof HTMLInputElement ? HTMLInputElement.prototype"
+          + "    : el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+          + "    : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : null;"
+          + "  if (!proto || el.disabled || el.readOnly) { return i; }"
+          + "  try {"
+          + "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);"
+          + "  } catch (e) { return i; }"
+          + "  if (el.value !== value) { return i; }"
+          + "  el.dispatchEvent(new Event('input', {bubbles: true, composed: true}));"
+          + "  el.dispatchEvent(new Event('change', {bubbles: true, composed: true}));"
+          + "  el.dispatchEvent(new FocusEvent('blur'));"
+          + "  el.dispatchEvent(new FocusEvent('focusout', {bubbles: true, composed: true}));"
+          + "}"
+          + "return -1;";
+
+  private final Driver driver;
+  private final List<Action> actions = new ArrayList<>();
+
+  /**
+   * @param driver driver to run script, if null every field is typed with send keys
+   */
+  public FormFill(Driver driver) {
+    this.driver = driver;
+  }
+
+  /**
+   * form that types every field with send keys
+   */
+  public FormFill() {
+    this(null);
+  }
+
+  private static Element getElement(BasicElement element) {
+    if (!(element instanceof BasePageElement)) {
+      throw new UtamCoreError(String.format(ERR_NOT_PAGE_ELEMENT, element));
+    }
+    return ((BasePageElement) element).getElement();
+  }
+
+  private FormFill add(BasicElement element, ActionType type, String value) {
+    actions.add(new Action(getElement(element), type, value));
+    return this;
+  }
+
+  /**
+   * replace value of the field
+   *
+   * @param element input or text area
+   * @param text    new value
+   * @return this form
+   */
+  public FormFill setText(BasicElement element, String text) {
+    return add(element, ActionType.SET_TEXT, text);
+  }
+
+  /**
+   * clear value of the field
+   *
+   * @param element input or text area
+   * @return this form
+   */
+  public FormFill clear(BasicElement element) {
+    return add(element, ActionType.CLEAR, "");
+  }
+
+  /**
+   * select option of a select element by its value
+   *
+   * @param element select element
+   * @param value   value of the option
+   * @return this form
+   */
+  public FormFill select(BasicElement element, String value) {
+    return add(element, ActionType.SELECT, value);
+  }
+
+  /**
+   * opt out of the script: clear the field and type text with send keys
+   *
+   * @param element field that needs key strokes, for example masked input
+   * @param text    text to type
+   * @return this form
+   */
+  public FormFill typeText(BasicElement element, String text) {
+    return add(element, ActionType.TYPE_TEXT, text);
+  }
+
+  /**
+   * apply all collected actions, consecutive actions that do not need key strokes are sent with one
+   * script
+   */
+  public void apply() {
+    UtamLogger.info(String.format("fill form with %d fields", actions.size()));
+    int from = 0;
+    while (from < actions.size()) {
+      if (actions.get(from).type == ActionType.TYPE_TEXT || driver == null || driver.isNative()) {
+        actions.get(from).typeText();
+        from++;
+        continue;
+      }
+      int to = from;
+      while (to < actions.size() && actions.get(to).type != ActionType.TYPE_TEXT) {
+        to++;
+      }
+      int failed = applyScript(actions.subList(from, to));
+      if (failed < 0) {
+        from = to;
+      } else {
+        // fields after failed one were not changed yet, they are sent with next script
+        actions.get(from + failed).typeText();
+        from = from + failed + 1;
+      }
+    }
+    actions.clear();
+  }
+
+  // returns index of the field that script could not set, script stops at that field
+  private int applyScript(List<Action> batch) {
+    List<String> types = new ArrayList<>(batch.size());
+    List<String> values = new ArrayList<>(batch.size());
+    Object[] parameters = new Object[batch.size() + 2];
+    parameters[0] = types;
+    parameters[1] = values;
+    for (int i = 0; i < batch.size(); i++) {
+      Action action = batch.get(i);
+      types.add(action.type.scriptName);
+      values.add(action.value);
+      parameters[i + 2] = action.element;
+    }
+    Object failed = driver.executeScript(FILL_FORM_JAVASCRIPT, parameters);
+    return failed instanceof Number ? ((Number) failed).intValue() : -1;
+  }
+
+  enum ActionType {
+    SET_TEXT("text"),
+    CLEAR("clear"),
+    SELECT("select"),
+    TYPE_TEXT("keys");
+
+    private final String scriptName;
+
+    ActionType(String scriptName) {
+      this.scriptName = scriptName;
+    }
+  }
+
+  private static final class Action {
+
+    private final Element element;
+    private final ActionType type;
+    private final String value;
+
+    Action(Element element, ActionType type, String value) {
+      this.element = element;
+      this.type = type;
+      this.value = value;
+    }
+
+    // same as clear and type of the page element
+    void typeText() {
+      if (type == ActionType.SELECT) {
+        throw new UtamCoreError(String.format(ERR_CANT_SELECT, value));
+      }
+      element.clear();
+      if (type != ActionType.CLEAR) {
+        element.setText(value);
+      }
+    }
+  }
+}
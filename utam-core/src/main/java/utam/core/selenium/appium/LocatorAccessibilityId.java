@@ -18,13 +18,16 @@ import utam.core.selenium.element.LocatorBy;
  */
 public class LocatorAccessibilityId extends LocatorBy {
 
+  private final By by;
+
   public LocatorAccessibilityId(String selectorString) {
     super(selectorString);
+    this.by = MobileBy.AccessibilityId(stringValue);
   }
 
   @Override
   public By getValue() {
-    return MobileBy.AccessibilityId(stringValue);
+    return by;
   }
 
   @Override
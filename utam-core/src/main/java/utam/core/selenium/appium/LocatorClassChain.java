@@ -36,8 +36,11 @@ public class LocatorClassChain extends LocatorBy {
       String.format("only operator {%s} can be set, and must be leading and ending with space(s)",
           SUPPORTED_CLASSCHAIN_OPERATORS);
 
+  private final By by;
+
   public LocatorClassChain(String selectorString) {
     super(selectorString);
+    this.by = MobileBy.iOSClassChain(stringValue);
     // To avoid to split the string based on the / in attribute part, for example:
     // **/XCUIElementTypeStaticText[`text == 'https://q3lex.lightning.force.com/lightning/r/Account/sdf/view'`]
     Stream.of(selectorString.split("/XCUIElement"))
@@ -82,7 +85,7 @@ public class LocatorClassChain extends LocatorBy {
 
   @Override
   public By getValue() {
-    return MobileBy.iOSClassChain(stringValue);
+    return by;
   }
 
   enum Quote {
@@ -23,9 +23,12 @@ public class LocatorUIAutomator extends LocatorBy {
   static final String ERR_SELECTOR_UIAUTOMATOR_UISCROLLABLE_UNSUPPORTED_METHOD =
       "unsupported UiSelector method '%s', supported method are: scrollable, " + SUPPORTED_UIAUTOMATOR_METHODS;
 
+  private final By by;
+
   public LocatorUIAutomator(String selectorString) {
     super(selectorString);
     validateUIAutomatorSelector(this.stringValue);
+    this.by = MobileBy.AndroidUIAutomator(this.stringValue);
   }
 
   private static void validateUIAutomatorSelector(String uiautomator) {
@@ -73,7 +76,7 @@ public class LocatorUIAutomator extends LocatorBy {
 
   @Override
   public By getValue() {
-    return MobileBy.AndroidUIAutomator(this.stringValue);
+    return by;
   }
 
   enum Method {
@@ -8,12 +8,16 @@
 package utam.core.selenium.appium;
 
 import io.appium.java_client.AppiumDriver;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import utam.core.driver.Driver;
 import utam.core.driver.DriverConfig;
+import utam.core.driver.MeasuredDriver;
 import utam.core.framework.consumer.UtamError;
 import utam.core.framework.context.MobilePlatformType;
 import utam.core.selenium.element.DriverAdapter;
@@ -33,6 +37,10 @@ public class MobileDriverAdapter extends DriverAdapter implements Driver {
       "Bridge application title is null, please configure";
 
   private final MobilePlatformType mobilePlatform;
+  // web view context handles by lower case title, refreshed only when cached handle does not match
+  private final Map<String, String> webViewHandlesIndex = new HashMap<>();
+  // title of the web view that driver was switched to, null in native or unknown context
+  private String currentWebViewTitle;
 
   public MobileDriverAdapter(AppiumDriver driver, DriverConfig driverConfig) {
     super(driver, driverConfig);
@@ -40,7 +48,7 @@ public class MobileDriverAdapter extends DriverAdapter implements Driver {
   }
 
   static AppiumDriver getAppiumDriver(Driver driver) {
-    return ((MobileDriverAdapter) driver).getAppiumDriver();
+    return ((MobileDriverAdapter) MeasuredDriver.getUnwrapped(driver)).getAppiumDriver();
   }
 
   final boolean isIOSPlatform() {
@@ -69,6 +77,9 @@ public class MobileDriverAdapter extends DriverAdapter implements Driver {
       if (!contextHandle.equals(NATIVE_CONTEXT_HANDLE)) {
         AppiumDriver newDriver = (AppiumDriver) appiumDriver.context(contextHandle);
         String newTitle = newDriver.getTitle();
+        if (!newTitle.isEmpty()) {
+          webViewHandlesIndex.put(newTitle.toLowerCase(), contextHandle);
+        }
         if (!newTitle.isEmpty() && newTitle.equalsIgnoreCase(title)) {
           return newDriver;
         }
@@ -92,9 +103,48 @@ public class MobileDriverAdapter extends DriverAdapter implements Driver {
     return null;
   }
 
+  // one round trip to confirm that driver is still in the web view it was switched to
+  private boolean isCurrentWebView(String title) {
+    if (!title.equalsIgnoreCase(currentWebViewTitle)) {
+      return false;
+    }
+    try {
+      return title.equalsIgnoreCase(getAppiumDriver().getTitle());
+    } catch (WebDriverException e) {
+      return false;
+    }
+  }
+
+  // switch to the web view handle remembered for the title, null if there is none or it's stale
+  AppiumDriver switchToIndexedWebView(String title) {
+    String contextHandle = webViewHandlesIndex.get(title.toLowerCase());
+    if (contextHandle == null) {
+      return null;
+    }
+    try {
+      AppiumDriver newDriver = (AppiumDriver) getAppiumDriver().context(contextHandle);
+      if (title.equalsIgnoreCase(newDriver.getTitle())) {
+        return newDriver;
+      }
+    } catch (WebDriverException e) {
+      // web view was closed, index is refreshed below
+    }
+    invalidateWebViewIndex();
+    return null;
+  }
+
+  /**
+   * forget remembered web view titles, next switch to web view walks all context handles
+   */
+  public final void invalidateWebViewIndex() {
+    webViewHandlesIndex.clear();
+    currentWebViewTitle = null;
+  }
+
   @Override
   public void setPageContextToNative() {
     MobileDriverUtils.setContextToNative(getAppiumDriver());
+    currentWebViewTitle = null;
   }
 
   @Override
@@ -102,9 +152,16 @@ public class MobileDriverAdapter extends DriverAdapter implements Driver {
     if (title == null) {
       throw new UtamError(ERR_BRIDGE_TITLE_NULL);
     }
-    waitFor(this::isWebViewAvailable, "wait for web view", null);
-    AppiumDriver newDriver = waitFor(() -> switchToWebView(title), "switch to web view", null);
+    if (isCurrentWebView(title)) {
+      return;
+    }
+    AppiumDriver newDriver = switchToIndexedWebView(title);
+    if (newDriver == null) {
+      waitFor(this::isWebViewAvailable, "wait for web view", null);
+      newDriver = waitFor(() -> switchToWebView(title), "switch to web view", null);
+    }
     resetDriver(newDriver);
+    currentWebViewTitle = title;
   }
 
   @Override
@@ -113,7 +170,7 @@ public class MobileDriverAdapter extends DriverAdapter implements Driver {
   }
 
   AppiumDriver getAppiumDriver() {
-    return (AppiumDriver) getSeleniumDriver();
+    return (AppiumDriver) getWebDriver();
   }
 
   @Override
@@ -12,10 +12,12 @@ import static utam.core.selenium.appium.MobileDriverAdapter.NATIVE_CONTEXT_HANDL
 import static utam.core.framework.context.MobilePlatformType.fromDriver;
 
 import io.appium.java_client.AppiumDriver;
+import java.util.Collections;
+import java.util.List;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import utam.core.framework.context.Profile;
 import utam.core.framework.context.StringValueProfile;
 
@@ -29,6 +31,11 @@ import utam.core.framework.context.StringValueProfile;
 @SuppressWarnings("rawtypes")
 public abstract class MobileDriverUtils {
 
+  static final String WEB_VIEW_GEOMETRY_JAVASCRIPT =
+      "return [window.innerWidth || document.body.clientWidth, "
+          + "window.innerHeight || document.body.clientHeight, "
+          + "window.pageXOffset, window.pageYOffset];";
+
   /**
    * this method is used in downstream projects to set proper profile
    *
@@ -42,19 +49,27 @@ public abstract class MobileDriverUtils {
   static Point[] getFlickCoordinates(MobileDriverAdapter driverAdapter, Point nativeStartPoint,
       Point nativeEndPoint) {
     AppiumDriver driver = driverAdapter.getAppiumDriver();
-    if (!driverAdapter.isNative()) {
-      WebElement webViewElement = driverAdapter.getWebViewElement();
+    Dimension bounds;
+    if (driverAdapter.isNative()) {
+      bounds = driver.manage().window().getSize();
+    } else {
+      // geometry of the web view is fetched once per gesture
+      WebViewGeometry geometry = getWebViewGeometry(driver);
+      Rectangle webViewRect = driverAdapter.getWebViewElement().getRect();
       nativeStartPoint = convertWebViewLocationToNativeCoordinates(
           driverAdapter,
-          webViewElement,
+          webViewRect,
+          geometry,
           nativeStartPoint);
       nativeEndPoint = convertWebViewLocationToNativeCoordinates(
           driverAdapter,
-          webViewElement,
+          webViewRect,
+          geometry,
           nativeEndPoint);
+      bounds = geometry.documentSize;
     }
-    Point start = boundCoordinates(driver, nativeStartPoint);
-    Point end = boundCoordinates(driver, nativeEndPoint);
+    Point start = boundCoordinates(bounds, nativeStartPoint);
+    Point end = boundCoordinates(bounds, nativeEndPoint);
     return new Point[]{start, end};
   }
 
@@ -74,50 +89,35 @@ public abstract class MobileDriverUtils {
    * Bound the coordinates within the screen in NATIVE context and within the WebView in WEB
    * context.
    *
+   * @param bounds   size of the screen in NATIVE context or of the WebView document in WEB context
+   * @param location coordinates to bound
    * @return the original coordinate or the nearest coordinate within the bounds to the original
    */
-  private static Point boundCoordinates(AppiumDriver driver, Point location) {
-    int width, height;
-    Dimension dimension;
-    if (isNative(driver)) {
-      dimension = driver.manage().window().getSize();
-      width = dimension.getWidth();
-      height = dimension.getHeight();
-    } else {
-      dimension = getWebViewDocumentSize(driver);
-      width = dimension.getWidth();
-      height = dimension.getHeight();
-    }
+  private static Point boundCoordinates(Dimension bounds, Point location) {
     return new Point(
-        getBoundedCoordinate(location.getX(), width),
-        getBoundedCoordinate(location.getY(), height)
+        getBoundedCoordinate(location.getX(), bounds.getWidth()),
+        getBoundedCoordinate(location.getY(), bounds.getHeight())
     );
   }
 
+  // null or non numeric value can be returned from mocks in tests
+  private static int getGeometryValue(Object value) {
+    return value instanceof Number ? ((Number) value).intValue() : -1;
+  }
+
   /**
-   * Gets the height and width of web view within the window
+   * Gets the size of the web view document and its scroll offset with one script
    *
    * @param driver AppiumDriver instance
-   * @return Dimension of the web view
+   * @return geometry of the web view
    */
-  private static Dimension getWebViewDocumentSize(AppiumDriver driver) {
-    Object res = driver
-        .executeScript("return window.innerWidth || document.body.clientWidth");
-    // null can be returned fro mocks in tests
-    int webViewWidth = res != null ? ((Long) res).intValue() : -1;
-    res = driver
-        .executeScript("return window.innerHeight || document.body.clientHeight");
-    int webViewHeight = res != null ? ((Long) res).intValue() : -1;
-    return new Dimension(webViewWidth, webViewHeight);
-  }
-
-  private static Dimension getScrollOffset(AppiumDriver driver) {
-    Object res = driver.executeScript("return window.pageXOffset");
-    // null can be returned fro mocks in tests
-    int scrollOffsetX = res != null ? ((Float) res).intValue() : -1;
-    res = driver.executeScript("return window.pageYOffset");
-    int scrollOffsetY = res != null ? ((Float) res).intValue() : -1;
-    return new Dimension(scrollOffsetX, scrollOffsetY);
+  static WebViewGeometry getWebViewGeometry(AppiumDriver driver) {
+    Object res = driver.executeScript(WEB_VIEW_GEOMETRY_JAVASCRIPT);
+    List<?> values = res instanceof List && ((List<?>) res).size() == 4 ? (List<?>) res
+        : Collections.nCopies(4, null);
+    return new WebViewGeometry(
+        new Dimension(getGeometryValue(values.get(0)), getGeometryValue(values.get(1))),
+        new Dimension(getGeometryValue(values.get(2)), getGeometryValue(values.get(3))));
   }
 
   private static int webViewToNative(int coordinate, int scroll, double elementSize,
@@ -130,29 +130,29 @@ public abstract class MobileDriverUtils {
    * Convert the location to native location
    *
    * @param driverAdapter   driver wrapper instance
-   * @param webViewElement  WebView element
+   * @param webViewRect     rectangle of the WebView element
+   * @param geometry        size and scroll offset of the WebView document
    * @param webViewLocation the coordinates within the WebView
    * @return the location of x,y target within the native context
    */
   private static Point convertWebViewLocationToNativeCoordinates(MobileDriverAdapter driverAdapter,
-      final WebElement webViewElement,
+      Rectangle webViewRect,
+      WebViewGeometry geometry,
       Point webViewLocation) {
-    AppiumDriver driver = driverAdapter.getAppiumDriver();
     int x, y;
     if (driverAdapter.isIOSPlatform()) {
       // for IOS scale for WebView to Native coordinates is 1:1 so just need to convert to absolute coordinates
       x = webViewLocation.getX();
       y = webViewLocation.getY();
     } else {
-      Dimension docDimension = getWebViewDocumentSize(driver);
-      Dimension scrollOffset = getScrollOffset(driver);
-      Dimension webViewElementSize = webViewElement.getSize();
+      Dimension docDimension = geometry.documentSize;
+      Dimension scrollOffset = geometry.scrollOffset;
       x = webViewToNative(webViewLocation.getX(), scrollOffset.getWidth(),
-          webViewElementSize.getWidth(), docDimension.getWidth());
+          webViewRect.getWidth(), docDimension.getWidth());
       y = webViewToNative(webViewLocation.getY(), scrollOffset.getHeight(),
-          webViewElementSize.getHeight(), docDimension.getHeight());
+          webViewRect.getHeight(), docDimension.getHeight());
     }
-    return getAbsoluteCoordinates(webViewElement, x, y);
+    return getAbsoluteCoordinates(webViewRect.getPoint(), x, y);
   }
 
   static void setContextToNative(AppiumDriver driver) {
@@ -168,19 +168,32 @@ public abstract class MobileDriverUtils {
   /**
    * Calculate the absolute position of the given coordinates.
    *
-   * @param webView  The WebView that contains the coordinates
+   * @param location The location of the WebView that contains the coordinates
    * @param xWebView The x coordinate relative to the WebView
    * @param yWebView The y coordinate relative to the WebView
    * @return The absolute position of the target
    */
-  private static Point getAbsoluteCoordinates(WebElement webView, int xWebView,
+  private static Point getAbsoluteCoordinates(Point location, int xWebView,
       int yWebView) {
     // The dimensions are all relative to the WebView, so calculate absolute coordinates
-    Point location = webView.getLocation();
     int webViewX = location.getX();
     int webViewY = location.getY();
     int absoluteX = xWebView + webViewX;
     int absoluteY = yWebView + webViewY;
     return new Point(absoluteX, absoluteY);
   }
+
+  /**
+   * size of the web view document and its scroll offset
+   */
+  static final class WebViewGeometry {
+
+    final Dimension documentSize;
+    final Dimension scrollOffset;
+
+    WebViewGeometry(Dimension documentSize, Dimension scrollOffset) {
+      this.documentSize = documentSize;
+      this.scrollOffset = scrollOffset;
+    }
+  }
 }
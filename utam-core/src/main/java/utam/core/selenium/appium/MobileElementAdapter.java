@@ -16,6 +16,7 @@ import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebElement;
 import utam.core.driver.Driver;
+import utam.core.driver.MeasuredDriver;
 import utam.core.selenium.element.ElementAdapter;
 
 /**
@@ -41,7 +42,9 @@ public class MobileElementAdapter extends ElementAdapter {
         rect.getHeight() / 2
     );
     Point nativeEndPoint = nativeStartPoint.moveBy(xOffset, yOffset);
-    Point[] movement = MobileDriverUtils.getFlickCoordinates((MobileDriverAdapter) driverAdapter, nativeStartPoint, nativeEndPoint);
+    Point[] movement = MobileDriverUtils.getFlickCoordinates(
+        (MobileDriverAdapter) MeasuredDriver.getUnwrapped(driverAdapter), nativeStartPoint,
+        nativeEndPoint);
     driverAdapter.setPageContextToNative();
     Point start = movement[0];
     Point end = movement[1];
@@ -12,7 +12,11 @@ import static utam.core.selenium.element.ElementAdapter.EMPTY_LIST;
 import static utam.core.selenium.element.ElementAdapter.getNullElement;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -26,8 +30,11 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.FluentWait;
+import utam.core.driver.AsyncDriver;
+import utam.core.driver.AsyncDriverExecutor;
 import utam.core.driver.Driver;
 import utam.core.driver.DriverConfig;
+import utam.core.driver.MeasuredDriver;
 import utam.core.element.Element;
 import utam.core.element.FindContext;
 import utam.core.framework.UtamCoreError;
@@ -40,7 +47,7 @@ import utam.core.selenium.appium.MobileElementAdapter;
  * @author elizaveta.ivanova
  * @since 234
  */
-public class DriverAdapter implements Driver {
+public class DriverAdapter implements AsyncDriver {
 
   static final String ERR_SUPPORTED_FOR_MOBILE = "method is applicable only for iOS/Android";
   static final String ERR_CANT_ENTER_NULL_FRAME = "Can't enter null frame element";
@@ -56,6 +63,13 @@ public class DriverAdapter implements Driver {
   // not final because can be reset
   private WebDriver driver;
   private final DriverConfig driverConfig;
+  // frames entered from top level document, last one is current frame
+  private final Deque<WebElement> framePath = new ArrayDeque<>();
+  // false if frame switch failed, context was reset or selenium driver was handed out,
+  // then frame switches are not elided
+  private boolean isFramePathKnown = true;
+  // driver that found elements use for their commands, replaced by measured driver
+  private volatile Driver elementsDriver = this;
 
   public DriverAdapter(WebDriver driver, DriverConfig driverConfig) {
     this.driver = driver;
@@ -110,15 +124,28 @@ public class DriverAdapter implements Driver {
   }
 
   static WebDriver getSeleniumDriver(Driver driver) {
-    return ((DriverAdapter) driver).getSeleniumDriver();
+    return ((DriverAdapter) MeasuredDriver.getUnwrapped(driver)).getWebDriver();
   }
 
   private Function<WebElement, Element> getElementBuilder() {
-    return element -> isMobile() ? new MobileElementAdapter(element, this) : new ElementAdapter(element, this);
+    Driver driver = elementsDriver;
+    return element -> isMobile() ? new MobileElementAdapter(element, driver) : new ElementAdapter(element, driver);
+  }
+
+  /**
+   * set driver that is used by found elements, measured driver sets itself to record commands of
+   * elements
+   *
+   * @param driver driver that wraps this adapter
+   */
+  public final void setElementsDriver(Driver driver) {
+    this.elementsDriver = driver;
   }
 
   protected final void resetDriver(WebDriver driver) {
     this.driver = driver;
+    framePath.clear();
+    isFramePathKnown = false;
   }
 
   @Override
@@ -143,17 +170,22 @@ public class DriverAdapter implements Driver {
 
   @Override
   public Element findElement(Locator by, FindContext finderContext) {
-    WebElement element = find(getSeleniumDriver(), (LocatorBy) by, finderContext);
-    return element == null ? getNullElement(this) : getElementBuilder().apply(element);
+    WebElement element = find(driver, (LocatorBy) by, finderContext);
+    return element == null ? getNullElement(elementsDriver) : getElementBuilder().apply(element);
   }
 
   @Override
   public List<Element> findElements(Locator by, FindContext finderContext) {
-    List<WebElement> elements = findList(getSeleniumDriver(), (LocatorBy) by, finderContext);
+    List<WebElement> elements = findList(driver, (LocatorBy) by, finderContext);
     return elements == null ? EMPTY_LIST
         : elements.stream().map(el -> getElementBuilder().apply(el)).collect(Collectors.toList());
   }
 
+  @Override
+  public <T> CompletableFuture<T> submit(Supplier<T> command) {
+    return CompletableFuture.supplyAsync(command, AsyncDriverExecutor.getDefault());
+  }
+
   @Override
   public <T> T waitFor(Supplier<T> isTrue, String message, Duration timeout) {
     Duration waitDuration = timeout == null? driverConfig.getExplicitTimeout() : timeout;
@@ -162,26 +194,93 @@ public class DriverAdapter implements Driver {
     return driverWait.until((driver) -> isTrue.get());
   }
 
+  private void switchFrame(Runnable switchCommand) {
+    try {
+      switchCommand.run();
+    } catch (RuntimeException e) {
+      // not known which frame driver is in after failure
+      isFramePathKnown = false;
+      throw e;
+    }
+  }
+
   @Override
   public void enterFrame(Element element) {
     if(element == null) {
       throw new UtamCoreError(ERR_CANT_ENTER_NULL_FRAME);
     }
     WebElement webElement = ((ElementAdapter)element).getWebElement();
-    driver.switchTo().frame(webElement);
+    // already in this frame
+    if (isFramePathKnown && webElement.equals(framePath.peekLast())) {
+      return;
+    }
+    switchFrame(() -> driver.switchTo().frame(webElement));
+    framePath.addLast(webElement);
   }
 
   @Override
   public void exitToParentFrame() {
-    driver.switchTo().parentFrame();
+    // already at top level document
+    if (isFramePathKnown && framePath.isEmpty()) {
+      return;
+    }
+    switchFrame(() -> driver.switchTo().parentFrame());
+    framePath.pollLast();
   }
 
   @Override
   public void exitFrame() {
-    driver.switchTo().defaultContent();
+    // already at top level document
+    if (isFramePathKnown && framePath.isEmpty()) {
+      return;
+    }
+    switchFrame(() -> driver.switchTo().defaultContent());
+    framePath.clear();
+    isFramePathKnown = true;
   }
 
+  @Override
+  public <T> T withinFrame(Element frame, Supplier<T> action) {
+    List<WebElement> previousPath = new ArrayList<>(framePath);
+    enterFrame(frame);
+    try {
+      return action.get();
+    } finally {
+      restoreFramePath(previousPath);
+    }
+  }
+
+  private void restoreFramePath(List<WebElement> previousPath) {
+    List<WebElement> currentPath = new ArrayList<>(framePath);
+    if (currentPath.equals(previousPath)) {
+      return;
+    }
+    if (currentPath.size() == previousPath.size() + 1
+        && currentPath.subList(0, previousPath.size()).equals(previousPath)) {
+      exitToParentFrame();
+      return;
+    }
+    // action switched frames, enter previous frames again from top level document
+    exitFrame();
+    previousPath.forEach(frame -> {
+      switchFrame(() -> driver.switchTo().frame(frame));
+      framePath.addLast(frame);
+    });
+  }
+
+  /**
+   * frames can be switched through the returned driver, so after this call frame switches are not
+   * elided until exitFrame brings driver back to the top level document
+   *
+   * @return underlying selenium driver
+   */
   public WebDriver getSeleniumDriver() {
+    isFramePathKnown = false;
+    return this.driver;
+  }
+
+  // used by adapters, does not switch frames
+  protected final WebDriver getWebDriver() {
     return this.driver;
   }
 
@@ -16,6 +16,7 @@ import static utam.core.selenium.element.DriverAdapter.getSeleniumDriver;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.openqa.selenium.ElementNotVisibleException;
 import org.openqa.selenium.NoSuchElementException;
@@ -25,6 +26,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import utam.core.driver.Driver;
+import utam.core.driver.MeasuredDriver;
 import utam.core.element.DragAndDropOptions;
 import utam.core.element.Element;
 import utam.core.element.FindContext;
@@ -54,6 +56,23 @@ public class ElementAdapter implements Element {
   static final String FOCUS_VIA_JAVASCRIPT = "arguments[0].focus();";
   static final String SCROLL_CENTER_VIA_JAVASCRIPT = "arguments[0].scrollIntoView({block:'center'});";
   static final String BLUR_VIA_JAVASCRIPT = "arguments[0].blur();";
+  static final String INJECT_TEXT_JAVASCRIPT =
+      "var el = arguments[0], text = arguments[1], isAppend = arguments[2];"
+          + "var proto = el instanceof HTMLInputElement ? HTMLInputElement.prototype"
+          + "  : el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : null;"
+          + "if (proto) {"
+          + "  if (el.disabled || el.readOnly) { return false; }"
+          + "  var value = isAppend ? el.value + text : text;"
+          + "  try {"
+          + "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);"
+          + "  } catch (e) { return false; }"
+          + "  if (el.value !== value) { return false; }"
+          + "} else if (el.isContentEditable) {"
+          + "  el.textContent = isAppend ? el.textContent + text : text;"
+          + "} else { return false; }"
+          + "el.dispatchEvent(new Event('input', {bubbles: true, composed: true}));"
+          + "el.dispatchEvent(new Event('change', {bubbles: true, composed: true}));"
+          + "return true;";
   static final String ERR_NULL_ELEMENT = "Action can't be applied to an element that was not found; please check for null first";
   private static final String SCROLL_INTO_VIEW_ERR =
       "element is still not visible or clickable after scroll into view";
@@ -81,6 +100,22 @@ public class ElementAdapter implements Element {
         driverAdapter) : new ElementAdapter(element, driverAdapter);
   }
 
+  // commands sent to the web element are recorded if element was found with measured driver
+  private <T> T measure(String command, Supplier<T> action) {
+    if (driverAdapter instanceof MeasuredDriver) {
+      return ((MeasuredDriver) driverAdapter).measure(command, action);
+    }
+    return action.get();
+  }
+
+  private void measure(String command, Runnable action) {
+    if (driverAdapter instanceof MeasuredDriver) {
+      ((MeasuredDriver) driverAdapter).measure(command, action);
+    } else {
+      action.run();
+    }
+  }
+
   public static ElementAdapter getNullElement(Driver driverAdapter) {
     return new ElementAdapter(null, driverAdapter);
   }
@@ -95,7 +130,8 @@ public class ElementAdapter implements Element {
     if (webElement == null && finderContext.isNullable()) {
       return getNullElement(driverAdapter);
     }
-    WebElement element = find(getScope(by, finderContext), (LocatorBy) by, finderContext);
+    WebElement element = measure(MeasuredDriver.getFindCommand("findElement", by),
+        () -> find(getScope(by, finderContext), (LocatorBy) by, finderContext));
     return element == null ? getNullElement(driverAdapter) : getElementBuilder().apply(element);
   }
 
@@ -112,25 +148,25 @@ public class ElementAdapter implements Element {
     if (webElement == null && finderContext.isNullable()) {
       return EMPTY_LIST;
     }
-    List<WebElement> elements = findList(getScope(by, finderContext), (LocatorBy) by,
-        finderContext);
+    List<WebElement> elements = measure(MeasuredDriver.getFindCommand("findElements", by),
+        () -> findList(getScope(by, finderContext), (LocatorBy) by, finderContext));
     return elements == null ? EMPTY_LIST
         : elements.stream().map(el -> getElementBuilder().apply(el)).collect(Collectors.toList());
   }
 
   @Override
   public boolean isDisplayed() {
-    return getWebElement().isDisplayed();
+    return measure("isDisplayed", () -> getWebElement().isDisplayed());
   }
 
   @Override
   public void clear() {
-    getWebElement().clear();
+    measure("clear", () -> getWebElement().clear());
   }
 
   @Override
   public void click() {
-    getWebElement().click();
+    measure("click", () -> getWebElement().click());
   }
 
   @Override
@@ -182,17 +218,27 @@ public class ElementAdapter implements Element {
 
   @Override
   public String getAttribute(String attrName) {
-    return getWebElement().getAttribute(attrName);
+    return measure("getAttribute", () -> getWebElement().getAttribute(attrName));
   }
 
   @Override
   public String getText() {
-    return getWebElement().getText();
+    return measure("getText", () -> getWebElement().getText());
   }
 
   @Override
   public void setText(String text) {
-    getWebElement().sendKeys(text);
+    measure("setText", () -> getWebElement().sendKeys(text));
+  }
+
+  @Override
+  public boolean injectText(String text, boolean isAppend) {
+    // scripts can't set text in native mobile context
+    if (driverAdapter.isNative()) {
+      return false;
+    }
+    return Boolean.TRUE.equals(
+        driverAdapter.executeScript(INJECT_TEXT_JAVASCRIPT, getWebElement(), text, isAppend));
   }
 
   @Override
@@ -206,7 +252,7 @@ public class ElementAdapter implements Element {
 
   @Override
   public boolean isEnabled() {
-    return getWebElement().isEnabled();
+    return measure("isEnabled", () -> getWebElement().isEnabled());
   }
 
   @Override
@@ -216,7 +262,7 @@ public class ElementAdapter implements Element {
     }
     // try apply any action to the element
     try {
-      getWebElement().isDisplayed();
+      measure("isExisting", () -> getWebElement().isDisplayed());
       return true;
     } catch (StaleElementReferenceException | NoSuchElementException e) {
       return false;
@@ -231,15 +277,15 @@ public class ElementAdapter implements Element {
   @Override
   public void moveTo() {
     Actions actions = new Actions(driver);
-    actions.moveToElement(getWebElement()).perform();
+    measure("moveTo", () -> actions.moveToElement(getWebElement()).perform());
   }
 
   @Override
   public boolean hasFocus() {
-    return driver
+    return measure("hasFocus", () -> driver
         .switchTo()
         .activeElement()
-        .equals(getWebElement());
+        .equals(getWebElement()));
   }
 
   @Override
@@ -304,6 +350,6 @@ public class ElementAdapter implements Element {
     }
 
     // perform the drag and drop action
-    builder.build().perform();
+    measure("dragAndDrop", () -> builder.build().perform());
   }
 }
@@ -8,9 +8,9 @@
 package utam.core.selenium.element;
 
 import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.regex.Pattern;
 import org.openqa.selenium.By;
 import utam.core.element.Locator;
 import utam.core.selenium.appium.LocatorAccessibilityId;
@@ -25,12 +25,17 @@ import utam.core.selenium.appium.LocatorUIAutomator;
  */
 public abstract class LocatorBy implements Locator<By> {
 
+  // power of two, bound copies for recent parameter values
+  private static final int BOUND_CACHE_SIZE = 8;
   protected final String stringValue;
-  private final int parametersCount;
+  private final LocatorTemplate template;
+  // entries are immutable, so concurrent writes can only cause a cache miss
+  private final Bound[] boundCache;
 
   protected LocatorBy(String stringValue) {
     this.stringValue = stringValue;
-    this.parametersCount = getParametersCount(stringValue);
+    this.template = LocatorTemplate.of(stringValue);
+    this.boundCache = template.getParametersCount() > 0 ? new Bound[BOUND_CACHE_SIZE] : null;
   }
 
   public static LocatorBy byCss(String value) {
@@ -50,32 +55,54 @@ public abstract class LocatorBy implements Locator<By> {
   }
 
   static int getParametersCount(String string) {
-    if (string.equals(SELECTOR_STRING_PARAMETER)) {
-      return 1;
-    }
-    return string.split(Pattern.quote(SELECTOR_STRING_PARAMETER)).length
-        - 1
-        + string.split(Pattern.quote(SELECTOR_INTEGER_PARAMETER)).length
-        - 1;
+    return LocatorTemplate.of(string).getParametersCount();
+  }
+
+  // string value of other objects can change, so only immutable values are cached
+  private static boolean isCacheable(Object value) {
+    return value instanceof String || value instanceof Integer || value instanceof Long
+        || value instanceof Short || value instanceof Byte || value instanceof Boolean
+        || value instanceof Character;
+  }
+
+  @Override
+  public int getParametersCount() {
+    return template.getParametersCount();
   }
 
   @Override
   public Entry<Integer, Locator<By>> setParameters(int currentIndex, Object... parameters) {
-    if (parametersCount <= 0 || parameters == null || parameters.length == 0) {
-      return new SimpleEntry<>(currentIndex, this);
+    return new SimpleEntry<>(currentIndex + getParametersCount(),
+        bindParameters(currentIndex, parameters));
+  }
+
+  @Override
+  public LocatorBy bindParameters(int currentIndex, Object... parameters) {
+    int parametersCount = template.getParametersCount();
+    if (parametersCount == 0 || parameters == null || parameters.length == 0) {
+      return this;
+    }
+    if (currentIndex + parametersCount > parameters.length) {
+      throw new IndexOutOfBoundsException(
+          String.format("index %d is out of bounds: total number of parameters is %d",
+              Math.max(currentIndex, parameters.length), parameters.length));
     }
-    Object[] values = new Object[parametersCount];
-    for (int i = currentIndex; i < parametersCount + currentIndex; i++) {
-      if (i < parameters.length) {
-        values[i - currentIndex] = parameters[i];
-      } else {
-        throw new IndexOutOfBoundsException(
-            String.format("index %d is out of bounds: total number of parameters is %d", i,
-                parameters.length));
+    int hash = 0;
+    for (int i = currentIndex; i < currentIndex + parametersCount; i++) {
+      if (!isCacheable(parameters[i])) {
+        return getCopy(template.bind(parameters, currentIndex));
       }
+      hash = 31 * hash + parameters[i].hashCode();
     }
-    String mutableValue = String.format(stringValue, values);
-    return new SimpleEntry<>(currentIndex + parametersCount, getCopy(mutableValue));
+    int slot = (hash ^ (hash >>> 16)) & (BOUND_CACHE_SIZE - 1);
+    Bound bound = boundCache[slot];
+    if (bound != null && bound.isBoundTo(parameters, currentIndex)) {
+      return bound.locator;
+    }
+    LocatorBy copy = getCopy(template.bind(parameters, currentIndex));
+    boundCache[slot] = new Bound(
+        Arrays.copyOfRange(parameters, currentIndex, currentIndex + parametersCount), copy);
+    return copy;
   }
 
   // public because used in tests from other package
@@ -102,4 +129,24 @@ public abstract class LocatorBy implements Locator<By> {
   public int hashCode() {
     return Objects.hash(getClass(), stringValue);
   }
+
+  private static final class Bound {
+
+    private final Object[] values;
+    private final LocatorBy locator;
+
+    Bound(Object[] values, LocatorBy locator) {
+      this.values = values;
+      this.locator = locator;
+    }
+
+    boolean isBoundTo(Object[] parameters, int currentIndex) {
+      for (int i = 0; i < values.length; i++) {
+        if (!values[i].equals(parameters[currentIndex + i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
@@ -17,13 +17,16 @@ import org.openqa.selenium.By;
  */
 class LocatorByCss extends LocatorBy {
 
+  private final By by;
+
   LocatorByCss(String stringValue) {
     super(stringValue);
+    this.by = By.cssSelector(stringValue);
   }
 
   @Override
   public By getValue() {
-    return By.cssSelector(stringValue);
+    return by;
   }
 
   @Override
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.selenium.element;
+
+import static utam.core.element.Locator.SELECTOR_INTEGER_PARAMETER;
+import static utam.core.element.Locator.SELECTOR_STRING_PARAMETER;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.IllegalFormatConversionException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * selector string parsed once into literal parts and parameter slots, so that binding parameters
+ * does not scan the string or call String.format. Only "%s" and "%d" are slots, "%%" is replaced
+ * with "%" like in String.format and any other "%" is kept as is. Selector without slots is never
+ * changed.
+ *
+ * @since 236
+ */
+final class LocatorTemplate {
+
+  static final LocatorTemplate NO_PARAMETERS = new LocatorTemplate(new String[0], new char[0]);
+  // number of distinct selectors is limited by page objects code, cap protects from values that
+  // were bound at runtime and happen to contain "%s"
+  private static final int MAX_CACHED_TEMPLATES = 4096;
+  private static final Map<String, LocatorTemplate> TEMPLATES = new ConcurrentHashMap<>();
+  private static final char STRING_SLOT = SELECTOR_STRING_PARAMETER.charAt(1);
+  private static final char INTEGER_SLOT = SELECTOR_INTEGER_PARAMETER.charAt(1);
+
+  // literals has one more element than slots: text before first slot, between slots and after last
+  private final String[] literals;
+  private final char[] slots;
+  private final int literalsLength;
+
+  private LocatorTemplate(String[] literals, char[] slots) {
+    this.literals = literals;
+    this.slots = slots;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalsLength = length;
+  }
+
+  /**
+   * @param selector selector string with parameters
+   * @return parsed template, same for same string
+   */
+  static LocatorTemplate of(String selector) {
+    if (selector.indexOf('%') < 0) {
+      return NO_PARAMETERS;
+    }
+    LocatorTemplate template = TEMPLATES.get(selector);
+    if (template == null) {
+      template = parse(selector);
+      if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+        TEMPLATES.putIfAbsent(selector, template);
+      }
+    }
+    return template;
+  }
+
+  private static LocatorTemplate parse(String selector) {
+    List<String> literals = new ArrayList<>();
+    StringBuilder slots = new StringBuilder();
+    StringBuilder literal = new StringBuilder(selector.length());
+    for (int i = 0; i < selector.length(); i++) {
+      char current = selector.charAt(i);
+      char next = i + 1 < selector.length() ? selector.charAt(i + 1) : 0;
+      if (current == '%' && (next == STRING_SLOT || next == INTEGER_SLOT)) {
+        literals.add(literal.toString());
+        literal.setLength(0);
+        slots.append(next);
+        i++;
+      } else if (current == '%' && next == '%') {
+        // escaped percent, same as in String.format
+        literal.append(current);
+        i++;
+      } else {
+        literal.append(current);
+      }
+    }
+    if (slots.length() == 0) {
+      return NO_PARAMETERS;
+    }
+    literals.add(literal.toString());
+    return new LocatorTemplate(literals.toArray(new String[0]), slots.toString().toCharArray());
+  }
+
+  int getParametersCount() {
+    return slots.length;
+  }
+
+  private static void append(StringBuilder builder, char slot, Object value) {
+    if (value == null || slot == STRING_SLOT) {
+      builder.append(value);
+    } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+        || value instanceof Byte) {
+      builder.append(((Number) value).longValue());
+    } else if (value instanceof BigInteger) {
+      builder.append(value);
+    } else {
+      throw new IllegalFormatConversionException(slot, value.getClass());
+    }
+  }
+
+  /**
+   * substitute parameters in one pass
+   *
+   * @param values       all parameters of the element
+   * @param currentIndex index of the first parameter for this template
+   * @return selector string with parameters
+   */
+  String bind(Object[] values, int currentIndex) {
+    StringBuilder builder = new StringBuilder(literalsLength + slots.length * 8);
+    for (int i = 0; i < slots.length; i++) {
+      append(builder.append(literals[i]), slots[i], values[currentIndex + i]);
+    }
+    return builder.append(literals[slots.length]).toString();
+  }
+}
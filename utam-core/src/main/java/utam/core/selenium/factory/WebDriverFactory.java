@@ -17,12 +17,14 @@ package utam.core.selenium.factory;
 import static utam.core.driver.DriverConfig.DEFAULT_EXPLICIT_TIMEOUT_MOCK;
 import static utam.core.driver.DriverConfig.DEFAULT_IMPLICIT_TIMEOUT;
 import static utam.core.driver.DriverConfig.DEFAULT_POLLING_INTERVAL;
+import static utam.core.selenium.factory.WebDriverPool.DEFAULT_LEASE_TIMEOUT;
 
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.service.local.AppiumDriverLocalService;
 import java.io.IOException;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import org.openqa.selenium.Platform;
@@ -32,11 +34,13 @@ import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import utam.core.driver.Driver;
 import utam.core.driver.DriverConfig;
 import utam.core.driver.DriverType;
 import utam.core.selenium.appium.MobileDriverAdapter;
 import utam.core.selenium.element.DriverAdapter;
+import utam.core.selenium.factory.WebDriverPool.SessionReset;
 
 /**
  * web driver factory
@@ -97,6 +101,60 @@ public class WebDriverFactory {
     return driver;
   }
 
+  /**
+   * creates pool of pre-warmed browser sessions, sessions are reset when returned to the pool
+   *
+   * @param browserType  chrome or firefox
+   * @param size         number of sessions
+   * @param driverConfig config of drivers returned by the pool
+   * @return pool that should be closed after tests
+   */
+  public static WebDriverPool getWebDriverPool(DriverType browserType, int size,
+      DriverConfig driverConfig) {
+    return getWebDriverPool(browserType, null, null, size, driverConfig);
+  }
+
+  /**
+   * creates pool of pre-warmed sessions. All chrome sessions share one driver service, mobile
+   * sessions are not reset because there is no browser state to clear
+   *
+   * @param browserType         type of the driver
+   * @param service             Appium service for mobile, can be null for browsers
+   * @param desiredCapabilities capabilities for mobile, can be null for browsers
+   * @param size                number of sessions
+   * @param driverConfig        config of drivers returned by the pool
+   * @return pool that should be closed after tests
+   */
+  public static WebDriverPool getWebDriverPool(
+      DriverType browserType,
+      AppiumDriverLocalService service,
+      AppiumCapabilityProvider desiredCapabilities,
+      int size,
+      DriverConfig driverConfig) {
+    if (DriverType.chrome.equals(browserType)) {
+      SystemProperties.setChromeDriverPath();
+      ChromeOptions chromeOptions = defaultChromeOptions(!isLocalRun());
+      ChromeDriverService chromeDriverService;
+      try {
+        chromeDriverService = initializeChromeDriverService();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      // ChromeDriver stops its service on quit, remote driver leaves it for other sessions
+      return new WebDriverPool(
+          () -> new RemoteWebDriver(chromeDriverService.getUrl(), chromeOptions),
+          size, driverConfig, SessionReset.web(), DEFAULT_LEASE_TIMEOUT, chromeDriverService::stop);
+    }
+    if (DriverType.firefox.equals(browserType)) {
+      return new WebDriverPool(WebDriverFactory::firefox, size, driverConfig, SessionReset.web());
+    }
+    if (DriverType.ios.equals(browserType) || DriverType.android.equals(browserType)) {
+      return new WebDriverPool(() -> getWebDriver(browserType, service, desiredCapabilities),
+          size, driverConfig, EnumSet.noneOf(SessionReset.class));
+    }
+    throw new IllegalArgumentException(String.format(ERR_UNKNOWN_DRIVER_TYPE, browserType));
+  }
+
   static ChromeOptions defaultChromeOptions(boolean isJenkinsRun) {
     Map<Object, Object> chromePrefs = new HashMap<>();
     chromePrefs.put("profile.default_content_setting_values.notifications", 2);
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.selenium.factory;
+
+import static utam.core.selenium.factory.WebDriverFactory.getAdapter;
+
+import io.appium.java_client.AppiumDriver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utam.core.driver.Driver;
+import utam.core.driver.DriverConfig;
+import utam.core.framework.UtamCoreError;
+import utam.core.framework.UtamLogger;
+
+/**
+ * bounded pool of pre-warmed web driver sessions. Starting a browser takes seconds, so sessions are
+ * started in background when pool is created and reused by tests: session is leased for a test,
+ * returned after it and reset in background before it can be leased again. Session is checked
+ * before it is leased, broken sessions are quit and replaced, so pool never has more than given
+ * number of sessions. Sessions are created by any supplier, for example a fake driver in tests.
+ *
+ * @since 236
+ */
+public class WebDriverPool implements AutoCloseable {
+
+  static final String ERR_POOL_SIZE = "pool size should be positive, got %d";
+  static final String ERR_POOL_CLOSED = "web driver pool is closed";
+  static final String ERR_NOT_LEASED = "driver was not leased from this pool";
+  static final String ERR_LEASE_TIMEOUT = "no web driver session was ready within %d msec";
+  static final String ERR_NO_SESSIONS = "web driver pool has no sessions, last session failed to start";
+  static final String ERR_LEASE_INTERRUPTED = "interrupted while waiting for web driver session";
+  static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(2);
+  static final String BLANK_PAGE = "about:blank";
+  static final String CLEAR_STORAGE_SCRIPT =
+      "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+  private final Supplier<WebDriver> sessionFactory;
+  private final DriverConfig driverConfig;
+  private final Set<SessionReset> reset;
+  private final Duration leaseTimeout;
+  private final Runnable onClose;
+  private final BlockingQueue<Session> idle = new LinkedBlockingQueue<>();
+  private final Map<Driver, Session> leased = new ConcurrentHashMap<>();
+  // sessions that are started, idle, leased or being reset
+  private final AtomicInteger sessionsCount = new AtomicInteger();
+  private final ExecutorService executor;
+  private volatile RuntimeException lastStartError;
+  private volatile boolean isClosed;
+
+  WebDriverPool(Supplier<WebDriver> sessionFactory, int size, DriverConfig driverConfig,
+      Set<SessionReset> reset, Duration leaseTimeout, Runnable onClose) {
+    if (size <= 0) {
+      throw new IllegalArgumentException(String.format(ERR_POOL_SIZE, size));
+    }
+    this.sessionFactory = sessionFactory;
+    this.driverConfig = driverConfig;
+    this.reset = reset.isEmpty() ? EnumSet.noneOf(SessionReset.class) : EnumSet.copyOf(reset);
+    this.leaseTimeout = leaseTimeout;
+    this.onClose = onClose;
+    AtomicInteger threadsCounter = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(size, runnable -> {
+      Thread thread = new Thread(runnable,
+          "utam-driver-pool-" + threadsCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    for (int i = 0; i < size; i++) {
+      start();
+    }
+  }
+
+  /**
+   * @param sessionFactory creates new web driver session, called from background threads
+   * @param size           maximum number of sessions, all are started right away
+   * @param driverConfig   config for drivers returned by the pool
+   * @param reset          what to reset when session is returned
+   */
+  public WebDriverPool(Supplier<WebDriver> sessionFactory, int size, DriverConfig driverConfig,
+      Set<SessionReset> reset) {
+    this(sessionFactory, size, driverConfig, reset, DEFAULT_LEASE_TIMEOUT, () -> {
+    });
+  }
+
+  private static void quit(Session session) {
+    try {
+      session.driver.quit();
+    } catch (RuntimeException e) {
+      UtamLogger.warning(String.format("error while quitting web driver session: %s",
+          e.getMessage()));
+    }
+  }
+
+  // returns false if pool was closed and task was not run
+  private boolean execute(Runnable task) {
+    try {
+      executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  private void start() {
+    sessionsCount.incrementAndGet();
+    boolean isStarted = execute(() -> {
+      Session session;
+      try {
+        session = new Session(sessionFactory.get());
+      } catch (RuntimeException e) {
+        lastStartError = e;
+        sessionsCount.decrementAndGet();
+        UtamLogger.error(e);
+        return;
+      }
+      if (isClosed) {
+        quit(session);
+      } else {
+        idle.offer(session);
+      }
+    });
+    if (!isStarted) {
+      sessionsCount.decrementAndGet();
+    }
+  }
+
+  private void evict(Session session) {
+    quit(session);
+    sessionsCount.decrementAndGet();
+    if (!isClosed) {
+      start();
+    }
+  }
+
+  /**
+   * wait for a ready session, sessions that fail health check are replaced
+   *
+   * @return driver for a session that is only used by caller until it is released
+   */
+  public Driver lease() {
+    long deadline = System.nanoTime() + leaseTimeout.toNanos();
+    long pollingNanos = driverConfig.getPollingInterval().toNanos();
+    while (true) {
+      if (isClosed) {
+        throw new UtamCoreError(ERR_POOL_CLOSED);
+      }
+      if (sessionsCount.get() == 0) {
+        throw new UtamCoreError(ERR_NO_SESSIONS, lastStartError);
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        throw new UtamCoreError(String.format(ERR_LEASE_TIMEOUT, leaseTimeout.toMillis()));
+      }
+      Session session;
+      try {
+        // wake up periodically to notice that all sessions failed to start
+        session = idle.poll(Math.min(remaining, pollingNanos), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new UtamCoreError(ERR_LEASE_INTERRUPTED, e);
+      }
+      if (session == null) {
+        continue;
+      }
+      if (session.isHealthy()) {
+        Driver driver = getAdapter(session.driver, driverConfig);
+        leased.put(driver, session);
+        return driver;
+      }
+      UtamLogger.warning("evicted web driver session that failed health check");
+      evict(session);
+    }
+  }
+
+  /**
+   * return session to the pool, session is reset in background and evicted if reset fails
+   *
+   * @param driver driver returned by lease
+   */
+  public void release(Driver driver) {
+    Session session = leased.remove(driver);
+    if (session == null) {
+      if (isClosed) {
+        // leased sessions were quit when pool was closed
+        return;
+      }
+      throw new UtamCoreError(ERR_NOT_LEASED);
+    }
+    boolean isReset = !isClosed && execute(() -> {
+      if (session.reset(reset)) {
+        idle.offer(session);
+      } else {
+        evict(session);
+      }
+    });
+    if (!isReset) {
+      quit(session);
+    }
+  }
+
+  /**
+   * quit all sessions, including leased ones
+   */
+  @Override
+  public void close() {
+    isClosed = true;
+    executor.shutdown();
+    try {
+      // started sessions are quit by their tasks, reset sessions are returned to idle
+      executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    List<Session> sessions = new ArrayList<>(leased.values());
+    leased.clear();
+    idle.drainTo(sessions);
+    sessions.forEach(WebDriverPool::quit);
+    onClose.run();
+  }
+
+  // used in tests
+  int getIdleCount() {
+    return idle.size();
+  }
+
+  /**
+   * what is reset when session is returned to the pool
+   *
+   * @since 236
+   */
+  public enum SessionReset {
+    /**
+     * close windows opened by the test and switch to top level of remaining window
+     */
+    CLOSE_EXTRA_WINDOWS,
+    /**
+     * clear local and session storage of the current page
+     */
+    CLEAR_STORAGE,
+    /**
+     * delete cookies of the current domain
+     */
+    CLEAR_COOKIES,
+    /**
+     * open blank page
+     */
+    NAVIGATE_TO_BLANK;
+
+    /**
+     * reset for web browsers: order matters because storage and cookies belong to current page
+     *
+     * @return all reset steps
+     */
+    public static Set<SessionReset> web() {
+      return Collections.unmodifiableSet(EnumSet.allOf(SessionReset.class));
+    }
+  }
+
+  private static final class Session {
+
+    private final WebDriver driver;
+    private String windowHandle;
+
+    Session(WebDriver driver) {
+      this.driver = driver;
+    }
+
+    boolean isHealthy() {
+      try {
+        if (driver instanceof AppiumDriver) {
+          ((AppiumDriver) driver).getContext();
+        } else {
+          String handle = driver.getWindowHandle();
+          // first check is done before session is used, so this is the original window
+          if (windowHandle == null) {
+            windowHandle = handle;
+          }
+        }
+        return true;
+      } catch (RuntimeException e) {
+        return false;
+      }
+    }
+
+    private void closeExtraWindows() {
+      Set<String> handles = driver.getWindowHandles();
+      String keep = handles.contains(windowHandle) ? windowHandle : handles.iterator().next();
+      for (String handle : handles) {
+        if (!handle.equals(keep)) {
+          driver.switchTo().window(handle);
+          driver.close();
+        }
+      }
+      // also leaves frames
+      driver.switchTo().window(keep);
+      windowHandle = keep;
+    }
+
+    boolean reset(Set<SessionReset> reset) {
+      try {
+        if (reset.contains(SessionReset.CLOSE_EXTRA_WINDOWS)) {
+          closeExtraWindows();
+        }
+        if (reset.contains(SessionReset.CLEAR_STORAGE) && driver instanceof JavascriptExecutor) {
+          ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+        }
+        if (reset.contains(SessionReset.CLEAR_COOKIES)) {
+          driver.manage().deleteAllCookies();
+        }
+        if (reset.contains(SessionReset.NAVIGATE_TO_BLANK)) {
+          driver.get(BLANK_PAGE);
+        }
+        return true;
+      } catch (RuntimeException e) {
+        UtamLogger.warning(String.format("evicted web driver session that failed to reset: %s",
+            e.getMessage()));
+        return false;
+      }
+    }
+  }
+}
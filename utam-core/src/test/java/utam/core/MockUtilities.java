@@ -8,6 +8,7 @@
 package utam.core;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static utam.core.framework.base.FrameElementImpl.createFrameInstance;
@@ -175,10 +176,8 @@ public class MockUtilities {
 
     @Override
     DriverAdapter setDriverAdapter(Class<? extends WebDriver> driverType) {
-      DriverAdapter driverAdapterMock =
-          isMobileMock(driverType) ? mock(MobileDriverAdapter.class) : mock(DriverAdapter.class);
-      when(driverAdapterMock.getSeleniumDriver()).thenReturn(getWebDriverMock());
-      return driverAdapterMock;
+      // spy keeps selenium driver that adapter and elements use
+      return spy(super.setDriverAdapter(driverType));
     }
   }
 
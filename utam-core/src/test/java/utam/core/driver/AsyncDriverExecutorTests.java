@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static utam.core.driver.AsyncDriverExecutor.createPlatformThreadsExecutor;
+import static utam.core.driver.AsyncDriverExecutor.getDefault;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.testng.annotations.Test;
+
+/**
+ * @since 236
+ */
+public class AsyncDriverExecutorTests {
+
+  @Test
+  public void testDefaultExecutorIsShared() {
+    assertThat(getDefault(), is(sameInstance(getDefault())));
+    // virtual threads are always daemon
+    Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, getDefault()).join();
+    assertThat(thread.isDaemon(), is(true));
+  }
+
+  @Test
+  public void testPlatformThreadsFallback() {
+    ExecutorService executor = createPlatformThreadsExecutor();
+    try {
+      Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+      assertThat(thread.isDaemon(), is(true));
+      assertThat(thread.getName(), startsWith("utam-async-driver-"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
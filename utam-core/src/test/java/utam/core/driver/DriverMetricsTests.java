@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static utam.core.driver.DriverMetrics.MAX_COMMANDS;
+import static utam.core.driver.DriverMetrics.MBEAN_NAME;
+import static utam.core.driver.DriverMetrics.OTHER_COMMANDS;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.testng.annotations.Test;
+
+/**
+ * @since 236
+ */
+public class DriverMetricsTests {
+
+  @Test
+  public void testHistogramBuckets() {
+    for (long value : new long[]{0, 1, 7, 8, 15, 16, 1000, 123456789, Long.MAX_VALUE}) {
+      long bucketValue = LatencyHistogram.getBucketValue(LatencyHistogram.getBucketIndex(value));
+      assertThat(bucketValue <= value, is(true));
+      // precision is within 12.5%
+      assertThat(value - bucketValue <= value / 8, is(true));
+    }
+  }
+
+  @Test
+  public void testHistogramPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    IntStream.rangeClosed(1, 100).forEach(i -> histogram.record(i * 1000L, i > 95));
+    assertThat(histogram.getCount(), is(100L));
+    assertThat(histogram.getFailures(), is(5L));
+    assertThat(histogram.getMaxNanos(), is(100_000L));
+    long p50 = histogram.getPercentileNanos(50);
+    assertThat(p50 <= 50_000 && p50 > 50_000 * 7 / 8, is(true));
+    long p99 = histogram.getPercentileNanos(99);
+    assertThat(p99 <= 99_000 && p99 > 99_000 * 7 / 8, is(true));
+    assertThat(new LatencyHistogram().getPercentileNanos(50), is(0L));
+  }
+
+  @Test
+  public void testConcurrentRecording() {
+    DriverMetrics metrics = new DriverMetrics();
+    CompletableFuture.allOf(IntStream.range(0, 8)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> IntStream.range(0, 1000)
+            .forEach(j -> metrics.record("command", j, false))))
+        .toArray(CompletableFuture[]::new)).join();
+    assertThat(metrics.getCommands().get(0).getCount(), is(8000L));
+  }
+
+  @Test
+  public void testCommandsOverLimitAreRecordedAsOther() {
+    DriverMetrics metrics = new DriverMetrics();
+    IntStream.rangeClosed(0, MAX_COMMANDS).forEach(i -> metrics.record("command" + i, 1, false));
+    List<CommandStatistics> commands = metrics.getCommands();
+    assertThat(commands, hasSize(MAX_COMMANDS + 1));
+    assertThat(commands.stream().anyMatch(c -> c.getCommand().equals(OTHER_COMMANDS)), is(true));
+  }
+
+  @Test
+  public void testJsonReport() throws IOException {
+    DriverMetrics metrics = new DriverMetrics();
+    metrics.record("slow", 2_000_000, false);
+    metrics.record("fast", 1_000, true);
+    JsonNode json = new ObjectMapper().readTree(metrics.getJson());
+    // sorted by total time
+    assertThat(json.get(0).get("command").asText(), is(equalTo("slow")));
+    assertThat(json.get(1).get("failureRate").asDouble(), is(1.0));
+    File report = File.createTempFile("driverMetrics", ".json");
+    report.deleteOnExit();
+    metrics.writeReport(report);
+    assertThat(new ObjectMapper().readTree(report), is(equalTo(json)));
+  }
+
+  @Test
+  public void testMBeanIsRegistered() throws JMException {
+    DriverMetrics metrics = DriverMetrics.getInstance();
+    assertThat(DriverMetrics.getInstance(), is(sameInstance(metrics)));
+    metrics.record("mbean test", 1000, false);
+    Object json = ManagementFactory.getPlatformMBeanServer()
+        .getAttribute(new ObjectName(MBEAN_NAME), "Json");
+    assertThat(json.toString(), containsString("mbean test"));
+    Object commands = ManagementFactory.getPlatformMBeanServer()
+        .getAttribute(new ObjectName(MBEAN_NAME), "Commands");
+    assertThat(commands instanceof CompositeData[], is(true));
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.expectThrows;
+import static utam.core.driver.MeasuredDriver.getScriptCommand;
+import static utam.core.element.FindContext.Type.EXISTING;
+import static utam.core.element.FindContext.Type.NULLABLE;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+import utam.core.MockUtilities;
+import utam.core.element.Element;
+import utam.core.framework.base.PageObjectsFactoryImpl;
+import utam.core.framework.consumer.UtamLoaderConfig;
+import utam.core.framework.consumer.UtamLoaderConfigImpl;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * @since 236
+ */
+public class MeasuredDriverTests {
+
+  private static Map<String, CommandStatistics> getStatistics(DriverMetrics metrics) {
+    return metrics.getCommands().stream()
+        .collect(Collectors.toMap(CommandStatistics::getCommand, Function.identity()));
+  }
+
+  @Test
+  public void testCommandsAreRecordedByType() {
+    MockUtilities mock = new MockUtilities();
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MeasuredDriver(mock.getDriverAdapter(), metrics);
+    driver.executeScript("return 1;");
+    driver.executeScript("return 1;");
+    driver.findElements(LocatorBy.byCss("css"), NULLABLE);
+    driver.waitFor(() -> true, "wait for test", null);
+    driver.waitFor(() -> true, null, null);
+    driver.exitFrame();
+    driver.getUrl();
+    Map<String, CommandStatistics> statistics = getStatistics(metrics);
+    assertThat(statistics.keySet(), containsInAnyOrder(
+        getScriptCommand("return 1;"),
+        "findElements ByCssSelector",
+        "waitFor wait for test",
+        "waitFor wait for condition",
+        "exitFrame",
+        "getUrl"));
+    CommandStatistics script = statistics.get(getScriptCommand("return 1;"));
+    assertThat(script.getCount(), is(2L));
+    assertThat(script.getFailures(), is(0L));
+    assertThat(script.getMaxMicros() >= script.getP50Micros(), is(true));
+  }
+
+  @Test
+  public void testFailuresAreRecorded() {
+    MockUtilities mock = new MockUtilities();
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MeasuredDriver(mock.getDriverAdapter(), metrics);
+    when(mock.getWebDriverMock().getCurrentUrl()).thenThrow(IllegalStateException.class)
+        .thenReturn("url");
+    expectThrows(IllegalStateException.class, driver::getUrl);
+    driver.getUrl();
+    CommandStatistics url = getStatistics(metrics).get("getUrl");
+    assertThat(url.getCount(), is(2L));
+    assertThat(url.getFailures(), is(1L));
+    assertThat(url.getFailureRate(), is(0.5));
+    metrics.reset();
+    assertThat(getStatistics(metrics).get("getUrl").getCount(), is(0L));
+  }
+
+  @Test
+  public void testElementCommandsAreRecorded() {
+    MockUtilities mock = new MockUtilities();
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MeasuredDriver(mock.getDriverAdapter(), metrics);
+    WebElement child = mock(WebElement.class);
+    when(mock.getWebDriverMock().findElement(By.cssSelector("css")))
+        .thenReturn(mock.getWebElementMock());
+    when(mock.getWebElementMock().findElements(By.cssSelector("child")))
+        .thenReturn(Collections.singletonList(child));
+    Element element = driver.findElement(LocatorBy.byCss("css"), EXISTING);
+    element.findElements(LocatorBy.byCss("child"), NULLABLE).get(0).click();
+    element.getText();
+    element.focus();
+    Map<String, CommandStatistics> statistics = getStatistics(metrics);
+    assertThat(statistics.keySet(), containsInAnyOrder(
+        "findElement ByCssSelector",
+        "findElements ByCssSelector",
+        "click",
+        "getText",
+        getScriptCommand("arguments[0].focus();")));
+    verify(child).click();
+  }
+
+  @Test
+  public void testWithinFrameSwitchesAreRecorded() {
+    MockUtilities mock = new MockUtilities();
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MeasuredDriver(mock.getDriverAdapter(), metrics);
+    assertThat(driver.withinFrame(mock.getElementAdapter(), driver::getUrl), is(nullValue()));
+    expectThrows(IllegalStateException.class,
+        () -> driver.withinFrame(mock.getElementAdapter(), () -> {
+          throw new IllegalStateException();
+        }));
+    TargetLocator targetLocator = mock.getWebDriverMock().switchTo();
+    doThrow(NoSuchFrameException.class).when(targetLocator).frame(mock.getWebElementMock());
+    expectThrows(NoSuchFrameException.class,
+        () -> driver.withinFrame(mock.getElementAdapter(), () -> true));
+    Map<String, CommandStatistics> statistics = getStatistics(metrics);
+    assertThat(statistics.keySet(), containsInAnyOrder("withinFrame", "getUrl"));
+    CommandStatistics withinFrame = statistics.get("withinFrame");
+    assertThat(withinFrame.getCount(), is(3L));
+    // failed action is not a failed frame switch
+    assertThat(withinFrame.getFailures(), is(1L));
+  }
+
+  @Test
+  public void testWebIsNativeIsNotRecorded() {
+    MockUtilities mock = new MockUtilities();
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MeasuredDriver(mock.getDriverAdapter(), metrics);
+    assertThat(driver.isNative(), is(false));
+    assertThat(metrics.getCommands(), is(empty()));
+  }
+
+  @Test
+  public void testLongScriptCommandName() {
+    String script = "return document.querySelector('a very long selector that is longer than limit');";
+    String command = getScriptCommand(script);
+    assertThat(command, containsString("..."));
+    assertThat(command, is(not(equalTo(getScriptCommand(script + " ")))));
+  }
+
+  @Test
+  public void testUnwrappedDriverIsUsedByElements() {
+    MockUtilities mock = new MockUtilities();
+    Driver driver = new MeasuredDriver(new MeasuredDriver(mock.getDriverAdapter()));
+    assertThat(MeasuredDriver.getUnwrapped(driver), is(sameInstance(mock.getDriverAdapter())));
+    assertThat(MeasuredDriver.getUnwrapped(mock.getDriverAdapter()),
+        is(sameInstance(mock.getDriverAdapter())));
+  }
+
+  @Test
+  public void testFactoryMeasuresDriverWhenEnabled() {
+    MockUtilities mock = new MockUtilities();
+    UtamLoaderConfig config = new UtamLoaderConfigImpl();
+    assertThat(new PageObjectsFactoryImpl(config, mock.getDriverAdapter()).getDriver(),
+        is(sameInstance(mock.getDriverAdapter())));
+    config.setDriverMetricsEnabled(true);
+    assertThat(config.isDriverMetricsEnabled(), is(true));
+    assertThat(new PageObjectsFactoryImpl(config, mock.getDriverAdapter()).getDriver(),
+        is(instanceOf(MeasuredDriver.class)));
+  }
+
+  @Test
+  public void testSubmitWithSyncDriver() {
+    Driver syncDriver = mock(Driver.class);
+    MeasuredDriver driver = new MeasuredDriver(syncDriver, new DriverMetrics());
+    assertThat(AsyncDriver.await(driver.submit(() -> true)), is(true));
+    driver.exitToParentFrame();
+    verify(syncDriver).exitToParentFrame();
+  }
+}
@@ -7,15 +7,24 @@
  */
 package utam.core.framework.base;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.expectThrows;
 
+import java.util.Collections;
+import java.util.function.Supplier;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.testng.annotations.Test;
 import utam.core.MockUtilities;
+import utam.core.driver.Driver;
 import utam.core.element.Actionable;
 import utam.core.element.Clickable;
+import utam.core.framework.consumer.PageObjectContextImpl;
 
 /**
  * @author elizaveta.ivanova
@@ -34,8 +43,51 @@ public class BasePageObjectTests {
     element.isPresent();
   }
 
+  @Test
+  public void testReadInBatchReturnsValuesInOrder() {
+    TestBatchPageObject pageObject = new MockUtilities().getFactory()
+        .create(TestBatchPageObject.class);
+    Object[] values = pageObject.read(() -> "text", () -> Boolean.TRUE, () -> 1);
+    assertThat(values, is(arrayContaining("text", Boolean.TRUE, 1)));
+  }
+
+  @Test
+  public void testReadInBatchThrowsFirstError() {
+    TestBatchPageObject pageObject = new MockUtilities().getFactory()
+        .create(TestBatchPageObject.class);
+    RuntimeException first = new IllegalStateException("first");
+    RuntimeException e = expectThrows(RuntimeException.class, () -> pageObject.read(
+        () -> "text",
+        () -> {
+          throw first;
+        },
+        () -> {
+          throw new IllegalArgumentException("second");
+        }));
+    assertThat(e, is(sameInstance(first)));
+  }
+
+  @Test
+  public void testReadInBatchWithoutAsyncDriver() {
+    Driver driver = mock(Driver.class);
+    PageObjectsFactory factory = new PageObjectsFactoryImpl(
+        new PageObjectContextImpl(Collections.emptyMap()), "", driver);
+    TestBatchPageObject pageObject = factory.create(TestBatchPageObject.class);
+    Thread current = Thread.currentThread();
+    Object[] values = pageObject.read(Thread::currentThread, Thread::currentThread);
+    assertThat(values, is(arrayContaining(current, current)));
+  }
+
   interface UnionType extends Actionable, Clickable { }
 
+  @PageMarker.Find(css = "root")
+  public static class TestBatchPageObject extends BaseRootPageObject {
+
+    Object[] read(Supplier<?>... reads) {
+      return readInBatch(reads);
+    }
+  }
+
   @PageMarker.Find(css = "root")
   public static class TestProxyPageObject extends BaseRootPageObject {
 
@@ -11,12 +11,15 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.testng.Assert.expectThrows;
 import static utam.core.framework.consumer.PageObjectContextImpl.ERR_GET_CLASS_BY_NAME;
 import static utam.core.framework.consumer.PageObjectContextImpl.ERR_GET_INSTANCE_BY_NAME;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import org.testng.annotations.Test;
 import utam.core.framework.base.BasePageObject;
 import utam.core.framework.base.PageObject;
@@ -57,6 +60,24 @@ public class PageObjectContextTests {
         String.format(ERR_GET_INSTANCE_BY_NAME, PageObjectWithoutImplementation.class.getName()))));
   }
 
+  @Test
+  public void testBeansAreCopied() {
+    Map<Class<? extends PageObject>, Class> beans = new HashMap<>();
+    PageObjectContext context = new PageObjectContextImpl(beans);
+    beans.put(TestLoaderConfigPageObject.class, TestLoaderConfigPageObjectOverride.class);
+    assertThat(context.getBean(TestLoaderConfigPageObject.class),
+        is(instanceOf(TestLoaderConfigPageObjectImpl.class)));
+  }
+
+  @Test
+  public void testBeanIsNewInstance() {
+    PageObjectContext context = new PageObjectContextImpl(Collections
+        .singletonMap(TestLoaderConfigPageObject.class, TestLoaderConfigPageObjectOverride.class));
+    PageObject pageObject = context.getBean(TestLoaderConfigPageObject.class);
+    assertThat(pageObject, is(instanceOf(TestLoaderConfigPageObjectOverride.class)));
+    assertThat(context.getBean(TestLoaderConfigPageObject.class), is(not(sameInstance(pageObject))));
+  }
+
   interface PageObjectWithoutImplementation extends PageObject {
 
   }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.testng.Assert.expectThrows;
+import static utam.core.framework.consumer.SharedArchiveTrainer.DUMP_COMMAND;
+import static utam.core.framework.consumer.SharedArchiveTrainer.ERR_UNKNOWN_COMMAND;
+import static utam.core.framework.consumer.SharedArchiveTrainer.TRAIN_COMMAND;
+import static utam.core.framework.consumer.SharedArchiveTrainer.getClassListName;
+import static utam.core.framework.consumer.SharedArchiveTrainer.getClassNames;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.annotations.Test;
+import utam.core.framework.UtamCoreError;
+import utam.core.framework.consumer.impl.TestLoaderConfigPageObjectImpl;
+
+public class SharedArchiveTrainerTests {
+
+  private static final String TEST_MODULE = "trainer";
+
+  @Test
+  public void testClassListName() {
+    assertThat(getClassListName(null), is(equalTo("utam.classlist")));
+    assertThat(getClassListName(""), is(equalTo("utam.classlist")));
+    assertThat(getClassListName("module"), is(equalTo("module.classlist")));
+  }
+
+  @Test
+  public void testGetClassNames() {
+    List<String> classNames = getClassNames(getClass().getClassLoader(),
+        Arrays.asList(TEST_MODULE, "missing"));
+    assertThat(classNames, contains(TestLoaderConfigPageObject.class.getName(),
+        TestLoaderConfigPageObjectImpl.class.getName()));
+  }
+
+  @Test
+  public void testTrainBootstrapsImplementations() {
+    List<String> classNames = getClassNames(getClass().getClassLoader(),
+        Collections.singletonList(TEST_MODULE));
+    assertThat(SharedArchiveTrainer.train(new UtamLoaderConfigImpl(), classNames),
+        is(equalTo(1)));
+  }
+
+  @Test
+  public void testTrainCommand() throws Exception {
+    SharedArchiveTrainer.main(new String[]{TRAIN_COMMAND, TEST_MODULE});
+    UtamCoreError e = expectThrows(UtamCoreError.class,
+        () -> SharedArchiveTrainer.main(new String[]{DUMP_COMMAND}));
+    assertThat(e.getMessage(),
+        is(equalTo(String.format(ERR_UNKNOWN_COMMAND, TRAIN_COMMAND, DUMP_COMMAND))));
+  }
+}
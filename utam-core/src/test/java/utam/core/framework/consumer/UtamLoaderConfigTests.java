@@ -13,7 +13,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.testng.Assert.expectThrows;
 import static utam.core.framework.consumer.UtamLoaderConfigImpl.ERR_DUPLICATE_PROFILE;
 import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
@@ -21,6 +23,7 @@ import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
 import java.io.File;
 import java.time.Duration;
 import org.testng.annotations.Test;
+import utam.core.driver.DriverConfig;
 import utam.core.framework.base.PageObject;
 import utam.core.framework.context.Profile;
 import utam.core.framework.context.StringValueProfile;
@@ -142,4 +145,40 @@ public class UtamLoaderConfigTests {
         () -> context.getBean(TestLoaderConfigDefault.class));
     assertThat(e.getMessage(), containsString("can't find class"));
   }
+
+  @Test
+  public void testPageContextIsBuiltOnceUntilProfileChanges() {
+    UtamLoaderConfigImpl config = getDefaultConfig();
+    PageObjectContext context = config.getPageContext();
+    assertThat(config.getPageContext(), is(sameInstance(context)));
+    config.setProfile(new StringValueProfile("test", "profiles"));
+    PageObjectContext profileContext = config.getPageContext();
+    assertThat(profileContext, is(not(sameInstance(context))));
+    assertThat(config.getPageContext(), is(sameInstance(profileContext)));
+    config.setConfiguredProfile("module", new StringValueProfile("test", "profiles"));
+    assertThat(config.getPageContext(), is(not(sameInstance(profileContext))));
+  }
+
+  @Test
+  public void testPageContextIsResetBySettingConfiguredProfile() {
+    // profile from JSON config is configured for all modules in constructor
+    UtamLoaderConfig config = new UtamLoaderConfigImpl("module.loader.json");
+    PageObjectContext context = config.getPageContext();
+    config.setProfile(new StringValueProfile("platform", "ios"));
+    assertThat(config.getPageContext(), is(not(sameInstance(context))));
+  }
+
+  @Test
+  public void testDriverConfigIsNotChangedBySetters() {
+    UtamLoaderConfig config = getDefaultConfig();
+    DriverConfig driverConfig = config.getDriverConfig();
+    assertThat(config.getDriverConfig(), is(sameInstance(driverConfig)));
+    config.setImplicitTimeout(Duration.ofSeconds(1));
+    assertThat(driverConfig.getImplicitTimeout(), is(Duration.ZERO));
+    assertThat(config.getDriverConfig().getImplicitTimeout(), is(Duration.ofSeconds(1)));
+    assertThat(config.getDriverConfig().getExplicitTimeout(),
+        is(driverConfig.getExplicitTimeout()));
+    assertThat(config.getDriverConfig().getPollingInterval(),
+        is(driverConfig.getPollingInterval()));
+  }
 }
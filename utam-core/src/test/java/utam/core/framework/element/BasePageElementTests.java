@@ -12,8 +12,10 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -238,6 +240,65 @@ public class BasePageElementTests {
     verify(mock.getElementAdapter(), times(1)).setText(text);
   }
 
+  @Test
+  public void testInjectText() {
+    String text = "text";
+    MockUtilities mock = new MockUtilities.MockAdapter();
+    when(mock.getElementAdapter().injectText(text, false)).thenReturn(true);
+    mock.getUtamElement().injectText(text);
+    verify(mock.getElementAdapter(), times(1)).injectText(text, false);
+    verify(mock.getElementAdapter(), times(0)).setText(any());
+  }
+
+  @Test
+  public void testInjectTextFallsBackToTyping() {
+    String text = "text";
+    MockUtilities mock = new MockUtilities.MockAdapter();
+    when(mock.getElementAdapter().injectText(text, false)).thenReturn(false);
+    mock.getUtamElement().injectText(text);
+    verify(mock.getElementAdapter(), times(1)).clear();
+    verify(mock.getElementAdapter(), times(1)).setText(text);
+  }
+
+  @Test
+  public void testDefaultInjectTextTypesText() {
+    Element element = mock(ElementWithDefaults.class);
+    doCallRealMethod().when(element).injectText(any(), anyBoolean());
+    assertThat(element.injectText("text", false), is(true));
+    verify(element, times(1)).clear();
+    verify(element, times(1)).setText("text");
+    assertThat(element.injectText("more", true), is(true));
+    verify(element, times(1)).clear();
+    verify(element, times(1)).setText("more");
+  }
+
+  @Test
+  public void testClearAndTypeWithTextInjection() {
+    MockUtilities mock = new MockUtilities.MockAdapter();
+    BasePageElement element = BasePageElement
+        .createInstance(BasePageElement.class, mock.getElementAdapter(), mock.getFactory(), true);
+    when(mock.getElementAdapter().injectText("tex", false)).thenReturn(true);
+    element.clearAndType("text");
+    verify(mock.getElementAdapter(), times(0)).clear();
+    verify(mock.getElementAdapter(), times(1)).injectText("tex", false);
+    verify(mock.getElementAdapter(), times(1)).setText("t");
+  }
+
+  @Test
+  public void testSetTextWithTextInjection() {
+    MockUtilities mock = new MockUtilities.MockAdapter();
+    BasePageElement element = BasePageElement
+        .createInstance(BasePageElement.class, mock.getElementAdapter(), mock.getFactory(), true);
+    when(mock.getElementAdapter().injectText("tex", true)).thenReturn(true);
+    element.setText("text");
+    verify(mock.getElementAdapter(), times(1)).injectText("tex", true);
+    verify(mock.getElementAdapter(), times(1)).setText("t");
+    // single character is only typed
+    element.setText("x");
+    verify(mock.getElementAdapter(), times(1)).setText("x");
+    verify(mock.getElementAdapter(), times(0)).injectText("", true);
+  }
+
   @Test
   public void testPress() {
     MockUtilities mock = new MockUtilities();
@@ -290,4 +351,8 @@ public class BasePageElementTests {
     mock.getUtamElement().dragAndDropByOffset(1, 2);
     mock.getUtamElement().dragAndDropByOffset(1, 2, 1);
   }
+
+  // abstract class to call default methods of the interface from a mock
+  static abstract class ElementWithDefaults implements Element {
+  }
 }
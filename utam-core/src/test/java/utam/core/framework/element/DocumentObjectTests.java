@@ -10,6 +10,9 @@ package utam.core.framework.element;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.expectThrows;
@@ -17,6 +20,7 @@ import static utam.core.framework.element.DocumentObject.ERR_CANT_ENTER_NULL_FRA
 
 import java.util.Collections;
 import org.openqa.selenium.By;
+import org.mockito.InOrder;
 import org.openqa.selenium.WebElement;
 import org.testng.annotations.Test;
 import utam.core.MockUtilities;
@@ -103,6 +107,27 @@ public class DocumentObjectTests {
     document.exitFrame();
   }
 
+  @Test
+  public void testWithinFrame() {
+    MockUtilities mock = new MockUtilities();
+    Document document = mock.getDocument();
+    FrameElement frameElement = mock.getFrameElement();
+    assertThat(document.withinFrame(frameElement, () -> true), is(true));
+    UtamError e = expectThrows(UtamError.class, () -> document.withinFrame(null, () -> true));
+    assertThat(e.getMessage(), is(equalTo(ERR_CANT_ENTER_NULL_FRAME)));
+  }
+
+  @Test
+  public void testDefaultWithinFrame() {
+    Document document = mock(DocumentWithDefaults.class);
+    FrameElement frame = mock(FrameElement.class);
+    doCallRealMethod().when(document).withinFrame(any(), any());
+    assertThat(document.withinFrame(frame, () -> true), is(true));
+    InOrder order = inOrder(document);
+    order.verify(document).enterFrame(frame);
+    order.verify(document).exitToParentFrame();
+  }
+
   @Test
   public void testEnterFrameAndLoad() {
     MockUtilities mock = new MockUtilities();
@@ -130,4 +155,8 @@ public class DocumentObjectTests {
     // has to be public for reflection to create instance
     public TestContains() {}
   }
-}
\ No newline at end of file
+
+  // abstract class to call default methods of the interface from a mock
+  static abstract class DocumentWithDefaults implements Document {
+  }
+}
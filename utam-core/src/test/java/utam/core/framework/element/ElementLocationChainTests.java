@@ -9,12 +9,17 @@ package utam.core.framework.element;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Map.Entry;
 import org.testng.annotations.Test;
 import utam.core.element.Element;
+import utam.core.element.ElementLocation;
 import utam.core.element.FindContext.Type;
+import utam.core.element.Locator;
 import utam.core.selenium.element.LocatorBy;
 
 /**
@@ -33,4 +38,73 @@ public class ElementLocationChainTests {
             .scope(LocatorBy.byCss("css2"), Type.EXISTING_IN_SHADOW).getLocatorChainString(),
         is(equalTo("driver > By.cssSelector: css1 >> By.cssSelector: css2")));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSetParameters() {
+    ElementLocationChain chain = new ElementLocationChain(LocatorBy.byCss("a[title='%s']"),
+        Type.EXISTING);
+    ElementLocation location = chain
+        .scope(LocatorBy.byCss("b"), Type.EXISTING)
+        .scope(LocatorBy.byCss("c:nth-child(%d)"), Type.EXISTING_IN_SHADOW)
+        .scope(LocatorBy.byCss("d[%s]"), Type.EXISTING);
+    assertThat(location.setParameters("x", 1, "y").getLocatorChainString(),
+        is(equalTo("driver > By.cssSelector: a[title='x'] > By.cssSelector: b"
+            + " >> By.cssSelector: c:nth-child(1) > By.cssSelector: d[y]")));
+  }
+
+  @Test
+  public void testSetParametersWithoutParametersInSelectors() {
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css"), Type.EXISTING);
+    assertThat(location.setParameters("x"), is(sameInstance(location)));
+    assertThat(location.setParameters(), is(sameInstance(location)));
+  }
+
+  @Test
+  public void testSetParametersWithLocatorOverridingOnlySetParameters() {
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("a[title='%s']"),
+        Type.EXISTING)
+        .scope(new CustomLocator("b[title='%s']"), Type.EXISTING);
+    assertThat(location.setParameters("x", "y").getLocatorChainString(),
+        is(equalTo("driver > By.cssSelector: a[title='x'] > b[title='y']")));
+  }
+
+  @Test
+  public void testScopeDoesNotChangeParent() {
+    ElementLocation parent = new ElementLocationChain(LocatorBy.byCss("parent"), Type.EXISTING);
+    ElementLocation first = parent.scope(LocatorBy.byCss("first"), Type.NULLABLE);
+    ElementLocation second = parent.scope(LocatorBy.byCss("second"), Type.EXISTING_IN_SHADOW);
+    assertThat(parent.getLocatorChainString(), is(equalTo("driver > By.cssSelector: parent")));
+    assertThat(first.getLocatorChainString(),
+        is(equalTo("driver > By.cssSelector: parent > By.cssSelector: first")));
+    assertThat(first.isNullable(), is(true));
+    assertThat(second.getLocatorChainString(),
+        is(equalTo("driver > By.cssSelector: parent >> By.cssSelector: second")));
+    assertThat(second.isNullable(), is(false));
+  }
+
+  // implements only methods that existed before parameters count was added to the interface
+  private static class CustomLocator implements Locator<String> {
+
+    private final String value;
+
+    CustomLocator(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public Entry<Integer, Locator<String>> setParameters(int currentIndex, Object... values) {
+      return new SimpleEntry<>(currentIndex + 1,
+          new CustomLocator(String.format(value, values[currentIndex])));
+    }
+
+    @Override
+    public Locator getCopy() {
+      return new CustomLocator(value);
+    }
+  }
+}
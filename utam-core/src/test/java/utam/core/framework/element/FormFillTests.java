@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.element;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.expectThrows;
+import static utam.core.framework.element.BasePageElement.createInstance;
+import static utam.core.framework.element.FormFill.ERR_CANT_SELECT;
+import static utam.core.framework.element.FormFill.ERR_NOT_PAGE_ELEMENT;
+import static utam.core.framework.element.FormFill.FILL_FORM_JAVASCRIPT;
+
+import io.appium.java_client.AppiumDriver;
+import java.util.Arrays;
+import java.util.Collections;
+import org.mockito.InOrder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+import utam.core.MockUtilities;
+import utam.core.element.Actionable;
+import utam.core.element.BasicElement;
+import utam.core.framework.UtamCoreError;
+import utam.core.selenium.element.ElementAdapter;
+
+/**
+ * @since 236
+ */
+public class FormFillTests {
+
+  private static BasicElement getField(MockUtilities mock, WebElement webElement) {
+    return createInstance(BasePageElement.class,
+        new ElementAdapter(webElement, mock.getDriverAdapter()), mock.getFactory());
+  }
+
+  @Test
+  public void testActionsAreSentWithOneScript() {
+    MockUtilities mock = new MockUtilities();
+    WebElement first = mock(WebElement.class);
+    WebElement second = mock(WebElement.class);
+    WebElement third = mock(WebElement.class);
+    mock.getDocument().fillForm()
+        .setText(getField(mock, first), "text")
+        .clear(getField(mock, second))
+        .select(getField(mock, third), "option")
+        .apply();
+    verify(mock.getExecutorMock()).executeScript(FILL_FORM_JAVASCRIPT,
+        Arrays.asList("text", "clear", "select"), Arrays.asList("text", "", "option"),
+        first, second, third);
+    verify(first, never()).sendKeys(any());
+    verify(second, never()).clear();
+  }
+
+  @Test
+  public void testFailedFieldIsTyped() {
+    MockUtilities mock = new MockUtilities();
+    WebElement typed = mock(WebElement.class);
+    WebElement masked = mock(WebElement.class);
+    JavascriptExecutor executor = mock.getExecutorMock();
+    when(executor.executeScript(FILL_FORM_JAVASCRIPT, Arrays.asList("text", "text"),
+        Arrays.asList("one", "two"), typed, masked)).thenReturn(1L);
+    mock.getDocument().fillForm()
+        .setText(getField(mock, typed), "one")
+        .setText(getField(mock, masked), "two")
+        .apply();
+    verify(typed, never()).sendKeys(any());
+    verify(masked).clear();
+    verify(masked).sendKeys("two");
+  }
+
+  @Test
+  public void testFieldsAfterFailedFieldAreSentAfterItIsTyped() {
+    MockUtilities mock = new MockUtilities();
+    WebElement first = mock(WebElement.class);
+    WebElement disabled = mock(WebElement.class);
+    WebElement last = mock(WebElement.class);
+    JavascriptExecutor executor = mock.getExecutorMock();
+    when(executor.executeScript(FILL_FORM_JAVASCRIPT, Arrays.asList("text", "text", "text"),
+        Arrays.asList("one", "two", "three"), first, disabled, last)).thenReturn(1L);
+    mock.getDocument().fillForm()
+        .setText(getField(mock, first), "one")
+        .setText(getField(mock, disabled), "two")
+        .setText(getField(mock, last), "three")
+        .apply();
+    InOrder order = inOrder(executor, disabled);
+    order.verify(executor).executeScript(FILL_FORM_JAVASCRIPT,
+        Arrays.asList("text", "text", "text"), Arrays.asList("one", "two", "three"),
+        first, disabled, last);
+    order.verify(disabled).clear();
+    order.verify(disabled).sendKeys("two");
+    order.verify(executor).executeScript(FILL_FORM_JAVASCRIPT,
+        Collections.singletonList("text"), Collections.singletonList("three"), last);
+    verify(last, never()).sendKeys(any());
+  }
+
+  @Test
+  public void testFormWithoutDriverTypesEveryField() {
+    MockUtilities mock = new MockUtilities();
+    WebElement first = mock(WebElement.class);
+    WebElement second = mock(WebElement.class);
+    new FormFill()
+        .setText(getField(mock, first), "one")
+        .clear(getField(mock, second))
+        .apply();
+    verify(first).clear();
+    verify(first).sendKeys("one");
+    verify(second).clear();
+    verifyZeroInteractions(mock.getExecutorMock());
+  }
+
+  @Test
+  public void testFailedSelectThrows() {
+    MockUtilities mock = new MockUtilities();
+    WebElement select = mock(WebElement.class);
+    when(mock.getExecutorMock().executeScript(FILL_FORM_JAVASCRIPT,
+        Collections.singletonList("select"), Collections.singletonList("missing"), select))
+        .thenReturn(0L);
+    FormFill form = mock.getDocument().fillForm().select(getField(mock, select), "missing");
+    UtamCoreError e = expectThrows(UtamCoreError.class, form::apply);
+    assertThat(e.getMessage(), is(equalTo(String.format(ERR_CANT_SELECT, "missing"))));
+  }
+
+  @Test
+  public void testTypedFieldSplitsScripts() {
+    MockUtilities mock = new MockUtilities();
+    WebElement first = mock(WebElement.class);
+    WebElement masked = mock(WebElement.class);
+    WebElement last = mock(WebElement.class);
+    JavascriptExecutor executor = mock.getExecutorMock();
+    mock.getDocument().fillForm()
+        .setText(getField(mock, first), "one")
+        .typeText(getField(mock, masked), "two")
+        .setText(getField(mock, last), "three")
+        .apply();
+    InOrder order = inOrder(executor, masked);
+    order.verify(executor).executeScript(FILL_FORM_JAVASCRIPT,
+        Collections.singletonList("text"), Collections.singletonList("one"), first);
+    order.verify(masked).clear();
+    order.verify(masked).sendKeys("two");
+    order.verify(executor).executeScript(FILL_FORM_JAVASCRIPT,
+        Collections.singletonList("text"), Collections.singletonList("three"), last);
+  }
+
+  @Test
+  public void testNativeContextTypesEveryField() {
+    MockUtilities mock = new MockUtilities(AppiumDriver.class);
+    when(mock.getAppiumDriverMock().getContext()).thenReturn("NATIVE_APP");
+    WebElement first = mock(WebElement.class);
+    WebElement second = mock(WebElement.class);
+    mock.getDocument().fillForm()
+        .setText(getField(mock, first), "one")
+        .clear(getField(mock, second))
+        .apply();
+    verify(first).clear();
+    verify(first).sendKeys("one");
+    verify(second).clear();
+    verify(second, never()).sendKeys(any());
+    verify(mock.getExecutorMock(), never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void testAppliedActionsAreNotRepeated() {
+    MockUtilities mock = new MockUtilities();
+    WebElement field = mock(WebElement.class);
+    FormFill form = mock.getDocument().fillForm().typeText(getField(mock, field), "text");
+    form.apply();
+    form.apply();
+    verify(field).sendKeys("text");
+    verifyZeroInteractions(mock.getExecutorMock());
+  }
+
+  @Test
+  public void testNotPageElementThrows() {
+    MockUtilities mock = new MockUtilities();
+    Actionable element = mock(Actionable.class);
+    UtamCoreError e = expectThrows(UtamCoreError.class,
+        () -> mock.getDocument().fillForm().setText(element, "text"));
+    assertThat(e.getMessage(), is(equalTo(String.format(ERR_NOT_PAGE_ELEMENT, element))));
+  }
+}
@@ -29,6 +29,9 @@ import io.appium.java_client.AppiumDriver;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -439,6 +442,79 @@ public class MobileDriverAdapterTests {
         Matchers.is(equalTo(testWindowHandle)));
   }
 
+  /**
+   * Switching again to the web view that driver is already in only checks its title
+   */
+  @Test
+  public void testSwitchToCurrentWebViewIsElided() {
+    WebViewStandIn standIn = new WebViewStandIn();
+    MobileDriverAdapter adapter = standIn.mock.getMobileDriverAdapter();
+    adapter.setPageContextToWebView(DEFAULT_WEBVIEW_TITLE);
+    assertThat(standIn.currentContext, is(equalTo(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_2")));
+    verify(standIn.driver, times(2)).getContextHandles();
+    adapter.setPageContextToWebView(DEFAULT_WEBVIEW_TITLE);
+    adapter.setPageContextToWebView(DEFAULT_WEBVIEW_TITLE.toUpperCase());
+    verify(standIn.driver, times(2)).getContextHandles();
+    verify(standIn.driver, times(1)).context(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_2");
+  }
+
+  /**
+   * Switching back to a known web view uses remembered context handle
+   */
+  @Test
+  public void testSwitchToIndexedWebView() {
+    WebViewStandIn standIn = new WebViewStandIn();
+    MobileDriverAdapter adapter = standIn.mock.getMobileDriverAdapter();
+    adapter.setPageContextToWebView(DEFAULT_WEBVIEW_TITLE);
+    adapter.setPageContextToNative();
+    assertThat(standIn.currentContext, is(equalTo(NATIVE_CONTEXT_HANDLE)));
+    adapter.setPageContextToWebView(DEFAULT_APP_CONTEXT_TITLE);
+    assertThat(standIn.currentContext, is(equalTo(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_1")));
+    verify(standIn.driver, times(2)).getContextHandles();
+    // first time visited while walking all handles
+    verify(standIn.driver, times(2)).context(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_1");
+  }
+
+  /**
+   * When web view title changed, all context handles are walked again
+   */
+  @Test
+  public void testSwitchToWebViewRefreshesStaleIndex() {
+    WebViewStandIn standIn = new WebViewStandIn();
+    MobileDriverAdapter adapter = standIn.mock.getMobileDriverAdapter();
+    adapter.setPageContextToWebView(DEFAULT_WEBVIEW_TITLE);
+    standIn.titles.put(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_1", "New Title");
+    standIn.titles.put(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_2", DEFAULT_APP_CONTEXT_TITLE);
+    adapter.setPageContextToWebView(DEFAULT_APP_CONTEXT_TITLE);
+    assertThat(standIn.currentContext, is(equalTo(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_2")));
+    verify(standIn.driver, times(4)).getContextHandles();
+    adapter.invalidateWebViewIndex();
+    adapter.setPageContextToWebView(DEFAULT_APP_CONTEXT_TITLE);
+    verify(standIn.driver, times(6)).getContextHandles();
+  }
+
+  // stateful stand-in for Appium context commands
+  private static class WebViewStandIn {
+
+    private final MockUtilities mock = new MockUtilities(AppiumDriver.class);
+    private final AppiumDriver driver = mock.getAppiumDriverMock();
+    private final Map<String, String> titles = new LinkedHashMap<>();
+    private String currentContext = NATIVE_CONTEXT_HANDLE;
+
+    WebViewStandIn() {
+      titles.put(NATIVE_CONTEXT_HANDLE, "");
+      titles.put(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_1", DEFAULT_APP_CONTEXT_TITLE);
+      titles.put(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_2", DEFAULT_WEBVIEW_TITLE);
+      when(driver.getContextHandles()).then(arg -> new LinkedHashSet<>(titles.keySet()));
+      when(driver.getContext()).then(arg -> currentContext);
+      when(driver.getTitle()).then(arg -> titles.get(currentContext));
+      when(driver.context(anyString())).then(arg -> {
+        currentContext = arg.getArgument(0);
+        return driver;
+      });
+    }
+  }
+
   private static class ContextTracker {
 
     private String currentContext;
@@ -7,13 +7,28 @@
  */
 package utam.core.selenium.appium;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static utam.core.selenium.appium.MobileDriverAdapter.NATIVE_CONTEXT_HANDLE;
+import static utam.core.selenium.appium.MobileDriverAdapter.WEBVIEW_CONTEXT_HANDLE_PREFIX;
+import static utam.core.selenium.appium.MobileDriverUtils.WEB_VIEW_GEOMETRY_JAVASCRIPT;
 
+import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
+import java.util.Arrays;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.Window;
+import org.openqa.selenium.WebElement;
 import org.testng.annotations.Test;
 import utam.core.MockUtilities;
 
@@ -48,4 +63,41 @@ public class MobileElementAdapterTests {
     when(mock.getAppiumDriverMock().getContext()).thenReturn(title);
     mock.getElementAdapter().flick(1, 1);
   }
+
+  @Test
+  public void testFlickCoordinatesFetchWebViewGeometryOnce() {
+    MockUtilities mock = new MockUtilities(AndroidDriver.class);
+    AppiumDriver driver = mock.getAppiumDriverMock();
+    WebElement webView = mock(WebElement.class);
+    when(mock.getMobileDriverAdapter().getWebViewElement()).thenReturn(webView);
+    when(webView.getRect()).thenReturn(new Rectangle(0, 50, 2000, 1000));
+    when(driver.getContext()).thenReturn(WEBVIEW_CONTEXT_HANDLE_PREFIX + "_1");
+    when(driver.executeScript(WEB_VIEW_GEOMETRY_JAVASCRIPT))
+        .thenReturn(Arrays.asList(100L, 200L, 0L, 10.0));
+    Point[] movement = MobileDriverUtils.getFlickCoordinates(
+        mock.getMobileDriverAdapter(), new Point(10, 20), new Point(11, 30));
+    assertThat(movement, arrayContaining(new Point(90, 150), new Point(90, 180)));
+    verify(driver, times(1)).executeScript(anyString());
+    verify(driver, times(1)).getContext();
+    verify(webView, times(1)).getRect();
+    verify(webView, never()).getSize();
+    verify(webView, never()).getLocation();
+  }
+
+  @Test
+  public void testFlickCoordinatesInNativeContext() {
+    MockUtilities mock = new MockUtilities(IOSDriver.class);
+    AppiumDriver driver = mock.getAppiumDriverMock();
+    Options options = mock(Options.class);
+    Window window = mock(Window.class);
+    when(driver.manage()).thenReturn(options);
+    when(options.window()).thenReturn(window);
+    when(window.getSize()).thenReturn(new Dimension(100, 200));
+    when(driver.getContext()).thenReturn(NATIVE_CONTEXT_HANDLE);
+    Point[] movement = MobileDriverUtils.getFlickCoordinates(
+        mock.getMobileDriverAdapter(), new Point(10, 20), new Point(0, 300));
+    assertThat(movement, arrayContaining(new Point(10, 20), new Point(10, 180)));
+    verify(window, times(1)).getSize();
+    verify(driver, never()).executeScript(anyString());
+  }
 }
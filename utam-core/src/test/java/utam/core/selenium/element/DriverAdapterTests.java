@@ -14,22 +14,38 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.contains;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.expectThrows;
 import static utam.core.selenium.element.DriverAdapter.ERR_CANT_ENTER_NULL_FRAME;
+import static utam.core.selenium.element.DriverAdapter.ERR_ELEMENT_NOT_FOUND_PREFIX;
 
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InOrder;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchFrameException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
 import org.testng.annotations.Test;
 import utam.core.MockUtilities;
+import utam.core.driver.AsyncDriver;
 import utam.core.driver.Document;
 import utam.core.driver.Driver;
 import utam.core.element.Element;
@@ -64,6 +80,63 @@ public class DriverAdapterTests {
     assertThat(scriptReturnValue.toString(), is(equalTo(JAVASCRIPT_RETURN_VALUE)));
   }
 
+  @Test
+  public void testAsyncCommands() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getExecutorMock().executeScript("return 1")).thenReturn(1L);
+    when(mock.getWebDriverMock().getCurrentUrl()).thenReturn("url");
+    when(mock.getWebDriverMock().findElement(By.cssSelector("test")))
+        .thenReturn(mock.getWebElementMock());
+    when(mock.getWebElementMock().getText()).thenReturn("text");
+    when(mock.getWebElementMock().getAttribute("title")).thenReturn("title");
+    AsyncDriver driver = (AsyncDriver) mock.getDriverAdapter();
+    CompletableFuture<Object> script = driver.executeScriptAsync("return 1");
+    CompletableFuture<String> url = driver.getUrlAsync();
+    CompletableFuture<Element> element = driver.findElementAsync(LocatorBy.byCss("test"),
+        Type.EXISTING);
+    assertThat(AsyncDriver.await(script), is(equalTo(1L)));
+    assertThat(AsyncDriver.await(url), is(equalTo("url")));
+    assertThat(AsyncDriver.await(element.thenCompose(driver::getTextAsync)),
+        is(equalTo("text")));
+    assertThat(AsyncDriver.await(driver.getAttributeAsync(AsyncDriver.await(element), "title")),
+        is(equalTo("title")));
+    assertThat(AsyncDriver.await(driver.findElementsAsync(LocatorBy.byCss("not-existing"),
+        Type.NULLABLE)), is(empty()));
+  }
+
+  @Test
+  public void testAsyncCommandsRunConcurrently() {
+    AsyncDriver driver = (AsyncDriver) new MockUtilities().getDriverAdapter();
+    CountDownLatch started = new CountDownLatch(2);
+    CompletableFuture<Boolean> first = driver.submit(() -> awaitOther(started));
+    CompletableFuture<Boolean> second = driver.submit(() -> awaitOther(started));
+    // each command waits for the other one, so this deadlocks if commands are serialized
+    assertThat(AsyncDriver.await(first), is(true));
+    assertThat(AsyncDriver.await(second), is(true));
+  }
+
+  private static boolean awaitOther(CountDownLatch started) {
+    started.countDown();
+    try {
+      return started.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  public void testAsyncCommandErrorIsRethrown() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebDriverMock().findElement(By.cssSelector("not-existing")))
+        .thenThrow(new NoSuchElementException("missing"));
+    AsyncDriver driver = (AsyncDriver) mock.getDriverAdapter();
+    CompletableFuture<Element> element = driver.findElementAsync(LocatorBy.byCss("not-existing"),
+        Type.EXISTING);
+    NoSuchElementException e = expectThrows(NoSuchElementException.class,
+        () -> AsyncDriver.await(element));
+    assertThat(e.getMessage(), startsWith(ERR_ELEMENT_NOT_FOUND_PREFIX));
+  }
+
   @Test
   public void testSetPageContextToNative() {
     assertThrows(() -> new MockUtilities().getDriverAdapter().setPageContextToNative());
@@ -150,4 +223,106 @@ public class DriverAdapterTests {
     MockUtilities mock = new MockUtilities();
     mock.getDriverAdapter().exitFrame();
   }
+
+  @Test
+  public void testFrameExitsAtTopLevelAreElided() {
+    MockUtilities mock = new MockUtilities();
+    TargetLocator targetLocator = mock.getWebDriverMock().switchTo();
+    mock.getDriverAdapter().exitFrame();
+    mock.getDriverAdapter().exitToParentFrame();
+    verify(targetLocator, never()).defaultContent();
+    verify(targetLocator, never()).parentFrame();
+  }
+
+  @Test
+  public void testFrameSwitchesAfterSeleniumDriverIsUsedAreNotElided() {
+    MockUtilities mock = new MockUtilities();
+    TargetLocator targetLocator = mock.getWebDriverMock().switchTo();
+    DriverAdapter driver = (DriverAdapter) mock.getDriverAdapter();
+    driver.enterFrame(mock.getElementAdapter());
+    driver.getSeleniumDriver().switchTo().defaultContent();
+    driver.enterFrame(mock.getElementAdapter());
+    verify(targetLocator, times(2)).frame(mock.getWebElementMock());
+    driver.exitToParentFrame();
+    driver.exitToParentFrame();
+    verify(targetLocator, times(2)).parentFrame();
+    driver.exitFrame();
+    // frame path is known again after exit to top level document
+    driver.exitFrame();
+    verify(targetLocator, times(2)).defaultContent();
+  }
+
+  @Test
+  public void testEnterCurrentFrameIsElided() {
+    MockUtilities mock = new MockUtilities();
+    TargetLocator targetLocator = mock.getWebDriverMock().switchTo();
+    Driver driver = mock.getDriverAdapter();
+    driver.enterFrame(mock.getElementAdapter());
+    driver.enterFrame(mock.getElementAdapter());
+    verify(targetLocator, times(1)).frame(mock.getWebElementMock());
+    driver.exitToParentFrame();
+    driver.exitToParentFrame();
+    verify(targetLocator, times(1)).parentFrame();
+    driver.enterFrame(mock.getElementAdapter());
+    driver.exitFrame();
+    driver.exitFrame();
+    verify(targetLocator, times(1)).defaultContent();
+  }
+
+  @Test
+  public void testWithinFrame() {
+    MockUtilities mock = new MockUtilities();
+    TargetLocator targetLocator = mock.getWebDriverMock().switchTo();
+    Driver driver = mock.getDriverAdapter();
+    assertThat(driver.withinFrame(mock.getElementAdapter(), () -> true), is(true));
+    verify(targetLocator, times(1)).frame(mock.getWebElementMock());
+    verify(targetLocator, times(1)).parentFrame();
+    // already in the frame, nothing to switch or restore
+    driver.enterFrame(mock.getElementAdapter());
+    driver.withinFrame(mock.getElementAdapter(), () -> true);
+    verify(targetLocator, times(2)).frame(mock.getWebElementMock());
+    verify(targetLocator, times(1)).parentFrame();
+  }
+
+  @Test
+  public void testDefaultWithinFrame() {
+    Driver driver = mock(DriverWithDefaults.class);
+    Element frame = mock(Element.class);
+    doCallRealMethod().when(driver).withinFrame(any(), any());
+    assertThat(driver.withinFrame(frame, () -> true), is(true));
+    InOrder order = inOrder(driver);
+    order.verify(driver).enterFrame(frame);
+    order.verify(driver).exitToParentFrame();
+  }
+
+  @Test
+  public void testWithinFrameRestoresFramesAfterExit() {
+    MockUtilities mock = new MockUtilities();
+    TargetLocator targetLocator = mock.getWebDriverMock().switchTo();
+    Driver driver = mock.getDriverAdapter();
+    WebElement outerFrame = mock(WebElement.class);
+    driver.enterFrame(new ElementAdapter(outerFrame, driver));
+    driver.withinFrame(mock.getElementAdapter(), () -> {
+      driver.exitFrame();
+      return null;
+    });
+    verify(targetLocator, times(2)).frame(outerFrame);
+    verify(targetLocator, times(1)).defaultContent();
+    verify(targetLocator, never()).parentFrame();
+  }
+
+  @Test
+  public void testFailedFrameSwitchIsNotElided() {
+    MockUtilities mock = new MockUtilities();
+    TargetLocator targetLocator = mock.getWebDriverMock().switchTo();
+    Driver driver = mock.getDriverAdapter();
+    doThrow(NoSuchFrameException.class).when(targetLocator).frame(mock.getWebElementMock());
+    assertThrows(NoSuchFrameException.class, () -> driver.enterFrame(mock.getElementAdapter()));
+    driver.exitFrame();
+    verify(targetLocator, times(1)).defaultContent();
+  }
+
+  // abstract class to call default methods of the interface from a mock
+  static abstract class DriverWithDefaults implements Driver {
+  }
 }
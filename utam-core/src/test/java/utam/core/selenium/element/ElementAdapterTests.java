@@ -25,6 +25,7 @@ import static utam.core.selenium.element.ElementAdapter.BLUR_VIA_JAVASCRIPT;
 import static utam.core.selenium.element.ElementAdapter.CLICK_VIA_JAVASCRIPT;
 import static utam.core.selenium.element.ElementAdapter.ERR_NULL_ELEMENT;
 import static utam.core.selenium.element.ElementAdapter.FOCUS_VIA_JAVASCRIPT;
+import static utam.core.selenium.element.ElementAdapter.INJECT_TEXT_JAVASCRIPT;
 import static utam.core.selenium.element.ElementAdapter.SCROLL_CENTER_VIA_JAVASCRIPT;
 import static utam.core.selenium.element.ElementAdapter.SCROLL_TOP_VIA_JAVASCRIPT;
 import static utam.core.selenium.element.ElementAdapter.getNullElement;
@@ -205,6 +206,25 @@ public class ElementAdapterTests {
         .executeScript(FOCUS_VIA_JAVASCRIPT, mock.getWebElementMock());
   }
 
+  @Test
+  public void testInjectText() {
+    MockUtilities mock = new MockUtilities.MockDriver();
+    when(mock.getDriverAdapter()
+        .executeScript(INJECT_TEXT_JAVASCRIPT, mock.getWebElementMock(), "text", true))
+        .thenReturn(true);
+    assertThat(mock.getElementAdapter().injectText("text", true), is(true));
+    assertThat(mock.getElementAdapter().injectText("text", false), is(false));
+  }
+
+  @Test
+  public void testInjectTextInNativeContext() {
+    MockUtilities mock = new MockUtilities.MockDriver();
+    when(mock.getDriverAdapter().isNative()).thenReturn(true);
+    assertThat(mock.getElementAdapter().injectText("text", false), is(false));
+    verify(mock.getDriverAdapter(), times(0))
+        .executeScript(INJECT_TEXT_JAVASCRIPT, mock.getWebElementMock(), "text", false);
+  }
+
   @Test
   public void testScrollToTop() {
     MockUtilities mock = new MockUtilities.MockDriver();
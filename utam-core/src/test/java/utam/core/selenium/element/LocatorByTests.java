@@ -11,10 +11,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.testng.Assert.expectThrows;
 import static utam.core.selenium.element.LocatorBy.getParametersCount;
 
+import java.util.IllegalFormatConversionException;
+import java.util.Map.Entry;
 import org.openqa.selenium.By;
 import org.testng.annotations.Test;
+import utam.core.element.Locator;
 
 /**
  * @author elizaveta.ivanova
@@ -30,6 +35,7 @@ public class LocatorByTests {
     assertThat(getParametersCount("%s"), is(equalTo(1)));
     assertThat(getParametersCount("testString[%d]"), is(equalTo(1)));
     assertThat(getParametersCount("testString[%f]"), is(equalTo(0)));
+    assertThat(getParametersCount("%s%s"), is(equalTo(2)));
   }
 
   /**
@@ -53,4 +59,60 @@ public class LocatorByTests {
     assertThat(locator.getCopy(selectorStr), is(equalTo(locator)));
     assertThat(locator.setParameters(0, "parameters").getValue(), is(equalTo(locator)));
   }
+
+  @Test
+  public void testSetParameters() {
+    LocatorBy locator = LocatorBy.byCss("a[title='%s'] > b:nth-child(%d)");
+    assertThat(locator.getParametersCount(), is(equalTo(2)));
+    Entry<Integer, Locator<By>> withParameters = locator.setParameters(1, "skipped", "x", 2);
+    assertThat(withParameters.getKey(), is(equalTo(3)));
+    assertThat(withParameters.getValue().getValue(),
+        is(equalTo(By.cssSelector("a[title='x'] > b:nth-child(2)"))));
+    assertThat(locator.bindParameters(0, null, 2L).getStringValue(),
+        is(equalTo("a[title='null'] > b:nth-child(2)")));
+  }
+
+  @Test
+  public void testSetParametersKeepsOtherPercentSigns() {
+    LocatorBy locator = LocatorBy.byCss("[style*='50%'][title='%s']");
+    assertThat(locator.bindParameters(0, "x").getStringValue(),
+        is(equalTo("[style*='50%'][title='x']")));
+  }
+
+  @Test
+  public void testSetParametersUnescapesPercent() {
+    LocatorBy locator = LocatorBy.byCss("[style*='50%%'][title='%s']");
+    assertThat(locator.getParametersCount(), is(equalTo(1)));
+    assertThat(locator.bindParameters(0, "x").getStringValue(),
+        is(equalTo(String.format(locator.getStringValue(), "x"))));
+    // selector without parameters is not formatted
+    assertThat(LocatorBy.byCss("[style*='50%%']").getParametersCount(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testBoundLocatorIsCached() {
+    LocatorBy locator = LocatorBy.byCss("li:nth-child(%d)");
+    LocatorBy bound = locator.bindParameters(0, 1);
+    assertThat(locator.bindParameters(0, 1), is(sameInstance(bound)));
+    assertThat(locator.bindParameters(0, 2).getStringValue(), is(equalTo("li:nth-child(2)")));
+    assertThat(bound.getValue(), is(sameInstance(bound.getValue())));
+    // mutable values are not cached because their string value can change
+    StringBuilder mutable = new StringBuilder("x");
+    LocatorBy template = LocatorBy.byCss("[title='%s']");
+    assertThat(template.bindParameters(0, mutable).getStringValue(), is(equalTo("[title='x']")));
+    mutable.append("y");
+    assertThat(template.bindParameters(0, mutable).getStringValue(),
+        is(equalTo("[title='xy']")));
+  }
+
+  @Test
+  public void testSetParametersErrors() {
+    LocatorBy locator = LocatorBy.byCss("li:nth-child(%d)");
+    expectThrows(IllegalFormatConversionException.class,
+        () -> locator.bindParameters(0, "string"));
+    IndexOutOfBoundsException e = expectThrows(IndexOutOfBoundsException.class,
+        () -> locator.bindParameters(1, 1));
+    assertThat(e.getMessage(),
+        is(equalTo("index 1 is out of bounds: total number of parameters is 1")));
+  }
 }
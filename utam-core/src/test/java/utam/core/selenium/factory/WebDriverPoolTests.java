@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.selenium.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.expectThrows;
+import static utam.core.selenium.factory.WebDriverPool.BLANK_PAGE;
+import static utam.core.selenium.factory.WebDriverPool.CLEAR_STORAGE_SCRIPT;
+import static utam.core.selenium.factory.WebDriverPool.ERR_LEASE_TIMEOUT;
+import static utam.core.selenium.factory.WebDriverPool.ERR_NOT_LEASED;
+import static utam.core.selenium.factory.WebDriverPool.ERR_NO_SESSIONS;
+import static utam.core.selenium.factory.WebDriverPool.ERR_POOL_CLOSED;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.TargetLocator;
+import org.testng.annotations.Test;
+import utam.core.driver.Driver;
+import utam.core.driver.DriverConfig;
+import utam.core.framework.UtamCoreError;
+import utam.core.selenium.element.DriverAdapter;
+import utam.core.selenium.factory.WebDriverPool.SessionReset;
+
+/**
+ * @since 236
+ */
+public class WebDriverPoolTests {
+
+  private static final DriverConfig DRIVER_CONFIG = new DriverConfig(Duration.ZERO,
+      Duration.ofSeconds(1), Duration.ofMillis(10));
+  private static final Duration LEASE_TIMEOUT = Duration.ofSeconds(5);
+
+  // fake driver service: every session is a mock with one window
+  private static final class FakeSessions implements Supplier<WebDriver> {
+
+    final List<WebDriver> started = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public WebDriver get() {
+      WebDriver driver = mock(WebDriver.class,
+          withSettings().extraInterfaces(JavascriptExecutor.class));
+      when(driver.getWindowHandle()).thenReturn("main");
+      when(driver.getWindowHandles()).thenReturn(Collections.singleton("main"));
+      when(driver.manage()).thenReturn(mock(Options.class));
+      when(driver.switchTo()).thenReturn(mock(TargetLocator.class));
+      started.add(driver);
+      return driver;
+    }
+  }
+
+  private static WebDriverPool getPool(Supplier<WebDriver> sessions, int size,
+      Set<SessionReset> reset) {
+    return new WebDriverPool(sessions, size, DRIVER_CONFIG, reset, LEASE_TIMEOUT, () -> {
+    });
+  }
+
+  private static WebDriver getWebDriver(Driver driver) {
+    return ((DriverAdapter) driver).getSeleniumDriver();
+  }
+
+  @Test
+  public void testSessionsArePreWarmed() {
+    FakeSessions sessions = new FakeSessions();
+    try (WebDriverPool pool = getPool(sessions, 3, SessionReset.web())) {
+      Driver first = pool.lease();
+      Driver second = pool.lease();
+      Driver third = pool.lease();
+      assertThat(sessions.started.size(), is(3));
+      assertThat(first, is(not(sameInstance(second))));
+      assertThat(getWebDriver(first), is(not(sameInstance(getWebDriver(third)))));
+    }
+  }
+
+  @Test
+  public void testLeaseWaitsForReleasedSession() {
+    FakeSessions sessions = new FakeSessions();
+    try (WebDriverPool pool = new WebDriverPool(sessions, 1, DRIVER_CONFIG, SessionReset.web(),
+        Duration.ofMillis(100), () -> {
+    })) {
+      Driver driver = pool.lease();
+      UtamCoreError e = expectThrows(UtamCoreError.class, pool::lease);
+      assertThat(e.getMessage(), is(equalTo(String.format(ERR_LEASE_TIMEOUT, 100))));
+      pool.release(driver);
+      assertThat(getWebDriver(pool.lease()), is(sameInstance(getWebDriver(driver))));
+      assertThat(sessions.started.size(), is(1));
+    }
+  }
+
+  @Test
+  public void testReleasedSessionIsReset() {
+    FakeSessions sessions = new FakeSessions();
+    try (WebDriverPool pool = getPool(sessions, 1, SessionReset.web())) {
+      Driver driver = pool.lease();
+      WebDriver webDriver = getWebDriver(driver);
+      when(webDriver.getWindowHandles())
+          .thenReturn(new LinkedHashSet<>(Arrays.asList("popup", "main")));
+      pool.release(driver);
+      pool.lease();
+      verify(webDriver.switchTo()).window("popup");
+      verify(webDriver).close();
+      verify(webDriver.switchTo()).window("main");
+      verify((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE_SCRIPT);
+      verify(webDriver.manage()).deleteAllCookies();
+      verify(webDriver).get(BLANK_PAGE);
+    }
+  }
+
+  @Test
+  public void testSessionWithoutResetIsReused() {
+    FakeSessions sessions = new FakeSessions();
+    try (WebDriverPool pool = getPool(sessions, 1, EnumSet.noneOf(SessionReset.class))) {
+      Driver driver = pool.lease();
+      pool.release(driver);
+      assertThat(getWebDriver(pool.lease()), is(sameInstance(getWebDriver(driver))));
+    }
+  }
+
+  @Test
+  public void testBrokenSessionIsReplaced() {
+    FakeSessions sessions = new FakeSessions();
+    try (WebDriverPool pool = getPool(sessions, 1, EnumSet.noneOf(SessionReset.class))) {
+      Driver driver = pool.lease();
+      WebDriver broken = getWebDriver(driver);
+      when(broken.getWindowHandle()).thenThrow(new NoSuchSessionException("browser crashed"));
+      pool.release(driver);
+      WebDriver replacement = getWebDriver(pool.lease());
+      assertThat(replacement, is(not(sameInstance(broken))));
+      verify(broken).quit();
+      assertThat(sessions.started.size(), is(2));
+    }
+  }
+
+  @Test
+  public void testSessionThatFailedResetIsReplaced() {
+    FakeSessions sessions = new FakeSessions();
+    try (WebDriverPool pool = getPool(sessions, 1, SessionReset.web())) {
+      Driver driver = pool.lease();
+      WebDriver broken = getWebDriver(driver);
+      when(broken.getWindowHandles()).thenThrow(new NoSuchSessionException("browser crashed"));
+      pool.release(driver);
+      assertThat(getWebDriver(pool.lease()), is(not(sameInstance(broken))));
+      verify(broken).quit();
+    }
+  }
+
+  @Test
+  public void testFailedStartThrows() {
+    RuntimeException error = new RuntimeException("no browser");
+    try (WebDriverPool pool = getPool(() -> {
+      throw error;
+    }, 2, SessionReset.web())) {
+      UtamCoreError e = expectThrows(UtamCoreError.class, pool::lease);
+      assertThat(e.getMessage(), is(equalTo(ERR_NO_SESSIONS)));
+      assertThat(e.getCause(), is(sameInstance(error)));
+    }
+  }
+
+  @Test
+  public void testReleaseNotLeasedThrows() {
+    try (WebDriverPool pool = getPool(new FakeSessions(), 1, SessionReset.web())) {
+      Driver driver = mock(Driver.class);
+      UtamCoreError e = expectThrows(UtamCoreError.class, () -> pool.release(driver));
+      assertThat(e.getMessage(), is(equalTo(ERR_NOT_LEASED)));
+    }
+  }
+
+  @Test
+  public void testCloseQuitsAllSessions() {
+    FakeSessions sessions = new FakeSessions();
+    Runnable onClose = mock(Runnable.class);
+    WebDriverPool pool = new WebDriverPool(sessions, 2, DRIVER_CONFIG, SessionReset.web(),
+        LEASE_TIMEOUT, onClose);
+    Driver leased = pool.lease();
+    pool.close();
+    assertThat(sessions.started.size(), is(2));
+    for (WebDriver webDriver : sessions.started) {
+      verify(webDriver).quit();
+    }
+    verify(onClose).run();
+    // release after close is ignored
+    pool.release(leased);
+    UtamCoreError e = expectThrows(UtamCoreError.class, pool::lease);
+    assertThat(e.getMessage(), is(equalTo(ERR_POOL_CLOSED)));
+  }
+}